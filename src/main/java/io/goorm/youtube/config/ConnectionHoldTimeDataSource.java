@@ -0,0 +1,92 @@
+package io.goorm.youtube.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 커넥션을 빌린 시점부터 반납(close)까지의 시간을 db.connection.hold 타이머로 기록하는 DataSource
+ *
+ * 요청 스레드에서 빌린 커넥션은 요청 매핑 패턴(uri)과 HTTP method 로 태그를 달고,
+ * 스케줄러나 비동기 작업처럼 요청 밖에서 빌린 커넥션은 uri=BACKGROUND 로 기록합니다.
+ */
+public class ConnectionHoldTimeDataSource extends DelegatingDataSource {
+
+    private static final String METRIC_NAME = "db.connection.hold";
+    private static final String BACKGROUND = "BACKGROUND";
+    private static final String UNMAPPED = "UNMAPPED";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public ConnectionHoldTimeDataSource(DataSource targetDataSource, ObjectProvider<MeterRegistry> meterRegistry) {
+        super(targetDataSource);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return track(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return track(super.getConnection(username, password));
+    }
+
+    private Connection track(Connection connection) {
+        String[] endpoint = currentEndpoint();
+        long acquiredAt = System.nanoTime();
+        AtomicBoolean released = new AtomicBoolean();
+
+        return (Connection) Proxy.newProxyInstance(
+                ConnectionHoldTimeDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+                        record(endpoint, System.nanoTime() - acquiredAt);
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+
+    private void record(String[] endpoint, long nanos) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null) {
+            return;
+        }
+        Timer.builder(METRIC_NAME)
+                .description("JDBC 커넥션 점유 시간")
+                .tag("method", endpoint[0])
+                .tag("uri", endpoint[1])
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static String[] currentEndpoint() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return new String[]{BACKGROUND, BACKGROUND};
+        }
+        HttpServletRequest request = servletAttributes.getRequest();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return new String[]{request.getMethod(), pattern != null ? pattern.toString() : UNMAPPED};
+    }
+}
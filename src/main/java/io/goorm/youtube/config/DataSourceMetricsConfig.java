@@ -0,0 +1,31 @@
+package io.goorm.youtube.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * 커넥션 점유 시간 메트릭 설정
+ * 애플리케이션의 DataSource 를 ConnectionHoldTimeDataSource 로 감싸 엔드포인트별 커넥션 점유 시간을 기록합니다.
+ * (GET /actuator/metrics/db.connection.hold?tag=uri:/api/me/movies)
+ */
+@Configuration
+public class DataSourceMetricsConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionHoldTimeDataSourcePostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionHoldTimeDataSource)) {
+                    return new ConnectionHoldTimeDataSource(dataSource, meterRegistry);
+                }
+                return bean;
+            }
+        };
+    }
+}
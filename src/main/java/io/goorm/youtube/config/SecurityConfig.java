@@ -1,9 +1,9 @@
 package io.goorm.youtube.config;
 
 import io.goorm.youtube.security.service.jwt.JwtAccessDeniedHandler;
+import io.goorm.youtube.security.service.jwt.JwtAuthenticationCache;
 import io.goorm.youtube.security.service.jwt.JwtAuthenticationEntryPoint;
 import io.goorm.youtube.security.service.jwt.JwtFilter;
-import io.goorm.youtube.security.service.jwt.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -36,11 +36,11 @@ public class SecurityConfig {
 
     /**
      * JWT 관련 의존성 주입
-     * - tokenProvider: JWT 토큰 생성 및 검증
+     * - authenticationCache: 검증된 JWT 의 인증 정보 캐시
      * - jwtAuthenticationEntryPoint: 인증 실패 시 처리 (401)
      * - jwtAccessDeniedHandler: 인가 실패 시 처리 (403)
      */
-    private final JwtTokenProvider tokenProvider;
+    private final JwtAuthenticationCache authenticationCache;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
 
@@ -50,7 +50,11 @@ public class SecurityConfig {
     private static final String[] PUBLIC_URLS = {
             "/",
             "/api/movies",
+            "/api/movies/search",
+            "/api/movies/suggest",
             "/api/movies/{id}",
+            "/api/movies/{id}/stream",
+            "/api/images",
             "/api/auth/login",
             "/api/members",
             "/api/members/{id}/duplicate",
@@ -106,7 +110,7 @@ public class SecurityConfig {
 
                 // JWT 인증 필터 추가 (UsernamePassword 인증 필터 전에 실행)
                 .addFilterBefore(
-                        new JwtFilter(tokenProvider),
+                        new JwtFilter(authenticationCache),
                         UsernamePasswordAuthenticationFilter.class
                 )
 
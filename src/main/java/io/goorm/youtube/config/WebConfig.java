@@ -1,10 +1,18 @@
 package io.goorm.youtube.config;
 
+import io.goorm.youtube.file.MediaEtags;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
 /**
  * Web MVC 설정을 담당하는 설정 클래스
  * 정적 리소스 핸들링을 위한 설정을 정의합니다.
@@ -13,8 +21,14 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
  * WebMvcConfigurer 인터페이스를 구현하여 Spring MVC의 설정을 커스터마이징합니다.
  */
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    // 업로드 파일명은 UUID 라 같은 URL 의 내용이 바뀌지 않음 - 만료 전까지 재검증 없이 사용
+    private static final CacheControl UPLOAD_CACHE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
+    private final MediaEtags mediaEtags;
+
     /**
      * application.properties 또는 application.yml에서
      * file.upload.directory 속성 값을 주입받습니다.
@@ -23,6 +37,9 @@ public class WebConfig implements WebMvcConfigurer {
     @Value("${file.upload.directory}")
     private String uploadDirectory;
 
+    @Value("${file.upload.uri}")
+    private String uploadUri;
+
     /**
      * 정적 리소스 핸들러를 추가하는 메소드
      * WebMvcConfigurer 인터페이스의 메소드를 오버라이드합니다.
@@ -32,6 +49,8 @@ public class WebConfig implements WebMvcConfigurer {
      * 설정 내용:
      * - /upload/** 패턴의 URL 요청이 들어오면
      * - file:{업로드 디렉토리}/ 경로에서 파일을 찾아 제공합니다.
+     * - Cache-Control: immutable 과 업로드 시 저장한 내용 해시(ETag), 파일 수정 시각(Last-Modified)을 함께 보내
+     *   재검증 요청은 본문 없이 304 로 응답합니다.
      *
      * 예시:
      * - URL 요청: http://도메인/upload/image.jpg
@@ -40,6 +59,19 @@ public class WebConfig implements WebMvcConfigurer {
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
         registry.addResourceHandler("/upload/**")
-                .addResourceLocations("file:" + uploadDirectory + "/");
+                .addResourceLocations("file:" + uploadDirectory + "/")
+                .setCacheControl(UPLOAD_CACHE)
+                .setEtagGenerator(this::etag);
+    }
+
+    // 리소스 파일 → 저장 경로({file.upload.uri}/thumbnails/abc.png) → 내용 해시
+    private String etag(Resource resource) {
+        try {
+            Path relative = Path.of(uploadDirectory).toAbsolutePath().normalize()
+                    .relativize(resource.getFile().toPath().toAbsolutePath().normalize());
+            return mediaEtags.get(uploadUri + "/" + relative.toString().replace('\\', '/'));
+        } catch (IOException | IllegalArgumentException e) {
+            return null;  // ETag 없이 Last-Modified 로만 검증
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package io.goorm.youtube.controller;
+
+import io.goorm.youtube.dto.ApiResponse;
+import io.goorm.youtube.dto.video.DirectUploadCompleteRequest;
+import io.goorm.youtube.dto.video.DirectUploadCreateRequest;
+import io.goorm.youtube.dto.video.DirectUploadResponse;
+import io.goorm.youtube.service.DirectUploadService;
+import io.swagger.annotations.ApiOperation;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+
+@RestController
+@Profile("aws")
+@RequiredArgsConstructor
+@RequestMapping("/api/me/movies/direct-uploads")
+public class DirectUploadController {
+
+    private final DirectUploadService directUploadService;
+
+    @ApiOperation(value = "직접 업로드 발급", notes = "비디오/썸네일을 S3 에 바로 올릴 pre-signed URL 을 발급합니다. 큰 비디오는 파트별 URL 이 발급됩니다.")
+    @PostMapping
+    public ResponseEntity<ApiResponse<DirectUploadResponse>> createUpload(
+            @Valid @RequestBody DirectUploadCreateRequest request) {
+
+        DirectUploadResponse upload = directUploadService.createUpload(request);
+
+        return ResponseEntity
+                .created(URI.create("/api/me/movies/direct-uploads/" + upload.getUploadId()))
+                .body(ApiResponse.success("업로드 URL 이 발급되었습니다.", upload));
+    }
+
+    @ApiOperation(value = "직접 업로드 완료", notes = "업로드된 객체의 크기/형식/체크섬을 확인한 뒤 동영상을 등록합니다.")
+    @PostMapping("/{uploadId}/complete")
+    public ResponseEntity<ApiResponse<Long>> complete(
+            @PathVariable String uploadId,
+            @RequestBody(required = false) DirectUploadCompleteRequest request) {
+
+        Long videoSeq = directUploadService.complete(uploadId,
+                request != null ? request : new DirectUploadCompleteRequest());
+
+        return ResponseEntity
+                .created(URI.create("/api/movies/" + videoSeq))
+                .body(ApiResponse.success("동영상이 성공적으로 업로드되었습니다.", videoSeq));
+    }
+
+    @ApiOperation(value = "직접 업로드 취소", notes = "진행 중인 multipart 업로드를 중단하고 올라온 객체를 삭제합니다.")
+    @DeleteMapping("/{uploadId}")
+    public ResponseEntity<ApiResponse<Void>> cancel(@PathVariable String uploadId) {
+
+        directUploadService.cancel(uploadId);
+
+        return ResponseEntity.ok(ApiResponse.success("업로드가 취소되었습니다."));
+    }
+}
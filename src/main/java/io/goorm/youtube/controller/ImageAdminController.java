@@ -0,0 +1,41 @@
+package io.goorm.youtube.controller;
+
+import io.goorm.youtube.dto.ApiResponse;
+import io.goorm.youtube.service.ImageVariantService;
+import io.swagger.annotations.ApiOperation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/images")
+@PreAuthorize("hasAuthority('ADMIN')")
+public class ImageAdminController {
+
+    private final ImageVariantService imageVariantService;
+
+    @ApiOperation(value = "이미지 미리보기 백필", notes = "미리보기(BlurHash)가 없는 기존 썸네일/프로필 이미지를 백그라운드에서 병렬로 처리합니다.")
+    @PostMapping("/backfill")
+    public ResponseEntity<ApiResponse<Void>> backfill() {
+
+        if (!imageVariantService.backfill()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(ApiResponse.error(HttpStatus.CONFLICT.value(), "이미지 미리보기 백필을 이미 실행하고 있습니다."));
+        }
+
+        return ResponseEntity
+                .accepted()
+                .body(ApiResponse.success("이미지 미리보기 백필을 시작했습니다."));
+    }
+
+    @ApiOperation(value = "이미지 미리보기 백필 진행 상황 조회", notes = "실행 여부와 전체/처리 건수를 조회합니다.")
+    @GetMapping("/backfill")
+    public ResponseEntity<ApiResponse<ImageVariantService.BackfillProgress>> getBackfillProgress() {
+
+        return ResponseEntity.ok(
+                ApiResponse.success("이미지 미리보기 백필 진행 상황을 조회했습니다.", imageVariantService.getBackfillProgress()));
+    }
+}
@@ -0,0 +1,32 @@
+package io.goorm.youtube.controller;
+
+import io.goorm.youtube.service.ImageVariantService;
+import io.swagger.annotations.ApiOperation;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api")
+public class ImageController {
+
+    private final ImageVariantService imageVariantService;
+
+    @ApiOperation(value = "이미지 너비별 조회",
+            notes = "썸네일/프로필 이미지를 요청 너비(w) 이상인 가장 작은 변형(160/320/640/1280)으로 제공합니다. 변형이 아직 없으면 원본을 제공합니다. "
+                    + "목록/상세 응답의 thumbnailImageUrl, profileImageUrl 에 w 만 붙여 사용합니다. (인증 불필요)")
+    @GetMapping("/images")
+    public void getImage(
+            @RequestParam String src,
+            @RequestParam(defaultValue = "320") int w,
+            HttpServletResponse response) throws IOException {
+
+        imageVariantService.serve(src, w, response);
+    }
+}
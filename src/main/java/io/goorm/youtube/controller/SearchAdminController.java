@@ -0,0 +1,41 @@
+package io.goorm.youtube.controller;
+
+import io.goorm.youtube.dto.ApiResponse;
+import io.goorm.youtube.service.VideoSearchService;
+import io.swagger.annotations.ApiOperation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/search")
+@PreAuthorize("hasAuthority('ADMIN')")
+public class SearchAdminController {
+
+    private final VideoSearchService videoSearchService;
+
+    @ApiOperation(value = "검색 색인 전체 재생성", notes = "백그라운드에서 공개 비디오 전체를 다시 색인합니다. 끝날 때까지 검색은 이전 색인으로 응답합니다.")
+    @PostMapping("/reindex")
+    public ResponseEntity<ApiResponse<Void>> reindex() {
+
+        if (!videoSearchService.reindex()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(ApiResponse.error(HttpStatus.CONFLICT.value(), "검색 색인을 이미 재생성하고 있습니다."));
+        }
+
+        return ResponseEntity
+                .accepted()
+                .body(ApiResponse.success("검색 색인 재생성을 시작했습니다."));
+    }
+
+    @ApiOperation(value = "검색 색인 상태 조회", notes = "전체 재생성 진행 여부를 조회합니다.")
+    @GetMapping("/reindex")
+    public ResponseEntity<ApiResponse<Boolean>> isReindexing() {
+
+        return ResponseEntity.ok(
+                ApiResponse.success("검색 색인 상태를 조회했습니다.", videoSearchService.isReindexing()));
+    }
+}
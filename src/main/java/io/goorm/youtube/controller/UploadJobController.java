@@ -0,0 +1,45 @@
+package io.goorm.youtube.controller;
+
+import io.goorm.youtube.dto.ApiResponse;
+import io.goorm.youtube.dto.video.UploadJobResponse;
+import io.goorm.youtube.dto.video.VideoCreateRequest;
+import io.goorm.youtube.service.UploadJobService;
+import io.swagger.annotations.ApiOperation;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.net.URI;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/me/movies/jobs")
+public class UploadJobController {
+
+    private final UploadJobService uploadJobService;
+
+    @ApiOperation(value = "동영상 비동기 등록", notes = "파일을 임시 저장한 뒤 바로 202 로 응답합니다. 처리 결과는 작업 상태 조회로 확인합니다.")
+    @PostMapping
+    public ResponseEntity<ApiResponse<UploadJobResponse>> submit(
+            @Valid @RequestPart VideoCreateRequest request,
+            @RequestPart MultipartFile videoFile,
+            @RequestPart(required = false) MultipartFile thumbnailFile) {
+
+        UploadJobResponse job = uploadJobService.submit(request, videoFile, thumbnailFile);
+
+        return ResponseEntity
+                .accepted()
+                .location(URI.create("/api/me/movies/jobs/" + job.getJobId()))
+                .body(ApiResponse.success("동영상 업로드 작업이 등록되었습니다.", job));
+    }
+
+    @ApiOperation(value = "업로드 작업 상태 조회", notes = "비동기 등록 작업의 진행 상태와 등록된 동영상 번호를 조회합니다.")
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ApiResponse<UploadJobResponse>> getJob(@PathVariable String jobId) {
+
+        return ResponseEntity.ok(
+                ApiResponse.success("업로드 작업 상태를 조회했습니다.", uploadJobService.getJob(jobId)));
+    }
+}
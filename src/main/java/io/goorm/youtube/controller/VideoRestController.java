@@ -1,46 +1,116 @@
 package io.goorm.youtube.controller;
 
 import io.goorm.youtube.dto.ApiResponse;
+import io.goorm.youtube.dto.ContentVersion;
+import io.goorm.youtube.dto.CursorSlice;
+import io.goorm.youtube.dto.video.SuggestionResponse;
 import io.goorm.youtube.dto.video.VideoCreateRequest;
 import io.goorm.youtube.dto.video.VideoResponse;
+import io.goorm.youtube.dto.video.VideoSummaryResponse;
 import io.goorm.youtube.dto.video.VideoUpdateRequest;
+import io.goorm.youtube.service.SuggestService;
 import io.goorm.youtube.service.VideoService;
 import io.swagger.annotations.ApiOperation;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api")
 public class VideoRestController {
 
+    private static final String FILE_NAME_HEADER = "X-File-Name";
+
+    // 공개 조회는 매번 검증자(ETag, Last-Modified)로 재검증 - 바뀌지 않았으면 본문 없이 304
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePublic();
+
     private final VideoService videoService;
+    private final SuggestService suggestService;
 
     @ApiOperation(value = "게시된 동영상목록 조회", notes = "게시상태의 동영상 조회용입니다. 메인페이지에서 사용합니다.")
     @GetMapping("/movies")
-    public ResponseEntity<ApiResponse<Page<VideoResponse>>> getPublicVideos(
+    public ResponseEntity<ApiResponse<Page<VideoSummaryResponse>>> getPublicVideos(
+            @PageableDefault(size = 10) Pageable pageable,
+            WebRequest webRequest) {
+
+        if (notModified(webRequest, videoService.getPublicVideosVersion())) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(REVALIDATE)
+                .body(ApiResponse.success("동영상 목록을 성공적으로 조회했습니다.",
+                        videoService.getPublicVideos(pageable)));
+    }
+
+    @ApiOperation(value = "게시된 동영상목록 커서 조회", notes = "전체 건수 없이 커서 이후 목록을 조회합니다. 첫 조각은 cursor 를 비워서 요청합니다.")
+    @GetMapping(value = "/movies", params = "cursor")
+    public ResponseEntity<ApiResponse<CursorSlice<VideoSummaryResponse>>> getPublicVideosByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
+
+        if (notModified(webRequest, videoService.getPublicVideosVersion())) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(REVALIDATE)
+                .body(ApiResponse.success("동영상 목록을 성공적으로 조회했습니다.",
+                        videoService.getPublicVideos(cursor, size)));
+    }
+
+    @ApiOperation(value = "동영상 검색", notes = "제목, 설명, 채널명으로 게시된 동영상을 관련도순으로 검색합니다. 검색 결과 앞쪽 1000건까지 조회할 수 있습니다.")
+    @GetMapping("/movies/search")
+    public ResponseEntity<ApiResponse<Page<VideoSummaryResponse>>> searchVideos(
+            @RequestParam("q") String query,
             @PageableDefault(size = 10) Pageable pageable) {
 
         return ResponseEntity.ok(
-                ApiResponse.success("동영상 목록을 성공적으로 조회했습니다.",
-                        videoService.getPublicVideos(pageable)));
+                ApiResponse.success("동영상 검색 결과를 조회했습니다.",
+                        videoService.searchPublicVideos(query, pageable)));
+    }
+
+    @ApiOperation(value = "검색어 자동완성", notes = "입력한 접두어로 시작하는 동영상 제목과 채널명을 조회수순으로 제안합니다. 문구 중간 단어로도 찾을 수 있습니다.")
+    @GetMapping("/movies/suggest")
+    public ResponseEntity<ApiResponse<List<SuggestionResponse>>> suggest(
+            @RequestParam("q") String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        return ResponseEntity.ok(
+                ApiResponse.success("자동완성 결과를 조회했습니다.",
+                        suggestService.suggest(prefix, limit)));
     }
 
     @ApiOperation(value = "동영상상세 조회", notes = "게시상태인 동영상 상세 조회용입니다.")
     @GetMapping("/movies/{videoSeq}")
     public ResponseEntity<ApiResponse<VideoResponse>> getVideoDetail(
-            @PathVariable Long videoSeq) {
+            @PathVariable Long videoSeq,
+            WebRequest webRequest) {
 
-        return ResponseEntity.ok(
-                ApiResponse.success("동영상을 성공적으로 조회했습니다.",
+        // 본문 없이 304 로 응답한 재검증은 조회수로 세지 않음
+        if (notModified(webRequest, videoService.getPublicVideoDetailVersion(videoSeq))) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(REVALIDATE)
+                .body(ApiResponse.success("동영상을 성공적으로 조회했습니다.",
                         videoService.getPublicVideoDetail(videoSeq)));
     }
 
@@ -59,6 +129,26 @@ public class VideoRestController {
                 .body(ApiResponse.success("동영상이 성공적으로 업로드되었습니다.", videoSeq));
     }
 
+    @ApiOperation(value = "동영상 스트리밍 등록",
+            notes = "multipart 대신 요청 본문 자체를 비디오로 받아 저장소에 바로 기록합니다. 파일명은 X-File-Name 헤더(URL 인코딩)로 전달합니다.")
+    @PostMapping("/me/movies/stream")
+    public ResponseEntity<ApiResponse<Long>> uploadVideoStream(
+            @RequestParam String title,
+            @RequestParam(required = false) String content,
+            @RequestHeader(FILE_NAME_HEADER) String fileName,
+            HttpServletRequest httpRequest) throws IOException {
+
+        Long videoSeq = videoService.uploadVideo(
+                VideoCreateRequest.of(title, content),
+                httpRequest.getInputStream(),
+                URLDecoder.decode(fileName, StandardCharsets.UTF_8),
+                httpRequest.getContentType());
+
+        return ResponseEntity
+                .created(URI.create("/api/movies/" + videoSeq))
+                .body(ApiResponse.success("동영상이 성공적으로 업로드되었습니다.", videoSeq));
+    }
+
     @ApiOperation(value = "나의 동영상상세 조회", notes = "로그인한 사용자의 동영상 상세 조회용입니다.")
     @GetMapping("/me/movies/{videoSeq}")
     public ResponseEntity<ApiResponse<VideoResponse>> getMyVideoDetail(
@@ -71,7 +161,7 @@ public class VideoRestController {
 
     @ApiOperation(value = "나의 동영상목록 조회", notes = "로그인한 사용자의 동영상 목록 조회용입니다.")
     @GetMapping("/me/movies")
-    public ResponseEntity<ApiResponse<Page<VideoResponse>>> getMyVideos(
+    public ResponseEntity<ApiResponse<Page<VideoSummaryResponse>>> getMyVideos(
             @PageableDefault(size = 10) Pageable pageable) {
 
         return ResponseEntity.ok(
@@ -79,6 +169,17 @@ public class VideoRestController {
                         videoService.getMyVideos(pageable)));
     }
 
+    @ApiOperation(value = "나의 동영상목록 커서 조회", notes = "로그인한 사용자의 동영상 목록을 커서 기반으로 조회합니다.")
+    @GetMapping(value = "/me/movies", params = "cursor")
+    public ResponseEntity<ApiResponse<CursorSlice<VideoSummaryResponse>>> getMyVideosByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+
+        return ResponseEntity.ok(
+                ApiResponse.success("동영상 목록을 성공적으로 조회했습니다.",
+                        videoService.getMyVideos(cursor, size)));
+    }
+
     @ApiOperation(value = "동영상 수정", notes = "로그인한 사용자의 동영상 수정용 입니다.")
     @PutMapping("/me/movies/{videoSeq}")
     public ResponseEntity<ApiResponse<Void>> updateVideo(
@@ -110,4 +211,9 @@ public class VideoRestController {
 
         return ResponseEntity.ok(ApiResponse.success("동영상 게시상태가 성공적으로 변경되었습니다."));
     }
+
+    // 304 이면 응답 상태/헤더가 이미 설정되어 있으므로 본문 없이 끝냄 (아니면 ETag, Last-Modified 만 설정됨)
+    private static boolean notModified(WebRequest webRequest, ContentVersion version) {
+        return webRequest.checkNotModified(version.getEtag(), version.getLastModified());
+    }
 }
@@ -0,0 +1,34 @@
+package io.goorm.youtube.controller;
+
+import io.goorm.youtube.service.VideoStreamService;
+import io.swagger.annotations.ApiOperation;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api")
+public class VideoStreamController {
+
+    private final VideoStreamService videoStreamService;
+
+    @ApiOperation(value = "동영상 스트리밍", notes = "Range 요청(206/416)을 지원하는 게시된 동영상 스트리밍용입니다.")
+    @GetMapping("/movies/{videoSeq}/stream")
+    public void streamVideo(
+            @PathVariable Long videoSeq,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+
+        videoStreamService.stream(videoSeq, range, request, response);
+    }
+}
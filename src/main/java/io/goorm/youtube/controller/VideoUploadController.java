@@ -0,0 +1,83 @@
+package io.goorm.youtube.controller;
+
+import io.goorm.youtube.dto.ApiResponse;
+import io.goorm.youtube.dto.video.UploadSessionCreateRequest;
+import io.goorm.youtube.dto.video.UploadSessionResponse;
+import io.goorm.youtube.service.ResumableUploadService;
+import io.swagger.annotations.ApiOperation;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.net.URI;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/me/movies/uploads")
+public class VideoUploadController {
+
+    private static final String UPLOAD_OFFSET_HEADER = "Upload-Offset";
+
+    private final ResumableUploadService resumableUploadService;
+
+    @ApiOperation(value = "이어받기 업로드 세션 생성", notes = "파일 크기와 메타데이터로 업로드 세션을 만듭니다. 응답의 chunkSize 단위로 청크를 전송합니다.")
+    @PostMapping
+    public ResponseEntity<ApiResponse<UploadSessionResponse>> createSession(
+            @Valid @RequestBody UploadSessionCreateRequest request) {
+
+        UploadSessionResponse session = resumableUploadService.createSession(request);
+
+        return ResponseEntity
+                .created(URI.create("/api/me/movies/uploads/" + session.getUploadId()))
+                .header(UPLOAD_OFFSET_HEADER, String.valueOf(session.getOffset()))
+                .body(ApiResponse.success("업로드 세션이 생성되었습니다.", session));
+    }
+
+    @ApiOperation(value = "청크 업로드", notes = "Upload-Offset 헤더 위치에 요청 본문을 기록합니다. 청크는 순서와 상관없이 병렬로 보낼 수 있습니다.")
+    @PutMapping("/{uploadId}")
+    public ResponseEntity<ApiResponse<UploadSessionResponse>> uploadChunk(
+            @PathVariable String uploadId,
+            @RequestHeader(UPLOAD_OFFSET_HEADER) long offset,
+            HttpServletRequest httpRequest) throws IOException {
+
+        UploadSessionResponse session = resumableUploadService.writeChunk(uploadId, offset, httpRequest.getInputStream());
+
+        return ResponseEntity.ok()
+                .header(UPLOAD_OFFSET_HEADER, String.valueOf(session.getOffset()))
+                .body(ApiResponse.success("청크가 저장되었습니다.", session));
+    }
+
+    @ApiOperation(value = "업로드 상태 조회", notes = "이어받을 offset 과 아직 받지 않은 청크 목록을 조회합니다.")
+    @GetMapping("/{uploadId}")
+    public ResponseEntity<ApiResponse<UploadSessionResponse>> getSession(@PathVariable String uploadId) {
+
+        UploadSessionResponse session = resumableUploadService.getSession(uploadId);
+
+        return ResponseEntity.ok()
+                .header(UPLOAD_OFFSET_HEADER, String.valueOf(session.getOffset()))
+                .body(ApiResponse.success("업로드 상태를 조회했습니다.", session));
+    }
+
+    @ApiOperation(value = "업로드 완료", notes = "모든 청크를 받은 뒤 동영상을 등록합니다.")
+    @PostMapping("/{uploadId}/complete")
+    public ResponseEntity<ApiResponse<Long>> complete(@PathVariable String uploadId) {
+
+        Long videoSeq = resumableUploadService.complete(uploadId);
+
+        return ResponseEntity
+                .created(URI.create("/api/movies/" + videoSeq))
+                .body(ApiResponse.success("동영상이 성공적으로 업로드되었습니다.", videoSeq));
+    }
+
+    @ApiOperation(value = "업로드 취소", notes = "업로드 세션과 임시 파일을 삭제합니다.")
+    @DeleteMapping("/{uploadId}")
+    public ResponseEntity<ApiResponse<Void>> cancel(@PathVariable String uploadId) {
+
+        resumableUploadService.cancel(uploadId);
+
+        return ResponseEntity.ok(ApiResponse.success("업로드가 취소되었습니다."));
+    }
+}
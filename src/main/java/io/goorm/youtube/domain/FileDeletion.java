@@ -0,0 +1,51 @@
+package io.goorm.youtube.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 저장소 파일 삭제 outbox
+ * 파일 경로를 바꾸거나 비디오를 삭제하는 트랜잭션 안에서 함께 기록되며,
+ * 커밋된 경우에만 백그라운드 drainer 가 실제 파일을 지웁니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "file_deletions", indexes = {
+        @Index(name = "idx_file_deletions_next_attempt", columnList = "next_attempt_at, deletion_seq")
+})
+public class FileDeletion extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long deletionSeq;
+
+    @Column(nullable = false)
+    private String filePath;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+
+    // 정적 팩토리 메서드
+    public static FileDeletion createDeletion(String filePath) {
+        FileDeletion deletion = new FileDeletion();
+        deletion.filePath = filePath;
+        deletion.attempts = 0;
+        deletion.nextAttemptAt = LocalDateTime.now();
+        return deletion;
+    }
+
+    public void retryAfter(Duration delay) {
+        this.attempts++;
+        this.nextAttemptAt = LocalDateTime.now().plus(delay);
+    }
+}
@@ -0,0 +1,54 @@
+package io.goorm.youtube.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 내용(SHA-256) 기준으로 한 번만 저장되는 미디어 파일
+ * refCount 는 이 파일 경로를 참조하는 Video/Member 컬럼 수이며, 0 이 되면 행과 실제 파일이 함께 삭제됩니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "media_blobs")
+public class MediaBlob extends BaseTimeEntity {
+
+    @Id
+    @Column(length = 64)
+    private String sha256;
+
+    @Column(nullable = false, unique = true)
+    private String filePath;
+
+    @Column(nullable = false)
+    private long fileSize;
+
+    private String contentType;
+
+    @Column(nullable = false)
+    private int refCount;
+
+
+    // 정적 팩토리 메서드
+    public static MediaBlob createBlob(String sha256, String filePath, long fileSize, String contentType) {
+        MediaBlob blob = new MediaBlob();
+        blob.sha256 = sha256;
+        blob.filePath = filePath;
+        blob.fileSize = fileSize;
+        blob.contentType = contentType;
+        blob.refCount = 1;
+        return blob;
+    }
+
+    public void acquire() {
+        this.refCount++;
+    }
+
+    // 마지막 참조였으면 true
+    public boolean release() {
+        this.refCount = Math.max(0, refCount - 1);
+        return refCount == 0;
+    }
+}
@@ -0,0 +1,9 @@
+package io.goorm.youtube.domain;
+
+/**
+ * 비디오 미디어 처리 상태
+ * READY 가 아닌 비디오는 게시할 수 없습니다.
+ */
+public enum MediaStatus {
+    PROCESSING, READY, FAILED
+}
@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.time.LocalDateTime;
+import java.util.Objects;
 
 @Entity
 @Getter
@@ -29,6 +30,14 @@ public class Member extends BaseTimeEntity {
 
     private String profilePath;
 
+    // 프로필 이미지 너비별 변형(ImageVariants)이 저장소에 만들어졌는지 - 이미지가 바뀌면 다시 false
+    @Column(nullable = false)
+    private boolean profileVariants = false;
+
+    // 프로필 이미지 미리보기(BlurHash)
+    @Column(length = 64)
+    private String profilePlaceholder;
+
     private String memberInfo;
 
     private LocalDateTime withdrawalDate;
@@ -63,7 +72,7 @@ public class Member extends BaseTimeEntity {
 
     public void updateProfile(String memberName, String profilePath, String memberInfo) {
         this.memberName = memberName;
-        this.profilePath = profilePath;
+        updateProfile(profilePath);
         this.memberInfo = memberInfo;
     }
 
@@ -73,9 +82,18 @@ public class Member extends BaseTimeEntity {
     }
 
     public void updateProfile(String profilePath) {
+        if (!Objects.equals(this.profilePath, profilePath)) {
+            this.profileVariants = false;
+            this.profilePlaceholder = null;
+        }
         this.profilePath = profilePath;
     }
 
+    public void markProfileVariantsReady(String placeholder) {
+        this.profileVariants = true;
+        this.profilePlaceholder = placeholder;
+    }
+
     public void updatePassword(String encodedPassword) {
         this.memberPw = encodedPassword;
     }
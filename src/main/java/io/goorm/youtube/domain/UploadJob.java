@@ -0,0 +1,99 @@
+package io.goorm.youtube.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 비동기 업로드 작업
+ * 요청 시 임시 저장한 파일 경로와 메타데이터를 기록해 두고, 백그라운드 작업자가 저장소 이동과 비디오 등록을 마칩니다.
+ * 재시작 시 끝나지 않은 작업은 다시 실행됩니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "upload_jobs", indexes = {
+        @Index(name = "idx_upload_jobs_status", columnList = "status")
+})
+public class UploadJob extends BaseTimeEntity {
+
+    @Id
+    @Column(length = 36)
+    private String jobId;
+
+    @Column(nullable = false)
+    private Long memberSeq;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String content;
+
+    @Column(nullable = false)
+    private String videoFileName;
+
+    private String videoContentType;
+
+    @Column(nullable = false)
+    private String videoStagingPath;
+
+    private String thumbnailFileName;
+
+    private String thumbnailContentType;
+
+    private String thumbnailStagingPath;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private UploadJobStatus status;
+
+    // 비디오 행이 만들어진 뒤 중단된 경우 재실행 시 같은 비디오를 이어서 처리
+    private Long videoSeq;
+
+    private String errorMessage;
+
+
+    // 정적 팩토리 메서드
+    public static UploadJob createJob(String jobId, Long memberSeq, String title, String content,
+                                      String videoFileName, String videoContentType, String videoStagingPath,
+                                      String thumbnailFileName, String thumbnailContentType,
+                                      String thumbnailStagingPath) {
+        UploadJob job = new UploadJob();
+        job.jobId = jobId;
+        job.memberSeq = memberSeq;
+        job.title = title;
+        job.content = content;
+        job.videoFileName = videoFileName;
+        job.videoContentType = videoContentType;
+        job.videoStagingPath = videoStagingPath;
+        job.thumbnailFileName = thumbnailFileName;
+        job.thumbnailContentType = thumbnailContentType;
+        job.thumbnailStagingPath = thumbnailStagingPath;
+        job.status = UploadJobStatus.PENDING;
+        return job;
+    }
+
+    public boolean hasThumbnail() {
+        return thumbnailStagingPath != null;
+    }
+
+    public void assignVideo(Long videoSeq) {
+        this.videoSeq = videoSeq;
+    }
+
+    public void complete() {
+        this.status = UploadJobStatus.COMPLETED;
+        this.errorMessage = null;
+    }
+
+    public void fail(String errorMessage) {
+        this.status = UploadJobStatus.FAILED;
+        this.errorMessage = errorMessage;
+    }
+
+    public void requeue() {
+        this.status = UploadJobStatus.PENDING;
+    }
+}
@@ -0,0 +1,5 @@
+package io.goorm.youtube.domain;
+
+public enum UploadJobStatus {
+    PENDING, PROCESSING, COMPLETED, FAILED
+}
@@ -5,10 +5,15 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.Objects;
+
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "videos")
+@Table(name = "videos", indexes = {
+        @Index(name = "idx_videos_public_feed", columnList = "publish_yn, delete_yn, reg_at, video_seq"),
+        @Index(name = "idx_videos_member_feed", columnList = "member_seq, reg_at, video_seq")
+})
 public class Video extends BaseTimeEntity {
 
     @Id
@@ -20,6 +25,31 @@ public class Video extends BaseTimeEntity {
 
     private String thumbnailPath;
 
+    // 썸네일 너비별 변형(ImageVariants)이 저장소에 만들어졌는지 - 썸네일이 바뀌면 다시 false
+    @Column(nullable = false)
+    private boolean thumbnailVariants = false;
+
+    // 썸네일 미리보기(BlurHash) - 목록 응답에 그대로 넣어 썸네일 요청 전에 첫 화면을 그림
+    @Column(length = 64)
+    private String thumbnailPlaceholder;
+
+    // moov 가 mdat 앞에 있어 파일 끝을 받기 전에 재생을 시작할 수 있는지 (업로드 시 Mp4Faststart 로 재배치/확인)
+    @Column(nullable = false)
+    private boolean faststart = false;
+
+    // 업로드 시 컨테이너 헤더에서 읽은 재생 정보 (MediaProbe) - 헤더를 해석하지 않는 형식이면 null
+    private Long durationMillis;
+
+    private Integer width;
+
+    private Integer height;
+
+    @Column(length = 16)
+    private String codec;
+
+    // 평균 비트레이트 (bps)
+    private Long bitrate;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_seq")
     private Member member;
@@ -36,6 +66,15 @@ public class Video extends BaseTimeEntity {
     @Column(nullable = false)
     private boolean deleteYn = false;
 
+    // 조회수는 ViewCountService 가 JDBC 배치로만 증가시킴 (엔티티 변경감지로 덮어쓰지 않도록 읽기 전용)
+    @Column(nullable = false, insertable = false, updatable = false, columnDefinition = "bigint default 0")
+    private long viewCount;
+
+    // 비동기 업로드의 저장소 처리가 끝나기 전에는 PROCESSING
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private MediaStatus mediaStatus = MediaStatus.READY;
+
 
     // 정적 팩토리 메서드
     public static Video createVideo(String videoPath, String thumbnailPath,
@@ -48,6 +87,14 @@ public class Video extends BaseTimeEntity {
         video.content = content;
         video.publishYn = false;
         video.deleteYn = false;
+        video.mediaStatus = MediaStatus.READY;
+        return video;
+    }
+
+    // 미디어 처리가 끝나지 않은 비디오 (비동기 업로드)
+    public static Video createProcessingVideo(String videoPath, Member member, String title, String content) {
+        Video video = createVideo(videoPath, null, member, title, content);
+        video.mediaStatus = MediaStatus.PROCESSING;
         return video;
     }
 
@@ -55,26 +102,60 @@ public class Video extends BaseTimeEntity {
         this.title = title;
         this.content = content;
         if (thumbnailPath != null) {
-            this.thumbnailPath = thumbnailPath;
+            updateThumbnailPath(thumbnailPath);
         }
     }
 
     public void updatePublishStatus(boolean publishYn) {
+        if (publishYn && mediaStatus != MediaStatus.READY) {
+            throw new IllegalArgumentException("미디어 처리가 끝나지 않은 비디오는 게시할 수 없습니다.");
+        }
         this.publishYn = publishYn;
     }
 
+    public void markMediaReady() {
+        this.mediaStatus = MediaStatus.READY;
+    }
+
+    public void markMediaFailed() {
+        this.mediaStatus = MediaStatus.FAILED;
+        this.publishYn = false;
+    }
+
     public void delete() {
         this.deleteYn = true;
     }
 
-    public void updateVideoPath(String videoPath) {
+    public void updateVideoPath(String videoPath, boolean faststart) {
         this.videoPath = videoPath;
+        this.faststart = faststart;
+    }
+
+    public void markFaststart(boolean faststart) {
+        this.faststart = faststart;
+    }
+
+    public void updateMediaInfo(Long durationMillis, Integer width, Integer height, String codec, Long bitrate) {
+        this.durationMillis = durationMillis;
+        this.width = width;
+        this.height = height;
+        this.codec = codec;
+        this.bitrate = bitrate;
     }
 
     public void updateThumbnailPath(String thumbnailPath) {
+        if (!Objects.equals(this.thumbnailPath, thumbnailPath)) {
+            this.thumbnailVariants = false;
+            this.thumbnailPlaceholder = null;
+        }
         this.thumbnailPath = thumbnailPath;
     }
 
+    public void markThumbnailVariantsReady(String placeholder) {
+        this.thumbnailVariants = true;
+        this.thumbnailPlaceholder = placeholder;
+    }
+
     public void updateMetadata(String title, String content) {
         this.title = title;
         this.content = content;
@@ -0,0 +1,26 @@
+package io.goorm.youtube.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 반영이 끝난 조회수 flush 기록
+ * 조회수 배치와 같은 트랜잭션에서 기록되며, 재시작 후 저널을 다시 반영할 때 중복 반영을 막습니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "view_count_flushes")
+public class ViewCountFlush {
+
+    @Id
+    @Column(length = 36)
+    private String flushId;
+
+    @Column(nullable = false)
+    private LocalDateTime appliedAt;
+}
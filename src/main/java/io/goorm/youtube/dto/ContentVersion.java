@@ -0,0 +1,27 @@
+package io.goorm.youtube.dto;
+
+import lombok.Getter;
+
+/**
+ * 조회 응답의 검증자 (조건부 GET 의 ETag, Last-Modified)
+ * 본문을 만들기 전에 확인할 수 있도록 메모리에 있는 값으로만 만듭니다.
+ */
+@Getter
+public class ContentVersion {
+    private final String etag;
+    private final long lastModified;
+
+    private ContentVersion(String etag, long lastModified) {
+        this.etag = etag;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * 약한 ETag - 반영 전 조회수(pending)처럼 버전에 포함하지 않는 값이 본문에 섞여 있어
+     * 같은 버전이어도 본문이 바이트 단위로 같지는 않음
+     * @param lastModified 마지막 변경 시각 (epoch millis)
+     */
+    public static ContentVersion weak(String value, long lastModified) {
+        return new ContentVersion("W/\"" + value + "\"", lastModified);
+    }
+}
@@ -0,0 +1,38 @@
+package io.goorm.youtube.dto;
+
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 목록 응답
+ * 전체 건수(COUNT) 없이 현재 조각과 다음 조각을 위한 커서만 담습니다.
+ */
+@Getter
+public class CursorSlice<T> {
+    private final List<T> content;
+    private final int size;
+    private final boolean hasNext;
+    private final String nextCursor;
+
+    private CursorSlice(List<T> content, int size, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * @param slice 조회 결과
+     * @param cursorExtractor 마지막 항목에서 다음 커서를 만드는 함수
+     */
+    public static <T> CursorSlice<T> of(Slice<T> slice, Function<T, String> cursorExtractor) {
+        List<T> content = slice.getContent();
+        String nextCursor = slice.hasNext() && !content.isEmpty()
+                ? cursorExtractor.apply(content.get(content.size() - 1))
+                : null;
+        return new CursorSlice<>(content, slice.getSize(), slice.hasNext(), nextCursor);
+    }
+}
@@ -1,5 +1,6 @@
 package io.goorm.youtube.dto;
 
+import io.goorm.youtube.file.MediaProbe;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -40,14 +41,33 @@ public class FileUploadResult {
      */
     private String contentType;
 
+    /**
+     * 파일 내용의 SHA-256 (hex), 스트리밍 업로드에서만 계산
+     */
+    private String sha256;
+
+    /**
+     * MP4/MOV 의 moov 가 mdat 앞에 있어 끝부분을 받기 전에 재생을 시작할 수 있는지 (Mp4Faststart)
+     */
+    private boolean faststart;
+
+    /**
+     * 컨테이너 헤더에서 읽은 재생 정보 (동영상 업로드에서만, 그 외에는 null)
+     */
+    private MediaProbe.Metadata metadata;
+
     @Builder
     public FileUploadResult(String filePath, String originalFileName, String savedFileName,
-                            long fileSize, String contentType) {
+                            long fileSize, String contentType, String sha256, boolean faststart,
+                            MediaProbe.Metadata metadata) {
         this.filePath = filePath;
         this.originalFileName = originalFileName;
         this.savedFileName = savedFileName;
         this.fileSize = fileSize;
         this.contentType = contentType;
+        this.sha256 = sha256;
+        this.faststart = faststart;
+        this.metadata = metadata;
     }
 
     /**
@@ -102,6 +122,9 @@ public class FileUploadResult {
                 ", savedFileName='" + savedFileName + '\'' +
                 ", fileSize=" + getHumanReadableSize() +
                 ", contentType='" + contentType + '\'' +
+                ", sha256='" + sha256 + '\'' +
+                ", faststart=" + faststart +
+                ", metadata=" + metadata +
                 '}';
     }
 }
\ No newline at end of file
@@ -1,23 +1,34 @@
 package io.goorm.youtube.dto.member;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.goorm.youtube.domain.Member;
+import io.goorm.youtube.file.ImageVariants;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.Map;
+
 @Getter
 @NoArgsConstructor
 public class MemberResponse {
     private String memberId;
     private String memberName;
     private String profilePath;
+    @JsonIgnore
+    private boolean profileVariantsReady;
+    // 프로필 이미지 미리보기(BlurHash) - 변형이 만들어지기 전에는 null
+    private String profilePlaceholder;
     private String memberInfo;
 
     @Builder
-    private MemberResponse(String memberId, String memberName, String profilePath, String memberInfo) {
+    private MemberResponse(String memberId, String memberName, String profilePath, boolean profileVariantsReady,
+                           String profilePlaceholder, String memberInfo) {
         this.memberId = memberId;
         this.memberName = memberName;
         this.profilePath = profilePath;
+        this.profileVariantsReady = profileVariantsReady;
+        this.profilePlaceholder = profilePlaceholder;
         this.memberInfo = memberInfo;
     }
 
@@ -26,7 +37,19 @@ public class MemberResponse {
                 .memberId(member.getMemberId())
                 .memberName(member.getMemberName())
                 .profilePath(member.getProfilePath())
+                .profileVariantsReady(member.isProfileVariants())
+                .profilePlaceholder(member.getProfilePlaceholder())
                 .memberInfo(member.getMemberInfo())
                 .build();
     }
+
+    // 너비별 프로필 이미지 변형 URL (아직 만들어지지 않았으면 빈 맵 - profilePath 원본을 사용)
+    public Map<Integer, String> getProfileVariants() {
+        return profileVariantsReady ? ImageVariants.urls(profilePath) : Map.of();
+    }
+
+    // 너비 지정 프로필 이미지 URL ("&w=160" 등을 붙여 사용, 변형 준비 여부와 무관)
+    public String getProfileImageUrl() {
+        return ImageVariants.endpointUrl(profilePath);
+    }
 }
@@ -0,0 +1,24 @@
+package io.goorm.youtube.dto.video;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 직접 업로드 완료 요청
+ * multipart 로 올린 파일은 파트별 PUT 응답의 ETag 를 전달합니다.
+ */
+@Getter
+@NoArgsConstructor
+public class DirectUploadCompleteRequest {
+    private List<CompletedPart> videoParts = new ArrayList<>();
+
+    @Getter
+    @NoArgsConstructor
+    public static class CompletedPart {
+        private int partNumber;
+        private String etag;
+    }
+}
@@ -0,0 +1,39 @@
+package io.goorm.youtube.dto.video;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 저장소 직접 업로드 요청
+ * contentMd5 (base64) 를 주면 단일 PUT URL 에 서명되어 S3 가 본문 무결성을 검사합니다.
+ * 썸네일은 선택입니다.
+ */
+@Getter
+@NoArgsConstructor
+public class DirectUploadCreateRequest {
+    @NotBlank(message = "제목을 입력해주세요")
+    private String title;
+    private String content;
+
+    @NotBlank(message = "파일명을 입력해주세요")
+    private String videoFileName;
+
+    @Positive(message = "파일 크기를 입력해주세요")
+    private long videoFileSize;
+
+    @NotBlank(message = "파일 형식을 입력해주세요")
+    private String videoContentType;
+
+    private String videoContentMd5;
+
+    private String thumbnailFileName;
+    private long thumbnailFileSize;
+    private String thumbnailContentType;
+    private String thumbnailContentMd5;
+
+    public boolean hasThumbnail() {
+        return thumbnailFileName != null && !thumbnailFileName.isBlank();
+    }
+}
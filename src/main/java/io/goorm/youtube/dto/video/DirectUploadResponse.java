@@ -0,0 +1,28 @@
+package io.goorm.youtube.dto.video;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저장소 직접 업로드 계획 (pre-signed URL 은 expiresAt 까지 유효)
+ */
+@Getter
+@NoArgsConstructor
+public class DirectUploadResponse {
+    private String uploadId;
+    private DirectUploadTarget video;
+    private DirectUploadTarget thumbnail;
+    private LocalDateTime expiresAt;
+
+    @Builder
+    private DirectUploadResponse(String uploadId, DirectUploadTarget video,
+                                 DirectUploadTarget thumbnail, LocalDateTime expiresAt) {
+        this.uploadId = uploadId;
+        this.video = video;
+        this.thumbnail = thumbnail;
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,47 @@
+package io.goorm.youtube.dto.video;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 파일 1개의 직접 업로드 방법
+ * - 단일 업로드: url 로 PUT, headers 를 그대로 함께 전송
+ * - multipart 업로드: parts 의 각 url 로 partSize 씩 잘라 PUT 하고, 응답 ETag 를 완료 요청에 전달
+ */
+@Getter
+@NoArgsConstructor
+public class DirectUploadTarget {
+    private String key;
+    private String url;
+    private Map<String, String> headers;
+    private boolean multipart;
+    private long partSize;
+    private List<Part> parts;
+
+    @Builder
+    private DirectUploadTarget(String key, String url, Map<String, String> headers,
+                               boolean multipart, long partSize, List<Part> parts) {
+        this.key = key;
+        this.url = url;
+        this.headers = headers;
+        this.multipart = multipart;
+        this.partSize = partSize;
+        this.parts = parts;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    public static class Part {
+        private int partNumber;
+        private String url;
+
+        public Part(int partNumber, String url) {
+            this.partNumber = partNumber;
+            this.url = url;
+        }
+    }
+}
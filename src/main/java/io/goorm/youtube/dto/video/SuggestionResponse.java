@@ -0,0 +1,25 @@
+package io.goorm.youtube.dto.video;
+
+import io.goorm.youtube.search.SuggestionTrie;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 검색어 자동완성 항목
+ * type 은 TITLE(동영상 제목) 또는 CHANNEL(채널명)입니다.
+ */
+@Getter
+@NoArgsConstructor
+public class SuggestionResponse {
+    private String text;
+    private SuggestionTrie.Kind type;
+
+    private SuggestionResponse(String text, SuggestionTrie.Kind type) {
+        this.text = text;
+        this.type = type;
+    }
+
+    public static SuggestionResponse of(SuggestionTrie.Suggestion suggestion) {
+        return new SuggestionResponse(suggestion.text(), suggestion.kind());
+    }
+}
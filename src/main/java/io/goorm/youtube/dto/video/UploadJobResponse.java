@@ -0,0 +1,42 @@
+package io.goorm.youtube.dto.video;
+
+import io.goorm.youtube.domain.UploadJob;
+import io.goorm.youtube.domain.UploadJobStatus;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+public class UploadJobResponse {
+    private String jobId;
+    private UploadJobStatus status;
+    private Long videoSeq;
+    private String errorMessage;
+    private LocalDateTime regAt;
+    private LocalDateTime updateAt;
+
+    @Builder
+    private UploadJobResponse(String jobId, UploadJobStatus status, Long videoSeq, String errorMessage,
+                              LocalDateTime regAt, LocalDateTime updateAt) {
+        this.jobId = jobId;
+        this.status = status;
+        this.videoSeq = videoSeq;
+        this.errorMessage = errorMessage;
+        this.regAt = regAt;
+        this.updateAt = updateAt;
+    }
+
+    public static UploadJobResponse of(UploadJob job) {
+        return UploadJobResponse.builder()
+                .jobId(job.getJobId())
+                .status(job.getStatus())
+                .videoSeq(job.getVideoSeq())
+                .errorMessage(job.getErrorMessage())
+                .regAt(job.getRegAt())
+                .updateAt(job.getUpdateAt())
+                .build();
+    }
+}
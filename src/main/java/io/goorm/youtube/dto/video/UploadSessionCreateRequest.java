@@ -0,0 +1,22 @@
+package io.goorm.youtube.dto.video;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class UploadSessionCreateRequest {
+    @NotBlank(message = "제목을 입력해주세요")
+    private String title;
+    private String content;
+
+    @NotBlank(message = "파일명을 입력해주세요")
+    private String fileName;
+
+    @Positive(message = "파일 크기를 입력해주세요")
+    private long fileSize;
+
+    private String contentType;
+}
@@ -0,0 +1,39 @@
+package io.goorm.youtube.dto.video;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 이어받기(resumable) 업로드 세션 상태
+ * offset 은 처음부터 빠짐없이 받은 바이트 수이며, 병렬 전송 시에는 missingChunks 로 남은 청크를 확인합니다.
+ */
+@Getter
+@NoArgsConstructor
+public class UploadSessionResponse {
+    private String uploadId;
+    private long fileSize;
+    private int chunkSize;
+    private long offset;
+    private int totalChunks;
+    private int receivedChunks;
+    private List<Integer> missingChunks;
+    private LocalDateTime expiresAt;
+
+    @Builder
+    private UploadSessionResponse(String uploadId, long fileSize, int chunkSize, long offset,
+                                  int totalChunks, int receivedChunks, List<Integer> missingChunks,
+                                  LocalDateTime expiresAt) {
+        this.uploadId = uploadId;
+        this.fileSize = fileSize;
+        this.chunkSize = chunkSize;
+        this.offset = offset;
+        this.totalChunks = totalChunks;
+        this.receivedChunks = receivedChunks;
+        this.missingChunks = missingChunks;
+        this.expiresAt = expiresAt;
+    }
+}
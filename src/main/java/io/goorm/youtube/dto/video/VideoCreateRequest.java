@@ -10,4 +10,12 @@ public class VideoCreateRequest {
     @NotBlank(message = "제목을 입력해주세요")
     private String title;
     private String content;
+
+    // 스트리밍 업로드처럼 요청 파라미터로 받는 경우 사용
+    public static VideoCreateRequest of(String title, String content) {
+        VideoCreateRequest request = new VideoCreateRequest();
+        request.title = title;
+        request.content = content;
+        return request;
+    }
 }
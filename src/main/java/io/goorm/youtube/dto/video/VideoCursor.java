@@ -0,0 +1,58 @@
+package io.goorm.youtube.dto.video;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋(커서) 페이징용 커서
+ * 마지막으로 조회한 비디오의 (regAt, videoSeq)를 불투명한 토큰으로 감싸 클라이언트에 전달합니다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class VideoCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime regAt;
+    private final Long videoSeq;
+
+    public static VideoCursor of(LocalDateTime regAt, Long videoSeq) {
+        return new VideoCursor(regAt, videoSeq);
+    }
+
+    /**
+     * 커서 토큰 해석
+     * @param token 클라이언트가 전달한 커서 토큰 (비어있으면 첫 페이지)
+     * @return 해석된 커서, 첫 페이지이면 null
+     * @throws IllegalArgumentException 토큰 형식이 잘못된 경우
+     */
+    public static VideoCursor decode(String token) {
+        if (!StringUtils.hasText(token)) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int index = decoded.indexOf(DELIMITER);
+            return new VideoCursor(
+                    LocalDateTime.parse(decoded.substring(0, index)),
+                    Long.parseLong(decoded.substring(index + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = regAt + DELIMITER + videoSeq;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,11 +1,15 @@
 package io.goorm.youtube.dto.video;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.goorm.youtube.domain.Video;
+import io.goorm.youtube.domain.MediaStatus;
+import io.goorm.youtube.file.ImageVariants;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 @Getter
 @NoArgsConstructor
@@ -13,38 +17,92 @@ public class VideoResponse {
     private Long videoSeq;
     private String videoPath;
     private String thumbnailPath;
+    @JsonIgnore
+    private boolean thumbnailVariantsReady;
+    // 썸네일 미리보기(BlurHash) - 변형이 만들어지기 전에는 null
+    private String thumbnailPlaceholder;
     private String memberName;
     private String title;
     private String content;
     private boolean publishYn;
+    private long viewCount;
+    private MediaStatus mediaStatus;
+    // 컨테이너 헤더에서 읽은 재생 정보 - 해석하지 않는 형식이면 null
+    private Long durationMillis;
+    private Integer width;
+    private Integer height;
+    private String codec;
+    private Long bitrate;
     private LocalDateTime regAt;
     private LocalDateTime updateAt;
 
-    @Builder
-    private VideoResponse(Long videoSeq, String videoPath, String thumbnailPath,
-                          String memberName, String title, String content,
-                          boolean publishYn, LocalDateTime regAt,
-                          LocalDateTime updateAt) {
+    // 단기 다운로드 URL (S3 는 pre-signed GET, 로컬은 저장 경로와 같음)
+    private String videoUrl;
+    private String thumbnailUrl;
+
+    // VideoRepository 의 JPQL 생성자 표현식에서도 사용
+    @Builder(toBuilder = true)
+    public VideoResponse(Long videoSeq, String videoPath, String thumbnailPath, boolean thumbnailVariantsReady,
+                         String thumbnailPlaceholder,
+                         String memberName, String title, String content,
+                         boolean publishYn, long viewCount, MediaStatus mediaStatus,
+                         Long durationMillis, Integer width, Integer height, String codec, Long bitrate,
+                         LocalDateTime regAt, LocalDateTime updateAt) {
         this.videoSeq = videoSeq;
         this.videoPath = videoPath;
         this.thumbnailPath = thumbnailPath;
+        this.thumbnailVariantsReady = thumbnailVariantsReady;
+        this.thumbnailPlaceholder = thumbnailPlaceholder;
         this.memberName = memberName;
         this.title = title;
         this.content = content;
         this.publishYn = publishYn;
+        this.viewCount = viewCount;
+        this.mediaStatus = mediaStatus;
+        this.durationMillis = durationMillis;
+        this.width = width;
+        this.height = height;
+        this.codec = codec;
+        this.bitrate = bitrate;
         this.regAt = regAt;
         this.updateAt = updateAt;
     }
 
+    // 너비별 썸네일 변형 URL (아직 만들어지지 않았으면 빈 맵 - thumbnailPath 원본을 사용)
+    public Map<Integer, String> getThumbnailVariants() {
+        return thumbnailVariantsReady ? ImageVariants.urls(thumbnailPath) : Map.of();
+    }
+
+    // 너비 지정 썸네일 URL ("&w=320" 등을 붙여 사용, 변형 준비 여부와 무관)
+    public String getThumbnailImageUrl() {
+        return ImageVariants.endpointUrl(thumbnailPath);
+    }
+
+    public VideoResponse withDownloadUrls(String videoUrl, String thumbnailUrl) {
+        VideoResponse response = toBuilder().build();
+        response.videoUrl = videoUrl;
+        response.thumbnailUrl = thumbnailUrl;
+        return response;
+    }
+
     public static VideoResponse of(Video video) {
         return VideoResponse.builder()
                 .videoSeq(video.getVideoSeq())
                 .videoPath(video.getVideoPath())
                 .thumbnailPath(video.getThumbnailPath())
+                .thumbnailVariantsReady(video.isThumbnailVariants())
+                .thumbnailPlaceholder(video.getThumbnailPlaceholder())
                 .memberName(video.getMember().getMemberName())
                 .title(video.getTitle())
                 .content(video.getContent())
                 .publishYn(video.isPublishYn())
+                .viewCount(video.getViewCount())
+                .mediaStatus(video.getMediaStatus())
+                .durationMillis(video.getDurationMillis())
+                .width(video.getWidth())
+                .height(video.getHeight())
+                .codec(video.getCodec())
+                .bitrate(video.getBitrate())
                 .regAt(video.getRegAt())
                 .updateAt(video.getUpdateAt())
                 .build();
@@ -0,0 +1,83 @@
+package io.goorm.youtube.dto.video;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.goorm.youtube.domain.MediaStatus;
+import io.goorm.youtube.domain.Video;
+import io.goorm.youtube.file.ImageVariants;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 비디오 목록용 경량 응답
+ * 목록 화면에서 쓰지 않는 content(TEXT)는 조회하지 않습니다.
+ * VideoRepository 의 JPQL 생성자 표현식으로 직접 생성됩니다.
+ */
+@Getter
+@NoArgsConstructor
+public class VideoSummaryResponse {
+    private Long videoSeq;
+    private String videoPath;
+    private String thumbnailPath;
+    @JsonIgnore
+    private boolean thumbnailVariantsReady;
+    // 썸네일 미리보기(BlurHash) - 변형이 만들어지기 전에는 null
+    private String thumbnailPlaceholder;
+    private String memberName;
+    private String title;
+    private boolean publishYn;
+    private long viewCount;
+    private MediaStatus mediaStatus;
+    private LocalDateTime regAt;
+    private LocalDateTime updateAt;
+
+    @Builder(toBuilder = true)
+    public VideoSummaryResponse(Long videoSeq, String videoPath, String thumbnailPath, boolean thumbnailVariantsReady,
+                                String thumbnailPlaceholder,
+                                String memberName, String title, boolean publishYn,
+                                long viewCount, MediaStatus mediaStatus,
+                                LocalDateTime regAt, LocalDateTime updateAt) {
+        this.videoSeq = videoSeq;
+        this.videoPath = videoPath;
+        this.thumbnailPath = thumbnailPath;
+        this.thumbnailVariantsReady = thumbnailVariantsReady;
+        this.thumbnailPlaceholder = thumbnailPlaceholder;
+        this.memberName = memberName;
+        this.title = title;
+        this.publishYn = publishYn;
+        this.viewCount = viewCount;
+        this.mediaStatus = mediaStatus;
+        this.regAt = regAt;
+        this.updateAt = updateAt;
+    }
+
+    public static VideoSummaryResponse of(Video video) {
+        return VideoSummaryResponse.builder()
+                .videoSeq(video.getVideoSeq())
+                .videoPath(video.getVideoPath())
+                .thumbnailPath(video.getThumbnailPath())
+                .thumbnailVariantsReady(video.isThumbnailVariants())
+                .thumbnailPlaceholder(video.getThumbnailPlaceholder())
+                .memberName(video.getMember().getMemberName())
+                .title(video.getTitle())
+                .publishYn(video.isPublishYn())
+                .viewCount(video.getViewCount())
+                .mediaStatus(video.getMediaStatus())
+                .regAt(video.getRegAt())
+                .updateAt(video.getUpdateAt())
+                .build();
+    }
+
+    // 너비별 썸네일 변형 URL (아직 만들어지지 않았으면 빈 맵 - thumbnailPath 원본을 사용)
+    public Map<Integer, String> getThumbnailVariants() {
+        return thumbnailVariantsReady ? ImageVariants.urls(thumbnailPath) : Map.of();
+    }
+
+    // 너비 지정 썸네일 URL ("&w=320" 등을 붙여 사용, 변형 준비 여부와 무관)
+    public String getThumbnailImageUrl() {
+        return ImageVariants.endpointUrl(thumbnailPath);
+    }
+}
@@ -97,6 +97,36 @@ public class GlobalExceptionHandler {
         return ApiResponse.error(HttpStatus.NOT_FOUND.value(), ex.getMessage());
     }
 
+    //미디어 파일 조회 실패
+    @ExceptionHandler(MediaNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ApiResponse<Void> handleMediaNotFoundException(MediaNotFoundException ex) {
+        log.error("Media not found: {}", ex.getMessage());
+        return ApiResponse.error(HttpStatus.NOT_FOUND.value(), ex.getMessage());
+    }
+
+    //업로드 세션 조회 실패
+    @ExceptionHandler(UploadSessionNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ApiResponse<Void> handleUploadSessionNotFoundException(UploadSessionNotFoundException ex) {
+        return ApiResponse.error(HttpStatus.NOT_FOUND.value(), ex.getMessage());
+    }
+
+    //업로드 작업 조회 실패
+    @ExceptionHandler(UploadJobNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ApiResponse<Void> handleUploadJobNotFoundException(UploadJobNotFoundException ex) {
+        return ApiResponse.error(HttpStatus.NOT_FOUND.value(), ex.getMessage());
+    }
+
+    //같은 조회를 기다리다 시간 초과
+    @ExceptionHandler(ReadTimeoutException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ApiResponse<Void> handleReadTimeoutException(ReadTimeoutException ex) {
+        log.warn("Read timeout: {}", ex.getMessage());
+        return ApiResponse.error(HttpStatus.SERVICE_UNAVAILABLE.value(), ex.getMessage());
+    }
+
     //회원 조회 실패
     @ExceptionHandler(MemberNotFoundException.class)
     @ResponseStatus(HttpStatus.NOT_FOUND)
@@ -0,0 +1,11 @@
+package io.goorm.youtube.exception;
+
+public class MediaNotFoundException extends RuntimeException {
+    public MediaNotFoundException(String filePath) {
+        super("미디어 파일을 찾을 수 없습니다: " + filePath);
+    }
+
+    public MediaNotFoundException(String filePath, Throwable cause) {
+        super("미디어 파일을 찾을 수 없습니다: " + filePath, cause);
+    }
+}
@@ -0,0 +1,7 @@
+package io.goorm.youtube.exception;
+
+public class ReadTimeoutException extends RuntimeException {
+    public ReadTimeoutException(String operation) {
+        super("조회가 지연되고 있습니다. 잠시 후 다시 시도해주세요: " + operation);
+    }
+}
@@ -0,0 +1,7 @@
+package io.goorm.youtube.exception;
+
+public class UploadJobNotFoundException extends RuntimeException {
+    public UploadJobNotFoundException(String jobId) {
+        super("업로드 작업을 찾을 수 없습니다: " + jobId);
+    }
+}
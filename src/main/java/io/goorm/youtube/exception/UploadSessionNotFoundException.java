@@ -0,0 +1,7 @@
+package io.goorm.youtube.exception;
+
+public class UploadSessionNotFoundException extends RuntimeException {
+    public UploadSessionNotFoundException(String uploadId) {
+        super("업로드 세션을 찾을 수 없거나 만료되었습니다: " + uploadId);
+    }
+}
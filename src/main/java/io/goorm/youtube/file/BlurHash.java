@@ -0,0 +1,114 @@
+package io.goorm.youtube.file;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * BlurHash 인코더 (https://blurha.sh)
+ *
+ * 이미지를 몇 개의 코사인 성분으로 요약한 30자 내외 문자열로 만듭니다.
+ * 클라이언트는 이 문자열만으로 흐린 미리보기를 그릴 수 있어, 썸네일을 받기 전에 첫 화면을 채울 수 있습니다.
+ * 픽셀 수에 비례해 계산하므로 작게 줄인 이미지로 호출해야 합니다.
+ */
+public final class BlurHash {
+
+    private static final String BASE83 =
+            "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz#$%*+,-.:;=?@[]^_{|}~";
+
+    private BlurHash() {
+    }
+
+    /**
+     * @param xComponents 가로 성분 수 (1~9)
+     * @param yComponents 세로 성분 수 (1~9)
+     */
+    public static String encode(BufferedImage image, int xComponents, int yComponents) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+
+        double[][] factors = new double[xComponents * yComponents][];
+        for (int j = 0; j < yComponents; j++) {
+            for (int i = 0; i < xComponents; i++) {
+                factors[j * xComponents + i] = basis(pixels, width, height, i, j);
+            }
+        }
+
+        StringBuilder hash = new StringBuilder();
+        hash.append(encode83((xComponents - 1) + (yComponents - 1) * 9, 1));
+
+        double maximumValue = 1;
+        if (factors.length > 1) {
+            double actualMaximum = 0;
+            for (int k = 1; k < factors.length; k++) {
+                for (double value : factors[k]) {
+                    actualMaximum = Math.max(actualMaximum, Math.abs(value));
+                }
+            }
+            int quantisedMaximum = (int) Math.max(0, Math.min(82, Math.floor(actualMaximum * 166 - 0.5)));
+            maximumValue = (quantisedMaximum + 1) / 166.0;
+            hash.append(encode83(quantisedMaximum, 1));
+        } else {
+            hash.append(encode83(0, 1));
+        }
+
+        hash.append(encode83(encodeDc(factors[0]), 4));
+        for (int k = 1; k < factors.length; k++) {
+            hash.append(encode83(encodeAc(factors[k], maximumValue), 2));
+        }
+        return hash.toString();
+    }
+
+    private static double[] basis(int[] pixels, int width, int height, int i, int j) {
+        double r = 0;
+        double g = 0;
+        double b = 0;
+        for (int y = 0; y < height; y++) {
+            double cosY = Math.cos(Math.PI * j * y / height);
+            for (int x = 0; x < width; x++) {
+                double factor = Math.cos(Math.PI * i * x / width) * cosY;
+                int pixel = pixels[y * width + x];
+                r += factor * srgbToLinear((pixel >> 16) & 0xff);
+                g += factor * srgbToLinear((pixel >> 8) & 0xff);
+                b += factor * srgbToLinear(pixel & 0xff);
+            }
+        }
+        double scale = (i == 0 && j == 0 ? 1.0 : 2.0) / (width * height);
+        return new double[]{r * scale, g * scale, b * scale};
+    }
+
+    private static int encodeDc(double[] value) {
+        return (linearToSrgb(value[0]) << 16) + (linearToSrgb(value[1]) << 8) + linearToSrgb(value[2]);
+    }
+
+    private static int encodeAc(double[] value, double maximumValue) {
+        int r = quantise(value[0] / maximumValue);
+        int g = quantise(value[1] / maximumValue);
+        int b = quantise(value[2] / maximumValue);
+        return r * 19 * 19 + g * 19 + b;
+    }
+
+    private static int quantise(double value) {
+        return (int) Math.max(0, Math.min(18, Math.floor(Math.copySign(Math.sqrt(Math.abs(value)), value) * 9 + 9.5)));
+    }
+
+    private static double srgbToLinear(int value) {
+        double v = value / 255.0;
+        return v <= 0.04045 ? v / 12.92 : Math.pow((v + 0.055) / 1.055, 2.4);
+    }
+
+    private static int linearToSrgb(double value) {
+        double v = Math.max(0, Math.min(1, value));
+        return v <= 0.0031308
+                ? (int) (v * 12.92 * 255 + 0.5)
+                : (int) ((1.055 * Math.pow(v, 1 / 2.4) - 0.055) * 255 + 0.5);
+    }
+
+    private static String encode83(int value, int length) {
+        char[] digits = new char[length];
+        for (int i = 1; i <= length; i++) {
+            int digit = (int) (value / Math.pow(83, length - i)) % 83;
+            digits[i - 1] = BASE83.charAt(digit);
+        }
+        return new String(digits);
+    }
+}
@@ -0,0 +1,100 @@
+package io.goorm.youtube.file;
+
+import io.goorm.youtube.exception.FileValidationException;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 읽는 동안 크기와 SHA-256 을 계산하고, 최대 크기를 넘는 즉시 중단하는 입력 스트림
+ * 업로드 본문을 한 번만 읽으면서 검증/해시를 함께 처리하기 위해 사용합니다.
+ */
+public class DigestingInputStream extends FilterInputStream {
+
+    private final MessageDigest digest;
+    private final long maxSize;
+    private final String fileType;
+    private long size;
+
+    public DigestingInputStream(InputStream in, long maxSize, String fileType) {
+        super(in);
+        this.maxSize = maxSize;
+        this.fileType = fileType;
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b != -1) {
+            digest.update((byte) b);
+            count(1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = super.read(b, off, len);
+        if (n > 0) {
+            digest.update(b, off, n);
+            count(n);
+        }
+        return n;
+    }
+
+    // 건너뛴 바이트는 해시에 포함되지 않으므로 skip 은 read 로 처리
+    @Override
+    public long skip(long n) throws IOException {
+        byte[] buffer = new byte[(int) Math.min(n, 8192)];
+        int read = read(buffer, 0, buffer.length);
+        return Math.max(read, 0);
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    private void count(int n) {
+        size += n;
+        if (size > maxSize) {
+            throw new FileValidationException(
+                    String.format("%s 파일 크기가 제한(%d bytes)을 초과합니다.", fileType, maxSize)
+            );
+        }
+    }
+
+    /**
+     * 스트림 전체의 SHA-256 (hex)
+     */
+    public static String sha256(InputStream in) throws IOException {
+        try (DigestingInputStream digesting = new DigestingInputStream(in, Long.MAX_VALUE, "")) {
+            digesting.transferTo(OutputStream.nullOutputStream());
+            return digesting.getSha256();
+        }
+    }
+
+    /**
+     * 지금까지 읽은 바이트 수
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * 지금까지 읽은 내용의 SHA-256 (hex), 스트림을 끝까지 읽은 뒤 한 번만 호출
+     */
+    public String getSha256() {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
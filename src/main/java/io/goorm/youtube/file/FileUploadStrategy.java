@@ -3,9 +3,54 @@ package io.goorm.youtube.file;
 import io.goorm.youtube.dto.FileUploadResult;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 파일 저장소
+ * 저장된 파일은 SHA-256 기준으로 한 번만 보관되며(MediaBlobStore), 업로드 1건이 참조 1개를 얻고
+ * deleteFile 1건이 참조 1개를 해제합니다. 실제 파일은 마지막 참조가 해제될 때 삭제됩니다.
+ * 커밋된 엔티티가 가리키던 파일은 deleteFile 대신 FileDeletionService 로 삭제를 예약합니다.
+ */
 public interface FileUploadStrategy {
     FileUploadResult uploadProfileImage(MultipartFile file);
     FileUploadResult uploadVideo(MultipartFile file);
     FileUploadResult uploadThumbnail(MultipartFile file);
     void deleteFile(String filePath);
-}
\ No newline at end of file
+
+    // 요청 본문 스트림을 최종 저장소에 한 번만 기록 (크기 제한, SHA-256 을 읽으면서 처리)
+    FileUploadResult uploadVideo(InputStream inputStream, String originalFilename, String contentType);
+    FileUploadResult uploadThumbnail(InputStream inputStream, String originalFilename, String contentType);
+
+    // 본문을 받기 전에 파일명(확장자) 확인 - 이어받기 업로드는 세션 생성 시, 비동기 업로드는 임시 저장 전에 거절
+    void validateVideoFileName(String originalFilename);
+    void validateThumbnailFileName(String originalFilename);
+
+    // 원본에서 만든 파생 파일(이미지 변형 등)을 지정 경로에 기록 - 참조 관리 없이 원본과 함께 삭제됨
+    void storeDerivedFile(String filePath, byte[] content, String contentType);
+
+    // 저장된 파일 크기 (bytes)
+    long getFileSize(String filePath);
+
+    // 저장된 파일의 [position, position + count) 구간을 target 으로 전송
+    void transferTo(String filePath, long position, long count, WritableByteChannel target) throws IOException;
+
+    // 참조 확인 없이 실제 파일 일괄 삭제, 삭제하지 못한 경로를 반환 (이미 없는 파일은 성공으로 봄)
+    List<String> purgeFiles(List<String> filePaths);
+
+    // 업로드 디렉토리(videos, thumbnails, profiles)의 저장 파일 순회 - 고아 파일 정리용
+    void listFiles(Consumer<StoredFile> consumer);
+
+    // 클라이언트가 직접 받을 수 있는 URL (기본은 저장 경로 그대로, S3 는 단기 pre-signed GET)
+    default String getDownloadUrl(String filePath) {
+        return filePath;
+    }
+
+    // 다운로드 URL 세대 - 조건부 GET 이 만료된 URL 을 계속 쓰게 하지 않도록 ETag 에 포함 (기본은 URL 이 바뀌지 않아 0)
+    default long getDownloadUrlVersion() {
+        return 0;
+    }
+}
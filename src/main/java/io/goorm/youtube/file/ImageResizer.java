@@ -0,0 +1,188 @@
+package io.goorm.youtube.file;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이미지 리사이즈/재인코딩 (JDK ImageIO)
+ *
+ * - 원본이 가장 큰 목표 너비의 2배를 넘으면 디코딩 단계에서 서브샘플링해 픽셀 메모리를 줄입니다.
+ *   (4000px 사진을 1280px 로 줄이려고 원본 전체를 메모리에 풀지 않음)
+ * - 절반씩 단계적으로 줄여 한 번에 크게 줄일 때 생기는 계단 현상을 줄입니다.
+ * - 원본보다 큰 너비는 확대하지 않고 원본 크기로 재인코딩합니다.
+ * - 형식은 원본과 같게 유지하며, JPEG 는 품질을 지정해 다시 압축합니다.
+ * - 가장 작은 변형에서 목록 응답에 바로 넣을 미리보기(BlurHash)를 함께 계산합니다.
+ */
+public final class ImageResizer {
+
+    private static final float JPEG_QUALITY = 0.8f;
+    private static final int PLACEHOLDER_WIDTH = 32;
+    private static final int PLACEHOLDER_X_COMPONENTS = 4;
+    private static final int PLACEHOLDER_Y_COMPONENTS = 3;
+
+    private ImageResizer() {
+    }
+
+    /**
+     * @param original 원본 이미지
+     * @param format ImageIO 형식 이름 (jpeg, png, gif)
+     * @param widths 목표 너비 (오름차순)
+     * @return 너비별 인코딩 결과와 미리보기(BlurHash)
+     * @throws IOException 디코딩/인코딩 실패 또는 지원하지 않는 이미지인 경우
+     */
+    public static Result resize(byte[] original, String format, List<Integer> widths) throws IOException {
+        int largest = widths.get(widths.size() - 1);
+        BufferedImage source = read(original, largest);
+
+        Map<Integer, byte[]> variants = new LinkedHashMap<>();
+        BufferedImage current = source;
+        for (int i = widths.size() - 1; i >= 0; i--) {  // 큰 너비부터 줄여 가며 이전 결과를 재사용
+            int width = Math.min(widths.get(i), source.getWidth());
+            current = scale(current, width, Math.max(1, Math.round((float) source.getHeight() * width / source.getWidth())));
+            variants.put(widths.get(i), write(current, format));
+        }
+
+        Map<Integer, byte[]> ordered = new LinkedHashMap<>();
+        widths.forEach(width -> ordered.put(width, variants.get(width)));
+        return new Result(ordered, placeholder(current));
+    }
+
+    /**
+     * 이미 만들어진 작은 이미지(변형)로 미리보기만 계산
+     * @throws IOException 디코딩 실패 또는 지원하지 않는 이미지인 경우
+     */
+    public static String placeholder(byte[] image) throws IOException {
+        return placeholder(read(image, PLACEHOLDER_WIDTH));
+    }
+
+    // 미리보기는 아주 작게 줄인 이미지로 계산 (픽셀 수에 비례하므로)
+    private static String placeholder(BufferedImage image) {
+        int width = Math.min(PLACEHOLDER_WIDTH, image.getWidth());
+        int height = Math.max(1, Math.round((float) image.getHeight() * width / image.getWidth()));
+        return BlurHash.encode(scale(image, width, height), PLACEHOLDER_X_COMPONENTS, PLACEHOLDER_Y_COMPONENTS);
+    }
+
+    private static BufferedImage read(byte[] original, int largestWidth) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(original))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IOException("지원하지 않는 이미지 형식입니다.");
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = reader.getWidth(0) / (largestWidth * 2);
+                if (subsampling > 1) {
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                }
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage scale(BufferedImage image, int width, int height) {
+        BufferedImage current = image;
+        while (current.getWidth() / 2 >= width) {
+            current = draw(current, current.getWidth() / 2, Math.max(1, current.getHeight() / 2), current.getType());
+        }
+        if (current.getWidth() == width && current.getHeight() == height) {
+            return current;
+        }
+        return draw(current, width, height, current.getType());
+    }
+
+    private static BufferedImage draw(BufferedImage image, int width, int height, int type) {
+        boolean alpha = image.getColorModel().hasAlpha();
+        int targetType = type == BufferedImage.TYPE_INT_RGB || type == BufferedImage.TYPE_INT_ARGB
+                ? type
+                : alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+        BufferedImage scaled = new BufferedImage(width, height, targetType);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    private static byte[] write(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        if ("jpeg".equals(format)) {
+            writeJpeg(opaque(image), output);
+        } else if (!ImageIO.write(image, format, output)) {
+            throw new IOException("이미지를 인코딩할 수 없습니다: " + format);
+        }
+        return output.toByteArray();
+    }
+
+    private static void writeJpeg(BufferedImage image, ByteArrayOutputStream output) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(output)) {
+            writer.setOutput(stream);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    // JPEG 는 알파 채널을 쓰지 못하므로 흰 배경에 합성
+    private static BufferedImage opaque(BufferedImage image) {
+        if (!image.getColorModel().hasAlpha()) {
+            return image;
+        }
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        try {
+            graphics.drawImage(image, 0, 0, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return rgb;
+    }
+
+    /**
+     * 확장자로 ImageIO 형식 이름 결정
+     */
+    public static String formatOf(String filePath) {
+        String extension = filePath.substring(filePath.lastIndexOf('.') + 1).toLowerCase();
+        return switch (extension) {
+            case "jpg", "jpeg" -> "jpeg";
+            default -> extension;
+        };
+    }
+
+    /**
+     * @param variants 너비별 인코딩 결과 (너비 오름차순)
+     * @param placeholder 미리보기 BlurHash
+     */
+    public record Result(Map<Integer, byte[]> variants, String placeholder) {
+    }
+}
@@ -0,0 +1,116 @@
+package io.goorm.youtube.file;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 이미지 변형(리사이즈본) 경로 규칙
+ *
+ * 원본 옆에 너비별 사본을 같은 형식으로 둡니다. (thumbnails/abc.png → thumbnails/abc_w320.png)
+ * 경로만으로 원본과 변형을 서로 찾을 수 있으므로 DB 에 변형 경로를 따로 저장하지 않습니다.
+ * 변형은 원본의 참조 관리(MediaBlobStore)를 따르며, 원본이 삭제될 때 함께 삭제됩니다.
+ */
+public final class ImageVariants {
+
+    // 피드 카드(160/320), 상세(640), 전체 화면(1280)
+    public static final List<Integer> WIDTHS = List.of(160, 320, 640, 1280);
+
+    // 너비 지정 조회 (ImageController)
+    public static final String ENDPOINT = "/api/images";
+
+    private static final List<String> IMAGE_EXTENSIONS = List.of("jpg", "jpeg", "png", "gif");
+    private static final Pattern VARIANT = Pattern.compile("^(.+)_w(\\d+)(\\.[^./]+)$");
+
+    private ImageVariants() {
+    }
+
+    /**
+     * 변형을 만드는 이미지 파일인지 (확장자 기준, 변형 자체는 제외)
+     */
+    public static boolean isImage(String filePath) {
+        if (filePath == null || isVariant(filePath)) {
+            return false;
+        }
+        int dot = filePath.lastIndexOf('.');
+        return dot > filePath.lastIndexOf('/')
+                && IMAGE_EXTENSIONS.contains(filePath.substring(dot + 1).toLowerCase(Locale.ROOT));
+    }
+
+    public static boolean isVariant(String filePath) {
+        Matcher matcher = VARIANT.matcher(filePath);
+        return matcher.matches() && WIDTHS.contains(Integer.parseInt(matcher.group(2)));
+    }
+
+    public static String variantPath(String filePath, int width) {
+        int dot = filePath.lastIndexOf('.');
+        return filePath.substring(0, dot) + "_w" + width + filePath.substring(dot);
+    }
+
+    /**
+     * 변형 경로면 원본 경로, 아니면 그대로
+     */
+    public static String originalPath(String filePath) {
+        Matcher matcher = VARIANT.matcher(filePath);
+        if (matcher.matches() && WIDTHS.contains(Integer.parseInt(matcher.group(2)))) {
+            return matcher.group(1) + matcher.group(3);
+        }
+        return filePath;
+    }
+
+    /**
+     * 요청 너비 이상인 가장 작은 변형 너비 (요청이 가장 큰 변형보다 크면 가장 큰 변형)
+     */
+    public static int select(int requestedWidth) {
+        for (int width : WIDTHS) {
+            if (width >= requestedWidth) {
+                return width;
+            }
+        }
+        return WIDTHS.get(WIDTHS.size() - 1);
+    }
+
+    /**
+     * 너비별 변형 URL (이미지가 아니면 빈 맵)
+     */
+    public static Map<Integer, String> urls(String filePath) {
+        if (!isImage(filePath)) {
+            return Map.of();
+        }
+        Map<Integer, String> urls = new LinkedHashMap<>();
+        WIDTHS.forEach(width -> urls.put(width, variantPath(filePath, width)));
+        return urls;
+    }
+
+    /**
+     * 너비 지정 조회 URL - 클라이언트는 "&w={너비}" 만 붙여 사용 (변형이 아직 없으면 원본으로 응답)
+     * ex) /upload/thumbnails/abc.png → /api/images?src=%2Fupload%2Fthumbnails%2Fabc.png
+     * @return 이미지가 아니면 null
+     */
+    public static String endpointUrl(String filePath) {
+        if (!isImage(filePath)) {
+            return null;
+        }
+        return ENDPOINT + "?src=" + URLEncoder.encode(filePath, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 이미지 경로에 변형 경로들을 덧붙인 목록 (원본 삭제 시 변형까지 함께 지우는 용도)
+     */
+    public static List<String> withVariants(Collection<String> filePaths) {
+        List<String> paths = new ArrayList<>(filePaths);
+        for (String filePath : filePaths) {
+            if (isImage(filePath)) {
+                WIDTHS.forEach(width -> paths.add(variantPath(filePath, width)));
+            }
+        }
+        return paths;
+    }
+}
@@ -4,20 +4,45 @@ import io.goorm.youtube.dto.FileUploadResult;
 import io.goorm.youtube.exception.FileDeleteException;
 import io.goorm.youtube.exception.FileUploadException;
 import io.goorm.youtube.exception.FileValidationException;
+import io.goorm.youtube.exception.MediaNotFoundException;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class LocalFileUploadStrategy implements FileUploadStrategy {
 
+    private static final List<String> MEDIA_DIRECTORIES = List.of("videos", "thumbnails", "profiles");
+
+    private final MediaBlobStore mediaBlobStore;
+
     @Value("${file.upload.directory}")
     private String uploadDirectory;
 
@@ -66,6 +91,55 @@ public class LocalFileUploadStrategy implements FileUploadStrategy {
         return uploadFile(file, "videos");
     }
 
+    /**
+     * 비디오 스트리밍 업로드
+     * 요청 본문을 임시 파일 없이 최종 경로에 바로 기록하며, 기록하는 동안 크기 제한과 SHA-256 을 처리합니다.
+     * @param inputStream 업로드할 비디오 본문
+     * @param originalFilename 원본 파일명 (확장자 검사용)
+     * @param contentType 파일 MIME 타입
+     * @return 파일 업로드 결과 정보
+     * @throws FileValidationException 확장자가 허용되지 않거나 크기 제한을 넘은 경우
+     * @throws FileUploadException 파일 기록 실패 시
+     */
+    public FileUploadResult uploadVideo(InputStream inputStream, String originalFilename, String contentType) {
+        validateFileExtension(originalFilename, videoAllowedExtensions, "비디오");
+        return uploadStream(inputStream, originalFilename, contentType, "videos", videoMaxSize, "비디오");
+    }
+
+    /**
+     * 썸네일 스트리밍 업로드
+     * @param inputStream 업로드할 썸네일 이미지 본문
+     * @param originalFilename 원본 파일명 (확장자 검사용)
+     * @param contentType 파일 MIME 타입
+     * @return 파일 업로드 결과 정보
+     * @throws FileValidationException 확장자가 허용되지 않거나 크기 제한을 넘은 경우
+     * @throws FileUploadException 파일 기록 실패 시
+     */
+    public FileUploadResult uploadThumbnail(InputStream inputStream, String originalFilename, String contentType) {
+        validateFileExtension(originalFilename, thumbnailAllowedExtensions, "썸네일");
+        return uploadStream(inputStream, originalFilename, contentType, "thumbnails", thumbnailMaxSize, "썸네일");
+    }
+
+    /**
+     * 비디오 파일명 확인 (본문을 받기 전)
+     * @param originalFilename 원본 파일명
+     * @throws FileValidationException 확장자가 없거나 허용되지 않는 경우
+     */
+    @Override
+    public void validateVideoFileName(String originalFilename) {
+        validateFileExtension(originalFilename, videoAllowedExtensions, "비디오");
+    }
+
+    /**
+     * 썸네일 파일명 확인 (본문을 받기 전)
+     * @param originalFilename 원본 파일명
+     * @throws FileValidationException 확장자가 없거나 허용되지 않는 경우
+     */
+    @Override
+    public void validateThumbnailFileName(String originalFilename) {
+        validateFileExtension(originalFilename, thumbnailAllowedExtensions, "썸네일");
+    }
+
     /**
      * 썸네일 이미지 업로드
      * @param file 업로드할 썸네일 이미지 파일
@@ -80,6 +154,9 @@ public class LocalFileUploadStrategy implements FileUploadStrategy {
 
     /**
      * 파일 업로드 공통 로직
+     * 동영상은 먼저 컨테이너 헤더를 확인해 깨진 파일을 기록 전에 거절합니다. (MediaProbe)
+     * 먼저 SHA-256 을 계산해 같은 내용의 파일이 이미 있으면 기록 없이 기존 파일을 재사용합니다.
+     * faststart 재배치로 내용이 바뀌면 기록한 파일의 해시로 다시 확인합니다.
      * @param file 업로드할 파일
      * @param directory 저장될 디렉토리 경로
      * @return 파일 업로드 결과 정보
@@ -88,6 +165,19 @@ public class LocalFileUploadStrategy implements FileUploadStrategy {
     private FileUploadResult uploadFile(MultipartFile file, String directory) {
         try {
             String originalFilename = file.getOriginalFilename();
+            MediaProbe.Metadata metadata = probe(originalFilename, file.getSize(),
+                    MediaProbe.reader(file::getInputStream));
+            String sha256;
+            try (InputStream in = file.getInputStream()) {
+                sha256 = DigestingInputStream.sha256(in);
+            }
+
+            Optional<String> existing = mediaBlobStore.acquire(sha256);
+            if (existing.isPresent()) {
+                return result(existing.get(), originalFilename, file.getSize(), file.getContentType(), sha256,
+                        isFaststart(existing.get(), originalFilename), metadata);
+            }
+
             String extension = getExtension(originalFilename);
             String savedFileName = UUID.randomUUID() + extension;
             String filePath = directory + "/" + savedFileName;
@@ -102,13 +192,21 @@ public class LocalFileUploadStrategy implements FileUploadStrategy {
 
             log.info("File uploaded successfully: {}", filePath);
 
-            return FileUploadResult.builder()
-                    .filePath(baseUri + "/" + filePath)
-                    .originalFileName(originalFilename)
-                    .savedFileName(savedFileName)
-                    .fileSize(file.getSize())
-                    .contentType(file.getContentType())
-                    .build();
+            if (rewriteToFaststart(dest.toPath(), originalFilename)) {
+                sha256 = sha256(dest.toPath());
+                Optional<String> rewritten = mediaBlobStore.acquire(sha256);
+                if (rewritten.isPresent()) {
+                    deleteQuietly(dest.toPath());
+                    return result(rewritten.get(), originalFilename, file.getSize(), file.getContentType(), sha256,
+                            true, metadata);
+                }
+            }
+
+            boolean faststart = isFaststart(dest.toPath(), originalFilename);
+            String storedPath = register(sha256, baseUri + "/" + filePath, dest.toPath(),
+                    file.getSize(), file.getContentType());
+            return result(storedPath, originalFilename, file.getSize(), file.getContentType(), sha256, faststart,
+                    metadata);
 
         } catch (IOException e) {
             log.error("Failed to upload file: {}", file.getOriginalFilename(), e);
@@ -117,12 +215,195 @@ public class LocalFileUploadStrategy implements FileUploadStrategy {
     }
 
     /**
-     * 파일 삭제
+     * 스트림 업로드 공통 로직 - 최종 경로에 한 번만 기록
+     * @param directory 저장될 디렉토리 경로
+     * @throws FileUploadException 파일 기록 실패 시
+     */
+    private FileUploadResult uploadStream(InputStream inputStream, String originalFilename, String contentType,
+                                          String directory, long maxSize, String fileType) {
+        String extension = getExtension(originalFilename);
+        String savedFileName = UUID.randomUUID() + extension;
+        String filePath = directory + "/" + savedFileName;
+        Path dest = Path.of(uploadDirectory, filePath);
+
+        DigestingInputStream source = new DigestingInputStream(inputStream, maxSize, fileType);
+        MediaProbe.Metadata metadata;
+        try {
+            BufferedInputStream in = new BufferedInputStream(source);
+            validateSignature(in, originalFilename, fileType);  // 기록을 시작하기 전에 확인
+            Files.createDirectories(dest.getParent());
+            Files.copy(in, dest);
+
+            if (source.getSize() == 0) {
+                throw new FileValidationException(fileType + " 파일이 비어있습니다.");
+            }
+            try (FileChannel channel = FileChannel.open(dest, StandardOpenOption.READ)) {
+                metadata = probe(originalFilename, source.getSize(), MediaProbe.reader(channel));
+            }
+        } catch (IOException e) {
+            deleteQuietly(dest);
+            log.error("Failed to upload file: {}", originalFilename, e);
+            throw new FileUploadException("파일 업로드에 실패했습니다.", e);
+        } catch (RuntimeException e) {
+            deleteQuietly(dest);  // 크기 제한 초과 등으로 중단된 경우 쓰다 만 파일 삭제
+            throw e;
+        }
+
+        // 스트림은 끝까지 읽어야 해시가 나오므로, 중복이면 방금 기록한 사본을 지우고 기존 파일을 사용
+        // faststart 재배치로 내용이 바뀌면 기록한 파일의 해시를 사용 (ETag, 내용 주소가 제공되는 바이트와 일치)
+        String sha256 = source.getSha256();
+        try {
+            if (rewriteToFaststart(dest, originalFilename)) {
+                sha256 = sha256(dest);
+            }
+        } catch (IOException e) {
+            deleteQuietly(dest);
+            log.error("Failed to upload file: {}", originalFilename, e);
+            throw new FileUploadException("파일 업로드에 실패했습니다.", e);
+        }
+
+        Optional<String> existing = mediaBlobStore.acquire(sha256);
+        if (existing.isPresent()) {
+            deleteQuietly(dest);
+            return result(existing.get(), originalFilename, source.getSize(), contentType, sha256,
+                    isFaststart(existing.get(), originalFilename), metadata);
+        }
+
+        log.info("File uploaded successfully: {} ({} bytes)", filePath, source.getSize());
+
+        boolean faststart = isFaststart(dest, originalFilename);
+        String storedPath = register(sha256, baseUri + "/" + filePath, dest, source.getSize(), contentType);
+        return result(storedPath, originalFilename, source.getSize(), contentType, sha256, faststart, metadata);
+    }
+
+    /**
+     * 컨테이너 헤더에서 재생 정보 확인, 헤더를 해석하지 않는 형식이면 null
+     * @throws FileValidationException 확장자와 내용이 맞지 않거나 헤더가 깨진 경우
+     */
+    private MediaProbe.Metadata probe(String originalFilename, long fileSize, MediaProbe.RangeReader reader)
+            throws IOException {
+        return MediaProbe.isSupported(originalFilename) ? MediaProbe.probe(originalFilename, fileSize, reader) : null;
+    }
+
+    /**
+     * 등록 전(아직 서빙되지 않은) MP4/MOV 의 moov 를 앞으로 옮김
+     * 박스 위치만 바뀌고 크기는 같지만 청크 오프셋이 바뀌므로, 재배치했다면 호출하는 쪽에서 해시를 다시 계산합니다.
+     * 재배치에 실패하면 원본을 그대로 둡니다.
+     * @return 파일 내용을 바꿨는지
+     */
+    private boolean rewriteToFaststart(Path dest, String originalFilename) {
+        if (!Mp4Faststart.isCandidate(originalFilename)) {
+            return false;
+        }
+        Path temp = dest.resolveSibling(dest.getFileName() + ".faststart.tmp");
+        try {
+            try (FileChannel source = FileChannel.open(dest, StandardOpenOption.READ)) {
+                if (Mp4Faststart.inspect(source) != Mp4Faststart.Layout.MOOV_AT_END) {
+                    return false;
+                }
+                try (FileChannel target = FileChannel.open(temp, StandardOpenOption.CREATE_NEW,
+                        StandardOpenOption.WRITE)) {
+                    if (!Mp4Faststart.rewrite(source, target)) {
+                        deleteQuietly(temp);
+                        return false;
+                    }
+                }
+            }
+            Files.move(temp, dest, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Moved moov atom to front: {}", dest.getFileName());
+            return true;
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            log.warn("faststart 재배치 실패, 원본을 그대로 사용: {}", dest.getFileName(), e);
+            return false;
+        }
+    }
+
+    // 중복 업로드로 재사용하는 기존 파일의 배치 확인
+    private boolean isFaststart(String storedPath, String originalFilename) {
+        return isFaststart(resolveFile(storedPath).toPath(), originalFilename);
+    }
+
+    private boolean isFaststart(Path file, String originalFilename) {
+        if (!Mp4Faststart.isCandidate(originalFilename)) {
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return Mp4Faststart.inspect(channel) == Mp4Faststart.Layout.FASTSTART;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static String sha256(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return DigestingInputStream.sha256(in);
+        }
+    }
+
+    /**
+     * 새로 기록한 파일을 등록, 동시에 같은 내용이 먼저 등록됐다면 방금 기록한 사본은 삭제
+     * @return 최종적으로 사용할 저장 경로
+     */
+    private String register(String sha256, String storedPath, Path written, long fileSize, String contentType) {
+        try {
+            String registeredPath = mediaBlobStore.register(sha256, storedPath, fileSize, contentType);
+            if (!registeredPath.equals(storedPath)) {
+                deleteQuietly(written);
+            }
+            return registeredPath;
+        } catch (RuntimeException e) {
+            deleteQuietly(written);
+            throw e;
+        }
+    }
+
+    private FileUploadResult result(String storedPath, String originalFilename, long fileSize,
+                                    String contentType, String sha256, boolean faststart,
+                                    MediaProbe.Metadata metadata) {
+        return FileUploadResult.builder()
+                .filePath(storedPath)
+                .originalFileName(originalFilename)
+                .savedFileName(storedPath.substring(storedPath.lastIndexOf('/') + 1))
+                .fileSize(fileSize)
+                .contentType(contentType)
+                .sha256(sha256)
+                .faststart(faststart)
+                .metadata(metadata)
+                .build();
+    }
+
+    /**
+     * 파생 파일 기록 (같은 경로가 있으면 덮어씀)
+     * 임시 파일에 쓴 뒤 옮겨서, 읽는 쪽에 쓰다 만 파일이 보이지 않게 합니다.
+     * @throws FileUploadException 파일 기록 실패 시
+     */
+    @Override
+    public void storeDerivedFile(String filePath, byte[] content, String contentType) {
+        Path dest = resolveFile(filePath).toPath();
+        Path temp = dest.resolveSibling(dest.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(dest.getParent());
+            Files.write(temp, content);
+            Files.move(temp, dest, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            throw new FileUploadException("파생 파일 기록에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 파일 참조 해제, 마지막 참조일 때만 실제 파일 삭제
      * @param filePath 삭제할 파일 경로
      * @throws FileDeleteException 파일 삭제 실패 시
      */
     public void deleteFile(String filePath) {
-        File file = new File(uploadDirectory + "/" + filePath);
+        if (!mediaBlobStore.release(filePath)) {
+            log.info("File still referenced, keeping: {}", filePath);
+            return;
+        }
+
+        File file = resolveFile(filePath);
         if (file.exists() && !file.delete()) {
             log.error("Failed to delete file: {}", filePath);
             throw new FileDeleteException("파일 삭제에 실패했습니다.");
@@ -130,6 +411,103 @@ public class LocalFileUploadStrategy implements FileUploadStrategy {
         log.info("File deleted successfully: {}", filePath);
     }
 
+    /**
+     * 실제 파일 일괄 삭제
+     * 파일마다 unlink 시스템 콜이 필요하므로 가상 스레드로 병렬 처리합니다.
+     * @return 삭제하지 못한 경로
+     */
+    @Override
+    public List<String> purgeFiles(List<String> filePaths) {
+        List<String> failed = Collections.synchronizedList(new ArrayList<>());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (String filePath : filePaths) {
+                executor.submit(() -> {
+                    try {
+                        Files.deleteIfExists(resolveFile(filePath).toPath());
+                    } catch (IOException e) {
+                        log.warn("Failed to delete file: {}", filePath, e);
+                        failed.add(filePath);
+                    }
+                });
+            }
+        }
+        return failed;
+    }
+
+    @Override
+    public void listFiles(Consumer<StoredFile> consumer) {
+        for (String directory : MEDIA_DIRECTORIES) {
+            Path root = Path.of(uploadDirectory, directory);
+            if (!Files.isDirectory(root)) {
+                continue;
+            }
+            try (Stream<Path> files = Files.list(root)) {
+                files.filter(Files::isRegularFile).forEach(file -> consumer.accept(new StoredFile(
+                        baseUri + "/" + directory + "/" + file.getFileName(), lastModified(file))));
+            } catch (IOException e) {
+                throw new UncheckedIOException("업로드 디렉토리를 읽지 못했습니다: " + root, e);
+            }
+        }
+    }
+
+    private Instant lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toInstant();
+        } catch (IOException e) {
+            return Instant.now();  // 확인할 수 없으면 최근 파일로 보고 정리 대상에서 제외
+        }
+    }
+
+    /**
+     * 저장된 파일 크기 조회
+     * @param filePath 조회할 파일 경로
+     * @return 파일 크기 (bytes)
+     * @throws MediaNotFoundException 파일이 존재하지 않을 때
+     */
+    public long getFileSize(String filePath) {
+        File file = resolveFile(filePath);
+        if (!file.isFile()) {
+            throw new MediaNotFoundException(filePath);
+        }
+        return file.length();
+    }
+
+    /**
+     * 파일의 지정 구간을 FileChannel.transferTo(sendfile)로 전송
+     * 유저 영역 버퍼 복사 없이 커널에서 바로 소켓으로 전달됩니다.
+     * @param filePath 전송할 파일 경로
+     * @param position 시작 위치
+     * @param count 전송할 바이트 수
+     * @param target 전송 대상 채널
+     */
+    public void transferTo(String filePath, long position, long count, WritableByteChannel target) throws IOException {
+        File file = resolveFile(filePath);
+        if (!file.isFile()) {
+            throw new MediaNotFoundException(filePath);
+        }
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long transferred = 0;
+            while (transferred < count) {
+                long sent = channel.transferTo(position + transferred, count - transferred, target);
+                if (sent <= 0) {
+                    break;
+                }
+                transferred += sent;
+            }
+        }
+    }
+
+    /**
+     * 저장 경로(baseUri 포함)를 실제 파일로 변환
+     */
+    private File resolveFile(String filePath) {
+        String relativePath = filePath.startsWith(baseUri + "/")
+                ? filePath.substring(baseUri.length() + 1)
+                : filePath;
+        return new File(uploadDirectory, relativePath);
+    }
+
     /**
      * 파일 유효성 검사 통합
      * @param file 검사할 파일
@@ -145,6 +523,25 @@ public class LocalFileUploadStrategy implements FileUploadStrategy {
 
         validateFileSize(file, maxSize, fileType);
         validateFileExtension(file, allowedExtensions, fileType);
+        try (InputStream in = file.getInputStream()) {
+            validateSignature(in, file.getOriginalFilename(), fileType);
+        } catch (IOException e) {
+            throw new FileUploadException("파일 업로드에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 파일 앞부분(시그니처)이 확장자의 형식과 맞는지 검사 - mark 를 지원하면 읽은 위치를 되돌림
+     */
+    private void validateSignature(InputStream in, String filename, String fileType) throws IOException {
+        in.mark(MediaProbe.SIGNATURE_LENGTH);
+        byte[] head = in.readNBytes(MediaProbe.SIGNATURE_LENGTH);
+        if (in.markSupported()) {
+            in.reset();
+        }
+        if (head.length > 0 && !MediaProbe.matchesSignature(filename, head)) {
+            throw new FileValidationException(fileType + " 파일 내용이 확장자와 일치하지 않습니다.");
+        }
     }
 
     /**
@@ -162,7 +559,14 @@ public class LocalFileUploadStrategy implements FileUploadStrategy {
      * 파일 확장자 검사
      */
     private void validateFileExtension(MultipartFile file, String allowedExtensions, String fileType) {
-        String extension = getExtension(file.getOriginalFilename()).substring(1);
+        validateFileExtension(file.getOriginalFilename(), allowedExtensions, fileType);
+    }
+
+    private void validateFileExtension(String filename, String allowedExtensions, String fileType) {
+        if (filename == null || !filename.contains(".")) {
+            throw new FileValidationException(fileType + " 파일의 확장자가 없습니다.");
+        }
+        String extension = getExtension(filename).substring(1);
         if (!Arrays.asList(allowedExtensions.split(",")).contains(extension.toLowerCase())) {
             throw new FileValidationException(
                     String.format("%s 파일의 확장자가 허용되지 않습니다. (허용: %s)", fileType, allowedExtensions)
@@ -170,6 +574,14 @@ public class LocalFileUploadStrategy implements FileUploadStrategy {
         }
     }
 
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete file: {}", path, e);
+        }
+    }
+
     /**
      * 파일명에서 확장자 추출
      */
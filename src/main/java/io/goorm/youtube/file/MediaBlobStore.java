@@ -0,0 +1,122 @@
+package io.goorm.youtube.file;
+
+import io.goorm.youtube.domain.MediaBlob;
+import io.goorm.youtube.repository.MediaBlobRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 내용 주소(SHA-256) 기반 미디어 저장소의 참조 관리
+ *
+ * FileUploadStrategy 구현체가 업로드/삭제 시 사용합니다.
+ * - 같은 해시의 파일이 이미 있으면 참조 수만 올리고 기존 경로를 돌려줍니다. (두 번째 사본을 쓰지 않음)
+ * - deleteFile 은 마지막 참조가 해제될 때만 실제 파일을 지웁니다.
+ *
+ * 참조 획득/등록은 호출 측 트랜잭션과 무관하게 즉시 커밋되도록 새 트랜잭션에서,
+ * 참조 해제는 경로를 바꾸는 트랜잭션과 함께 커밋/롤백되도록 호출 측 트랜잭션 안에서 실행합니다.
+ */
+@Slf4j
+@Component
+public class MediaBlobStore {
+
+    private final MediaBlobRepository mediaBlobRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate releaseTemplate;
+    private final MeterRegistry meterRegistry;
+
+    public MediaBlobStore(MediaBlobRepository mediaBlobRepository,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry) {
+        this.mediaBlobRepository = mediaBlobRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.releaseTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 이미 저장된 같은 내용의 파일이 있으면 참조를 하나 늘리고 그 경로를 반환
+     */
+    public Optional<String> acquire(String sha256) {
+        Optional<String> existing = transactionTemplate.execute(status ->
+                mediaBlobRepository.findForUpdate(sha256)
+                        .map(blob -> {
+                            blob.acquire();
+                            return blob.getFilePath();
+                        }));
+
+        if (existing != null && existing.isPresent()) {
+            meterRegistry.counter("media.blob.deduplicated").increment();
+            log.info("중복 업로드 - 기존 파일 재사용: {}", existing.get());
+            return existing;
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 새로 저장한 파일을 등록 (참조 1)
+     * 동시에 같은 내용이 먼저 등록된 경우 그 파일의 참조를 늘리고 경로를 반환하므로,
+     * 반환값이 filePath 와 다르면 호출 측에서 방금 저장한 사본을 지워야 합니다.
+     */
+    public String register(String sha256, String filePath, long fileSize, String contentType) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    mediaBlobRepository.save(MediaBlob.createBlob(sha256, filePath, fileSize, contentType)));
+            return filePath;
+        } catch (DataIntegrityViolationException e) {
+            return acquire(sha256).orElseThrow(() -> e);
+        }
+    }
+
+    /**
+     * 참조 하나 해제
+     * @return 실제 파일을 지워야 하면 true (마지막 참조였거나, 등록되지 않은 이전 파일인 경우)
+     */
+    public boolean release(String filePath) {
+        return !release(List.of(filePath)).isEmpty();
+    }
+
+    /**
+     * 경로마다 참조 하나씩 해제
+     * 호출 측 트랜잭션이 있으면 참여하므로, 롤백되면 참조 해제도 함께 취소됩니다.
+     * @return 더 이상 참조가 없어 실제 파일을 지워야 하는 경로 (등록되지 않은 이전 파일 포함)
+     */
+    public List<String> release(Collection<String> filePaths) {
+        if (filePaths.isEmpty()) {
+            return List.of();
+        }
+
+        return releaseTemplate.execute(status -> {
+            Map<String, MediaBlob> blobs = new HashMap<>();
+            mediaBlobRepository.findAllByFilePathInForUpdate(new HashSet<>(filePaths))
+                    .forEach(blob -> blobs.put(blob.getFilePath(), blob));
+
+            Set<String> unreferenced = new LinkedHashSet<>();
+            for (String filePath : filePaths) {
+                MediaBlob blob = blobs.get(filePath);
+                if (blob == null) {
+                    unreferenced.add(filePath);
+                } else if (blob.release()) {
+                    mediaBlobRepository.delete(blob);
+                    blobs.remove(filePath);
+                    unreferenced.add(filePath);
+                }
+            }
+            return List.copyOf(unreferenced);
+        });
+    }
+}
@@ -0,0 +1,52 @@
+package io.goorm.youtube.file;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.goorm.youtube.repository.MediaBlobRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * 저장 파일의 강한 ETag
+ *
+ * 업로드 시 계산해 MediaBlob 에 저장한 내용 해시(SHA-256)를 그대로 ETag 로 사용합니다.
+ * 저장 경로(UUID 파일명)의 내용은 바뀌지 않으므로 경로별 해시를 만료 없이 캐싱해,
+ * 재검증 요청(If-None-Match)이 DB 를 거치지 않게 합니다.
+ * 이미지 변형은 원본 해시에 너비를 붙여 사용합니다. (원본이 같으면 변형도 같음)
+ * 적중률은 cache.* (cache=mediaEtag) 메트릭으로 노출됩니다.
+ */
+@Component
+public class MediaEtags {
+
+    private final MediaBlobRepository mediaBlobRepository;
+    private final Cache<String, Optional<String>> cache;
+
+    public MediaEtags(MediaBlobRepository mediaBlobRepository,
+                      MeterRegistry meterRegistry,
+                      @Value("${file.etag-cache.maximum-size}") long maximumSize) {
+        this.mediaBlobRepository = mediaBlobRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "mediaEtag");
+    }
+
+    /**
+     * @param filePath 저장 경로 (응답의 videoPath/thumbnailPath/profilePath 또는 그 변형)
+     * @return 따옴표 없는 ETag 값 (해시가 등록되지 않은 파일이면 null)
+     */
+    public String get(String filePath) {
+        String originalPath = ImageVariants.originalPath(filePath);
+        String sha256 = cache.get(originalPath, mediaBlobRepository::findSha256ByFilePath).orElse(null);
+        if (sha256 == null || originalPath.equals(filePath)) {
+            return sha256;
+        }
+        // thumbnails/abc_w320.png → {sha256}-w320
+        return sha256 + "-" + filePath.substring(filePath.lastIndexOf('_') + 1, filePath.lastIndexOf('.'));
+    }
+}
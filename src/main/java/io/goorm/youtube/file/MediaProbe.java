@@ -0,0 +1,439 @@
+package io.goorm.youtube.file;
+
+import io.goorm.youtube.exception.FileValidationException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 동영상 컨테이너 헤더에서 재생 정보(길이, 해상도, 코덱, 비트레이트) 추출
+ *
+ * - 파일 전체를 읽지 않고 위치 지정 읽기(RangeReader)로 필요한 헤더만 읽습니다.
+ *   MP4/MOV 는 최상위 box 헤더를 훑은 뒤 moov 하나만(MAX_HEADER_SIZE 이하), AVI 는 hdrl 목록만 읽습니다.
+ * - 확장자와 내용의 시작 바이트(시그니처)가 맞지 않거나 구조가 깨진 파일은 FileValidationException 으로 거절합니다.
+ * - WMV 등 해석하지 않는 형식은 시그니처만 확인하고 빈 Metadata 를 돌려줍니다.
+ */
+public final class MediaProbe {
+
+    // 시그니처 확인에 필요한 앞부분 길이 (ASF GUID 16 bytes)
+    public static final int SIGNATURE_LENGTH = 16;
+
+    private static final Set<String> ISO_EXTENSIONS = Set.of("mp4", "m4v", "mov");
+    // MP4/MOV 가 시작할 수 있는 최상위 box (오래된 QuickTime 은 ftyp 없이 시작)
+    private static final Set<String> ISO_LEADING_BOXES = Set.of("ftyp", "moov", "mdat", "wide", "free", "skip", "pnot");
+    // moov 안에서 비디오 트랙 정보까지 내려가는 경로의 컨테이너 box
+    private static final Set<String> CONTAINERS = Set.of("trak", "mdia", "minf", "stbl");
+    private static final int MAX_HEADER_SIZE = 32 * 1024 * 1024;
+    private static final int MAX_AVI_HEADER_SIZE = 256 * 1024;
+    private static final byte[] ASF_GUID = {
+            0x30, 0x26, (byte) 0xB2, 0x75, (byte) 0x8E, 0x66, (byte) 0xCF, 0x11,
+            (byte) 0xA6, (byte) 0xD9, 0x00, (byte) 0xAA, 0x00, 0x62, (byte) 0xCE, 0x6C};
+
+    /**
+     * @param durationMillis 재생 길이 (ms)
+     * @param bitrate 평균 비트레이트 (bps, 파일 크기 / 재생 길이)
+     */
+    public record Metadata(Long durationMillis, Integer width, Integer height, String codec, Long bitrate) {
+        public static final Metadata EMPTY = new Metadata(null, null, null, null, null);
+    }
+
+    /**
+     * [position, position + length) 구간 읽기 - 파일 끝이면 length 보다 짧게 돌려줌
+     */
+    @FunctionalInterface
+    public interface RangeReader {
+        byte[] read(long position, int length) throws IOException;
+    }
+
+    /**
+     * 처음부터 다시 열 수 있는 스트림 (MultipartFile::getInputStream)
+     */
+    @FunctionalInterface
+    public interface StreamSource {
+        InputStream open() throws IOException;
+    }
+
+    private MediaProbe() {
+    }
+
+    /**
+     * 헤더를 해석하는 형식인지 (확장자 기준)
+     */
+    public static boolean isSupported(String filename) {
+        String extension = extension(filename);
+        return ISO_EXTENSIONS.contains(extension) || "avi".equals(extension);
+    }
+
+    /**
+     * 앞부분 바이트가 확장자의 형식과 맞는지 - 시그니처를 알지 못하는 확장자는 true
+     * @param head 파일 앞부분 (SIGNATURE_LENGTH 까지, 더 짧은 파일이면 전체)
+     */
+    public static boolean matchesSignature(String filename, byte[] head) {
+        String extension = extension(filename);
+        if (ISO_EXTENSIONS.contains(extension)) {
+            return head.length >= 8 && ISO_LEADING_BOXES.contains(ascii(head, 4, 4));
+        }
+        return switch (extension) {
+            case "avi" -> riff(head, "AVI ");
+            case "wmv" -> head.length >= ASF_GUID.length
+                    && Arrays.equals(head, 0, ASF_GUID.length, ASF_GUID, 0, ASF_GUID.length);
+            case "jpg", "jpeg" -> startsWith(head, 0xFF, 0xD8, 0xFF);
+            case "png" -> startsWith(head, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A);
+            case "gif" -> startsWith(head, 'G', 'I', 'F', '8');
+            default -> true;
+        };
+    }
+
+    /**
+     * 시그니처를 확인하고 컨테이너 헤더를 해석
+     * @param size 파일 크기 (bytes)
+     * @throws FileValidationException 확장자와 내용이 맞지 않거나 헤더 구조가 깨진 경우
+     */
+    public static Metadata probe(String filename, long size, RangeReader reader) throws IOException {
+        if (!matchesSignature(filename, reader.read(0, SIGNATURE_LENGTH))) {
+            throw new FileValidationException(
+                    String.format("파일 내용이 확장자(.%s)와 일치하지 않습니다.", extension(filename)));
+        }
+        String extension = extension(filename);
+        if (ISO_EXTENSIONS.contains(extension)) {
+            return probeIso(size, reader);
+        }
+        if ("avi".equals(extension)) {
+            return probeAvi(size, reader);
+        }
+        return Metadata.EMPTY;
+    }
+
+    public static RangeReader reader(FileChannel channel) {
+        return (position, length) -> {
+            ByteBuffer buffer = ByteBuffer.allocate((int) Math.max(0, Math.min(length, channel.size() - position)));
+            long offset = position;
+            while (buffer.hasRemaining()) {
+                int read = channel.read(buffer, offset);
+                if (read < 0) {
+                    break;
+                }
+                offset += read;
+            }
+            return Arrays.copyOf(buffer.array(), buffer.position());
+        };
+    }
+
+    /**
+     * 읽을 때마다 스트림을 새로 열어 position 까지 skip (파일 기반 스트림은 skip 이 탐색이라 본문을 읽지 않음)
+     */
+    public static RangeReader reader(StreamSource source) {
+        return (position, length) -> {
+            try (InputStream in = source.open()) {
+                long skipped = 0;
+                while (skipped < position) {
+                    long n = in.skip(position - skipped);
+                    if (n <= 0) {
+                        if (in.read() < 0) {
+                            return new byte[0];
+                        }
+                        n = 1;
+                    }
+                    skipped += n;
+                }
+                return in.readNBytes(length);
+            }
+        };
+    }
+
+    // ---- MP4 / MOV (ISO BMFF, big-endian) ----
+
+    private static Metadata probeIso(long size, RangeReader reader) throws IOException {
+        long offset = 0;
+        while (offset < size) {
+            byte[] header = reader.read(offset, 16);
+            if (header.length < 8) {
+                throw corrupt();
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(header);
+            long boxSize = Integer.toUnsignedLong(buffer.getInt(0));
+            String type = ascii(header, 4, 4);
+            int headerSize = 8;
+            if (boxSize == 1) {
+                if (header.length < 16) {
+                    throw corrupt();
+                }
+                boxSize = buffer.getLong(8);
+                headerSize = 16;
+            } else if (boxSize == 0) {
+                boxSize = size - offset;
+            }
+            if (boxSize < headerSize || offset + boxSize > size) {
+                throw corrupt();
+            }
+
+            if ("moov".equals(type)) {
+                if (boxSize > MAX_HEADER_SIZE) {
+                    return Metadata.EMPTY;  // 정상 범위를 넘는 색인은 해석하지 않음
+                }
+                byte[] moov = reader.read(offset + headerSize, (int) (boxSize - headerSize));
+                if (moov.length != boxSize - headerSize) {
+                    throw corrupt();
+                }
+                return parseMoov(ByteBuffer.wrap(moov), size);
+            }
+            offset += boxSize;
+        }
+        throw corrupt();  // 재생 색인(moov)이 없음
+    }
+
+    private static Metadata parseMoov(ByteBuffer moov, long fileSize) {
+        Long durationMillis = null;
+        Track video = null;
+        int offset = 0;
+        int end = moov.limit();
+        while (offset < end) {
+            Box box = box(moov, offset, end);
+            if ("mvhd".equals(box.type())) {
+                durationMillis = mvhdDuration(moov, box);
+            } else if ("trak".equals(box.type()) && video == null) {
+                Track track = new Track();
+                parseTrack(moov, box.body(), box.end(), track);
+                if ("vide".equals(track.handler)) {
+                    video = track;
+                }
+            }
+            offset = box.end();
+        }
+        if (durationMillis == null) {
+            throw corrupt();
+        }
+
+        Long bitrate = durationMillis > 0 ? fileSize * 8_000 / durationMillis : null;
+        if (video == null) {
+            return new Metadata(durationMillis, null, null, null, bitrate);  // 오디오만 있는 파일
+        }
+        return new Metadata(durationMillis, video.width, video.height, video.codec, bitrate);
+    }
+
+    // trak 아래 tkhd(표시 크기), hdlr(트랙 종류), stsd(코덱, 부호화 크기)
+    private static void parseTrack(ByteBuffer buffer, int start, int end, Track track) {
+        int offset = start;
+        while (offset < end) {
+            Box box = box(buffer, offset, end);
+            switch (box.type()) {
+                case "tkhd" -> {
+                    if (box.end() - box.body() >= 84) {  // 마지막 8 bytes 가 16.16 고정소수점 너비/높이
+                        track.width = positive(buffer.getInt(box.end() - 8) >>> 16);
+                        track.height = positive(buffer.getInt(box.end() - 4) >>> 16);
+                    }
+                }
+                case "hdlr" -> {
+                    if (box.end() - box.body() >= 12) {
+                        track.handler = ascii(buffer, box.body() + 8);
+                    }
+                }
+                case "stsd" -> parseSampleDescription(buffer, box, track);
+                default -> {
+                    if (CONTAINERS.contains(box.type())) {
+                        parseTrack(buffer, box.body(), box.end(), track);
+                    }
+                }
+            }
+            offset = box.end();
+        }
+    }
+
+    private static void parseSampleDescription(ByteBuffer buffer, Box stsd, Track track) {
+        int entry = stsd.body() + 8;  // version/flags, entry_count 다음 첫 항목
+        if (entry + 8 > stsd.end()) {
+            return;
+        }
+        track.codec = ascii(buffer, entry + 4).trim();
+        if (entry + 36 <= stsd.end()) {  // VisualSampleEntry 의 width/height
+            if (track.width == null) {
+                track.width = positive(Short.toUnsignedInt(buffer.getShort(entry + 32)));
+            }
+            if (track.height == null) {
+                track.height = positive(Short.toUnsignedInt(buffer.getShort(entry + 34)));
+            }
+        }
+    }
+
+    private static Long mvhdDuration(ByteBuffer buffer, Box mvhd) {
+        int body = mvhd.body();
+        boolean wide = buffer.get(body) == 1;
+        if (body + (wide ? 32 : 20) > mvhd.end()) {
+            throw corrupt();
+        }
+        long timescale = Integer.toUnsignedLong(buffer.getInt(body + (wide ? 20 : 12)));
+        long duration = wide ? buffer.getLong(body + 24) : Integer.toUnsignedLong(buffer.getInt(body + 16));
+        if (timescale == 0) {
+            throw corrupt();
+        }
+        return duration * 1000 / timescale;
+    }
+
+    private static Box box(ByteBuffer buffer, int offset, int end) {
+        if (offset + 8 > end) {
+            throw corrupt();
+        }
+        long size = Integer.toUnsignedLong(buffer.getInt(offset));
+        String type = ascii(buffer, offset + 4);
+        int headerSize = 8;
+        if (size == 1) {
+            if (offset + 16 > end) {
+                throw corrupt();
+            }
+            size = buffer.getLong(offset + 8);
+            headerSize = 16;
+        } else if (size == 0) {
+            size = end - offset;
+        }
+        if (size < headerSize || offset + size > end) {
+            throw corrupt();
+        }
+        return new Box(type, offset + headerSize, (int) (offset + size));
+    }
+
+    // ---- AVI (RIFF, little-endian) ----
+
+    private static Metadata probeAvi(long size, RangeReader reader) throws IOException {
+        // RIFF 'AVI ' 다음 첫 청크가 LIST 'hdrl'
+        byte[] listHeader = reader.read(12, 12);
+        if (listHeader.length < 12 || !"LIST".equals(ascii(listHeader, 0, 4))
+                || !"hdrl".equals(ascii(listHeader, 8, 4))) {
+            throw corrupt();
+        }
+        long listSize = Integer.toUnsignedLong(le(listHeader).getInt(4));
+        if (listSize < 4 || 20 + listSize > size + 1) {  // 홀수 크기의 패딩 1 byte 허용
+            throw corrupt();
+        }
+        int length = (int) Math.min(listSize - 4, MAX_AVI_HEADER_SIZE);
+        ByteBuffer hdrl = le(reader.read(24, length));
+
+        Long durationMillis = null;
+        Integer width = null;
+        Integer height = null;
+        String codec = null;
+        int offset = 0;
+        while (offset + 8 <= hdrl.limit()) {
+            String id = ascii(hdrl, offset);
+            int chunkSize = hdrl.getInt(offset + 4);
+            int body = offset + 8;
+            if (chunkSize < 0 || body + chunkSize > hdrl.limit()) {
+                break;  // 읽은 범위를 넘는 뒤쪽 청크는 해석하지 않음
+            }
+            if ("avih".equals(id) && chunkSize >= 40) {
+                long microsPerFrame = Integer.toUnsignedLong(hdrl.getInt(body));
+                long totalFrames = Integer.toUnsignedLong(hdrl.getInt(body + 16));
+                durationMillis = microsPerFrame * totalFrames / 1000;
+                width = positive(hdrl.getInt(body + 32));
+                height = positive(hdrl.getInt(body + 36));
+            } else if ("LIST".equals(id) && chunkSize >= 4 && "strl".equals(ascii(hdrl, body)) && codec == null) {
+                codec = aviStreamCodec(hdrl, body + 4, body + chunkSize);
+            }
+            offset = body + chunkSize + (chunkSize & 1);
+        }
+        if (durationMillis == null) {
+            throw corrupt();
+        }
+
+        Long bitrate = durationMillis > 0 ? size * 8_000 / durationMillis : null;
+        return new Metadata(durationMillis, width, height, codec, bitrate);
+    }
+
+    // strl 의 strh(fccType=vids, fccHandler), 없으면 strf(BITMAPINFOHEADER.biCompression)
+    private static String aviStreamCodec(ByteBuffer buffer, int start, int end) {
+        String handler = null;
+        int offset = start;
+        while (offset + 8 <= end) {
+            String id = ascii(buffer, offset);
+            int chunkSize = buffer.getInt(offset + 4);
+            int body = offset + 8;
+            if (chunkSize < 0 || body + chunkSize > end) {
+                break;
+            }
+            if ("strh".equals(id) && chunkSize >= 8) {
+                if (!"vids".equals(ascii(buffer, body))) {
+                    return null;  // 첫 스트림이 비디오가 아님
+                }
+                handler = fourcc(buffer, body + 4);
+            } else if ("strf".equals(id) && chunkSize >= 20 && handler == null) {
+                handler = fourcc(buffer, body + 16);
+            }
+            offset = body + chunkSize + (chunkSize & 1);
+        }
+        return handler;
+    }
+
+    // ---- 공통 ----
+
+    private static FileValidationException corrupt() {
+        return new FileValidationException("동영상 파일이 손상되었거나 형식이 올바르지 않습니다.");
+    }
+
+    private static String extension(String filename) {
+        if (filename == null || filename.lastIndexOf('.') < 0) {
+            return "";
+        }
+        return filename.substring(filename.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean riff(byte[] head, String form) {
+        return head.length >= 12 && "RIFF".equals(ascii(head, 0, 4)) && form.equals(ascii(head, 8, 4));
+    }
+
+    private static boolean startsWith(byte[] head, int... signature) {
+        if (head.length < signature.length) {
+            return false;
+        }
+        for (int i = 0; i < signature.length; i++) {
+            if ((head[i] & 0xff) != signature[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 0 으로 채워진(trim 후 비어있는) FourCC 는 값이 없는 것으로 봄
+    private static String fourcc(ByteBuffer buffer, int offset) {
+        String value = ascii(buffer, offset).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static Integer positive(int value) {
+        return value > 0 ? value : null;
+    }
+
+    private static ByteBuffer le(byte[] bytes) {
+        return ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static String ascii(ByteBuffer buffer, int offset) {
+        char[] chars = new char[4];
+        for (int i = 0; i < 4; i++) {
+            chars[i] = (char) (buffer.get(offset + i) & 0xff);
+        }
+        return new String(chars);
+    }
+
+    private static String ascii(byte[] bytes, int offset, int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) (bytes[offset + i] & 0xff);
+        }
+        return new String(chars);
+    }
+
+    private record Box(String type, int body, int end) {
+    }
+
+    private static final class Track {
+        private String handler;
+        private Integer width;
+        private Integer height;
+        private String codec;
+    }
+}
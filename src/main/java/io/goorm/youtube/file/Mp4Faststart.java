@@ -0,0 +1,277 @@
+package io.goorm.youtube.file;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * MP4/MOV faststart 재배치 (ISO BMFF box 구조)
+ *
+ * 재생에 필요한 색인(moov)이 미디어 데이터(mdat) 뒤에 있으면 플레이어는 파일 끝을 먼저 받아야 재생을 시작할 수 있습니다.
+ * moov 를 첫 mdat 앞으로 옮기고, 그만큼 밀려난 청크 위치(stco/co64)를 고쳐 씁니다.
+ *
+ * - 최상위 box 는 헤더(8/16 bytes)만 위치 지정 읽기로 훑고 본문은 읽지 않습니다.
+ * - 메모리에 올리는 것은 moov 하나뿐이며(MAX_MOOV_SIZE 이하), 나머지는 FileChannel.transferTo 로 그대로 복사합니다.
+ *   파일 크기와 무관하게 사용하는 메모리가 정해져 있습니다.
+ * - 조각화된 MP4(moof), 32비트 stco 가 넘치는 경우 등은 UNSUPPORTED 로 두고 원본을 그대로 사용합니다.
+ */
+public final class Mp4Faststart {
+
+    private static final Set<String> EXTENSIONS = Set.of("mp4", "m4v", "mov");
+    // moov 안에서 stco/co64 까지 내려가는 경로의 컨테이너 box
+    private static final Set<String> CONTAINERS = Set.of("moov", "trak", "mdia", "minf", "stbl");
+    private static final int MAX_MOOV_SIZE = 64 * 1024 * 1024;
+    private static final long MAX_UINT32 = 0xFFFFFFFFL;
+
+    public enum Layout {
+        FASTSTART,    // moov 가 첫 mdat 앞에 있음
+        MOOV_AT_END,  // 재배치 대상
+        UNSUPPORTED   // MP4 구조가 아니거나 처리하지 않는 구조
+    }
+
+    private Mp4Faststart() {
+    }
+
+    /**
+     * 재배치를 시도할 파일인지 (확장자 기준)
+     */
+    public static boolean isCandidate(String filename) {
+        if (filename == null || filename.lastIndexOf('.') < 0) {
+            return false;
+        }
+        return EXTENSIONS.contains(filename.substring(filename.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT));
+    }
+
+    public static Layout inspect(FileChannel channel) throws IOException {
+        List<Box> boxes = topLevelBoxes(channel);
+        return boxes == null ? Layout.UNSUPPORTED : layout(boxes);
+    }
+
+    /**
+     * 스트림으로 최상위 box 배치만 확인 (본문은 skip)
+     */
+    public static Layout inspect(InputStream in) throws IOException {
+        boolean mdatSeen = false;
+        byte[] header = new byte[16];
+        while (true) {
+            if (in.readNBytes(header, 0, 8) < 8) {
+                return Layout.UNSUPPORTED;  // moov 없이 끝남
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(header);
+            long size = Integer.toUnsignedLong(buffer.getInt(0));
+            String type = type(buffer, 4);
+            int headerSize = 8;
+            if (size == 1) {
+                if (in.readNBytes(header, 8, 8) < 8) {
+                    return Layout.UNSUPPORTED;
+                }
+                size = buffer.getLong(8);
+                headerSize = 16;
+            }
+
+            switch (type) {
+                case "moov":
+                    return mdatSeen ? Layout.MOOV_AT_END : Layout.FASTSTART;
+                case "mdat":
+                    mdatSeen = true;
+                    break;
+                case "moof":
+                    return Layout.UNSUPPORTED;
+                default:
+                    break;
+            }
+            if (size == 0 || size < headerSize) {
+                return Layout.UNSUPPORTED;  // 파일 끝까지인 box 뒤에는 moov 가 없음
+            }
+            try {
+                in.skipNBytes(size - headerSize);
+            } catch (EOFException e) {
+                return Layout.UNSUPPORTED;
+            }
+        }
+    }
+
+    /**
+     * moov 를 첫 mdat 앞으로 옮긴 파일을 target 에 기록 (source 는 MOOV_AT_END 여야 함)
+     * @return 처리하지 않는 구조라 기록하지 않았으면 false
+     */
+    public static boolean rewrite(FileChannel source, FileChannel target) throws IOException {
+        List<Box> boxes = topLevelBoxes(source);
+        if (boxes == null || layout(boxes) != Layout.MOOV_AT_END) {
+            return false;
+        }
+        Box moov = find(boxes, "moov");
+        Box mdat = find(boxes, "mdat");
+        if (moov.size() > MAX_MOOV_SIZE) {
+            return false;
+        }
+
+        ByteBuffer moovBytes = ByteBuffer.allocate((int) moov.size());
+        readFully(source, moovBytes, moov.offset());
+        // 첫 mdat 부터 moov 직전까지가 moov 크기만큼 뒤로 밀림
+        if (!shiftChunkOffsets(moovBytes, moov.headerSize(), (int) moov.size(),
+                mdat.offset(), moov.offset(), moov.size())) {
+            return false;
+        }
+
+        long position = transfer(source, 0, mdat.offset(), target, 0);
+        moovBytes.rewind();
+        while (moovBytes.hasRemaining()) {
+            position += target.write(moovBytes, position);
+        }
+        position = transfer(source, mdat.offset(), moov.offset() - mdat.offset(), target, position);
+        long tail = moov.offset() + moov.size();
+        transfer(source, tail, source.size() - tail, target, position);
+        return true;
+    }
+
+    private static Layout layout(List<Box> boxes) {
+        Box moov = find(boxes, "moov");
+        Box mdat = find(boxes, "mdat");
+        if (moov == null || mdat == null) {
+            return Layout.UNSUPPORTED;
+        }
+        if (moov.offset() < mdat.offset()) {
+            return Layout.FASTSTART;
+        }
+        return find(boxes, "moof") == null ? Layout.MOOV_AT_END : Layout.UNSUPPORTED;
+    }
+
+    // 최상위 box 목록 (크기가 맞지 않으면 null)
+    private static List<Box> topLevelBoxes(FileChannel channel) throws IOException {
+        long fileSize = channel.size();
+        List<Box> boxes = new ArrayList<>();
+        ByteBuffer header = ByteBuffer.allocate(16);
+        long offset = 0;
+        while (offset < fileSize) {
+            if (fileSize - offset < 8) {
+                return null;
+            }
+            header.clear().limit(8);
+            readFully(channel, header, offset);
+            long size = Integer.toUnsignedLong(header.getInt(0));
+            String type = type(header, 4);
+            int headerSize = 8;
+            if (size == 1) {
+                header.limit(16).position(8);
+                readFully(channel, header, offset + 8);
+                size = header.getLong(8);
+                headerSize = 16;
+            } else if (size == 0) {
+                size = fileSize - offset;
+            }
+            if (size < headerSize || offset + size > fileSize) {
+                return null;
+            }
+            boxes.add(new Box(type, offset, size, headerSize));
+            offset += size;
+        }
+        return boxes;
+    }
+
+    /**
+     * moov 안의 stco/co64 청크 위치 중 [from, to) 를 가리키는 값에 delta 를 더함
+     * @return stco 가 32비트를 넘게 되면 false
+     */
+    private static boolean shiftChunkOffsets(ByteBuffer buffer, int start, int end,
+                                             long from, long to, long delta) {
+        int offset = start;
+        while (offset + 8 <= end) {
+            long size = Integer.toUnsignedLong(buffer.getInt(offset));
+            String type = type(buffer, offset + 4);
+            int headerSize = 8;
+            if (size == 1) {
+                if (offset + 16 > end) {
+                    return false;
+                }
+                size = buffer.getLong(offset + 8);
+                headerSize = 16;
+            } else if (size == 0) {
+                size = end - offset;
+            }
+            if (size < headerSize || offset + size > end) {
+                return false;
+            }
+
+            int body = offset + headerSize;
+            if (CONTAINERS.contains(type)) {
+                if (!shiftChunkOffsets(buffer, body, (int) (offset + size), from, to, delta)) {
+                    return false;
+                }
+            } else if ("stco".equals(type) || "co64".equals(type)) {
+                boolean wide = "co64".equals(type);
+                if (size < headerSize + 8) {
+                    return false;
+                }
+                long count = Integer.toUnsignedLong(buffer.getInt(body + 4));  // version/flags 다음
+                int entries = body + 8;
+                if (entries + count * (wide ? 8 : 4) > offset + size) {
+                    return false;
+                }
+                for (int i = 0; i < count; i++) {
+                    int at = entries + i * (wide ? 8 : 4);
+                    long chunkOffset = wide ? buffer.getLong(at) : Integer.toUnsignedLong(buffer.getInt(at));
+                    if (chunkOffset < from || chunkOffset >= to) {
+                        continue;
+                    }
+                    chunkOffset += delta;
+                    if (wide) {
+                        buffer.putLong(at, chunkOffset);
+                    } else if (chunkOffset > MAX_UINT32) {
+                        return false;
+                    } else {
+                        buffer.putInt(at, (int) chunkOffset);
+                    }
+                }
+            }
+            offset += (int) size;
+        }
+        return true;
+    }
+
+    private static long transfer(FileChannel source, long from, long count, FileChannel target, long position)
+            throws IOException {
+        long done = 0;
+        while (done < count) {
+            target.position(position + done);
+            long transferred = source.transferTo(from + done, count - done, target);
+            if (transferred <= 0) {
+                throw new EOFException("MP4 복사 중 원본이 끝났습니다.");
+            }
+            done += transferred;
+        }
+        return position + count;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        long offset = position;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, offset);
+            if (read < 0) {
+                throw new EOFException("MP4 box 를 끝까지 읽지 못했습니다.");
+            }
+            offset += read;
+        }
+    }
+
+    private static Box find(List<Box> boxes, String type) {
+        return boxes.stream().filter(box -> box.type().equals(type)).findFirst().orElse(null);
+    }
+
+    private static String type(ByteBuffer buffer, int offset) {
+        char[] chars = new char[4];
+        for (int i = 0; i < 4; i++) {
+            chars[i] = (char) (buffer.get(offset + i) & 0xff);
+        }
+        return new String(chars);
+    }
+
+    private record Box(String type, long offset, long size, int headerSize) {
+    }
+}
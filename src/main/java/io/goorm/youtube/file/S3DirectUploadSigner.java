@@ -0,0 +1,180 @@
+package io.goorm.youtube.file;
+
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.S3Object;
+import io.goorm.youtube.dto.video.DirectUploadTarget;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 클라이언트가 앱 서버를 거치지 않고 S3 에 직접 올리고 받도록 pre-signed URL 을 발급
+ *
+ * - 단일 PUT URL, 또는 multipart upload 를 시작하고 파트별 PUT URL 을 발급합니다.
+ * - 서명에는 Content-Type, (주어진 경우) Content-MD5, public-read ACL, Cache-Control 이 포함되므로
+ *   클라이언트는 응답의 headers 를 그대로 보내야 합니다.
+ */
+@Slf4j
+@Component
+@Profile("aws")
+public class S3DirectUploadSigner {
+
+    private static final String ACL_HEADER = "x-amz-acl";
+    // 키가 UUID 라 내용이 바뀌지 않으므로 immutable 로 캐싱
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    private final AmazonS3 amazonS3;
+    private final String bucket;
+    private final long partSize;
+
+    public S3DirectUploadSigner(AmazonS3 amazonS3,
+                                @Value("${cloud.aws.s3.bucket}") String bucket,
+                                @Value("${file.s3.part-size}") long partSize) {
+        this.amazonS3 = amazonS3;
+        this.bucket = bucket;
+        this.partSize = partSize;
+    }
+
+    public long getPartSize() {
+        return partSize;
+    }
+
+    /**
+     * 단일 PUT URL 발급
+     */
+    public PresignedUpload presignPut(String key, String contentType, String contentMd5, Date expiration) {
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, key, HttpMethod.PUT)
+                .withExpiration(expiration)
+                .withContentType(contentType);
+        request.putCustomRequestHeader(ACL_HEADER, CannedAccessControlList.PublicRead.toString());
+        request.putCustomRequestHeader(Headers.CACHE_CONTROL, IMMUTABLE_CACHE_CONTROL);
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put(Headers.CONTENT_TYPE, contentType);
+        headers.put(ACL_HEADER, CannedAccessControlList.PublicRead.toString());
+        headers.put(Headers.CACHE_CONTROL, IMMUTABLE_CACHE_CONTROL);
+        if (contentMd5 != null) {
+            request.setContentMd5(contentMd5);
+            headers.put(Headers.CONTENT_MD5, contentMd5);
+        }
+
+        return new PresignedUpload(DirectUploadTarget.builder()
+                .key(key)
+                .url(amazonS3.generatePresignedUrl(request).toString())
+                .headers(headers)
+                .multipart(false)
+                .build(), null);
+    }
+
+    /**
+     * multipart upload 를 시작하고 partSize 단위 파트별 PUT URL 발급
+     */
+    public PresignedUpload presignMultipart(String key, long fileSize, String contentType, Date expiration) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        metadata.setCacheControl(IMMUTABLE_CACHE_CONTROL);
+        String uploadId = amazonS3.initiateMultipartUpload(
+                new InitiateMultipartUploadRequest(bucket, key, metadata)
+                        .withCannedACL(CannedAccessControlList.PublicRead)).getUploadId();
+
+        int partCount = (int) ((fileSize + partSize - 1) / partSize);
+        List<DirectUploadTarget.Part> parts = new ArrayList<>(partCount);
+        for (int partNumber = 1; partNumber <= partCount; partNumber++) {
+            GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, key, HttpMethod.PUT)
+                    .withExpiration(expiration);
+            request.addRequestParameter("uploadId", uploadId);
+            request.addRequestParameter("partNumber", String.valueOf(partNumber));
+            parts.add(new DirectUploadTarget.Part(partNumber, amazonS3.generatePresignedUrl(request).toString()));
+        }
+
+        return new PresignedUpload(DirectUploadTarget.builder()
+                .key(key)
+                .headers(Map.of())
+                .multipart(true)
+                .partSize(partSize)
+                .parts(parts)
+                .build(), uploadId);
+    }
+
+    public void completeMultipart(String key, String uploadId, List<PartETag> partETags) {
+        amazonS3.completeMultipartUpload(new CompleteMultipartUploadRequest(bucket, key, uploadId, partETags));
+    }
+
+    /**
+     * HEAD 로 업로드된 객체 메타데이터 조회, 아직 없으면 empty
+     */
+    public Optional<ObjectMetadata> head(String key) {
+        try {
+            return Optional.of(amazonS3.getObjectMetadata(bucket, key));
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) {
+                return Optional.empty();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 업로드된 객체의 [position, position + length) 구간 (범위 GET) - 컨테이너 헤더 확인용
+     */
+    public byte[] read(String key, long position, int length) throws IOException {
+        GetObjectRequest request = new GetObjectRequest(bucket, key).withRange(position, position + length - 1);
+        try (S3Object object = amazonS3.getObject(request)) {
+            return object.getObjectContent().readNBytes(length);
+        }
+    }
+
+    /**
+     * 단기 다운로드 URL (pre-signed GET)
+     */
+    public String presignDownload(String key, Date expiration) {
+        return amazonS3.generatePresignedUrl(bucket, key, expiration, HttpMethod.GET).toString();
+    }
+
+    // DB 에 저장하는 경로 (다른 업로드 경로와 같은 S3 URL 형식)
+    public String storedPath(String key) {
+        return amazonS3.getUrl(bucket, key).toString();
+    }
+
+    public void abortQuietly(String key, String uploadId) {
+        try {
+            amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, key, uploadId));
+        } catch (Exception e) {
+            log.warn("S3 multipart upload 중단 실패: {} ({})", key, uploadId, e);
+        }
+    }
+
+    public void deleteQuietly(String key) {
+        try {
+            amazonS3.deleteObject(bucket, key);
+        } catch (Exception e) {
+            log.warn("S3 객체 삭제 실패: {}", key, e);
+        }
+    }
+
+    /**
+     * 발급한 업로드 방법 + multipart uploadId (서버에서만 보관, 단일 PUT 이면 null)
+     */
+    public record PresignedUpload(DirectUploadTarget target, String multipartUploadId) {
+    }
+}
@@ -1,12 +1,23 @@
 package io.goorm.youtube.file;
 
+import com.amazonaws.HttpMethod;
 import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
 import io.goorm.youtube.dto.FileUploadResult;
 import io.goorm.youtube.exception.FileDeleteException;
 import io.goorm.youtube.exception.FileValidationException;
 import io.goorm.youtube.exception.FileUploadException;
+import io.goorm.youtube.exception.MediaNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -14,12 +25,26 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
-import java.io.FileOutputStream;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 @Slf4j
 @Component
@@ -27,7 +52,14 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class S3FileUploadStrategy implements FileUploadStrategy {
 
+    private static final List<String> MEDIA_DIRECTORIES = List.of("videos", "thumbnails", "profiles");
+    private static final int MAX_DELETE_KEYS = 1000;
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+    private static final String SHA256_METADATA = "sha256";
+
     private final AmazonS3Client amazonS3Client;
+    private final S3MultipartUploader multipartUploader;
+    private final MediaBlobStore mediaBlobStore;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
@@ -35,6 +67,9 @@ public class S3FileUploadStrategy implements FileUploadStrategy {
     @Value("${file.upload.uri}")
     private String baseUri;
 
+    @Value("${file.s3.download-url-ttl-seconds}")
+    private long downloadUrlTtlSeconds;
+
     @Value("${file.profile.max-size}")
     private long profileMaxSize;
 
@@ -65,6 +100,119 @@ public class S3FileUploadStrategy implements FileUploadStrategy {
         return uploadToS3(file, "videos");
     }
 
+    /**
+     * 비디오 스트리밍 업로드
+     * 요청 본문을 임시 파일 없이 S3 multipart upload 로 바로 전송합니다. (S3MultipartUploader)
+     * 크기 제한을 넘거나 실패하면 업로드를 abort 합니다.
+     */
+    @Override
+    public FileUploadResult uploadVideo(InputStream inputStream, String originalFilename, String contentType) {
+        validateFileExtension(originalFilename, videoAllowedExtensions, "비디오");
+        return uploadStreamToS3(inputStream, originalFilename, contentType, "videos", videoMaxSize, "비디오");
+    }
+
+    @Override
+    public FileUploadResult uploadThumbnail(InputStream inputStream, String originalFilename, String contentType) {
+        validateFileExtension(originalFilename, thumbnailAllowedExtensions, "썸네일");
+        return uploadStreamToS3(inputStream, originalFilename, contentType, "thumbnails", thumbnailMaxSize, "썸네일");
+    }
+
+    @Override
+    public void validateVideoFileName(String originalFilename) {
+        validateFileExtension(originalFilename, videoAllowedExtensions, "비디오");
+    }
+
+    @Override
+    public void validateThumbnailFileName(String originalFilename) {
+        validateFileExtension(originalFilename, thumbnailAllowedExtensions, "썸네일");
+    }
+
+    private FileUploadResult uploadStreamToS3(InputStream inputStream, String originalFilename, String contentType,
+                                              String directory, long maxSize, String fileType) {
+        String extension = getExtension(originalFilename);
+        String key = directory + "/" + UUID.randomUUID() + extension;
+
+        DigestingInputStream source = new DigestingInputStream(inputStream, maxSize, fileType);
+        try {
+            BufferedInputStream in = new BufferedInputStream(source);
+            validateSignature(in, originalFilename, fileType);  // multipart upload 를 시작하기 전에 확인
+            if (multipartUploader.upload(bucket, key, metadata(contentType, null),
+                    CannedAccessControlList.PublicRead, in) == 0) {
+                throw new FileValidationException(fileType + " 파일이 비어있습니다.");
+            }
+        } catch (IOException e) {
+            log.error("S3 스트리밍 업로드 실패: {}", originalFilename, e);
+            throw new FileUploadException("파일 업로드에 실패했습니다.", e);
+        }
+
+        // 본문은 이미 S3 에 있으므로 헤더 구간만 범위 GET 으로 읽어 확인
+        MediaProbe.Metadata metadata;
+        try {
+            metadata = probe(originalFilename, source.getSize(),
+                    (position, length) -> readRange(key, position, length));
+        } catch (IOException e) {
+            deleteObjectQuietly(key);
+            throw new FileUploadException("파일 업로드에 실패했습니다.", e);
+        } catch (RuntimeException e) {
+            deleteObjectQuietly(key);
+            throw e;
+        }
+
+        // 스트림은 끝까지 읽어야 해시가 나오므로, 중복이면 방금 올린 객체를 지우고 기존 객체를 사용
+        String sha256 = source.getSha256();
+        Optional<String> existing = mediaBlobStore.acquire(sha256);
+        if (existing.isPresent()) {
+            deleteObjectQuietly(key);
+            return result(existing.get(), originalFilename, source.getSize(), contentType, sha256, false, metadata);
+        }
+
+        log.info("S3 스트리밍 업로드 성공: {} ({} bytes)", key, source.getSize());
+
+        String storedPath = register(sha256, key, source.getSize(), contentType);
+        return result(storedPath, originalFilename, source.getSize(), contentType, sha256, false, metadata);
+    }
+
+    /**
+     * 새로 올린 객체를 등록, 동시에 같은 내용이 먼저 등록됐다면 방금 올린 객체는 삭제
+     * @return 최종적으로 사용할 저장 경로 (S3 URL)
+     */
+    private String register(String sha256, String key, long fileSize, String contentType) {
+        String storedPath = amazonS3Client.getUrl(bucket, key).toString();
+        try {
+            String registeredPath = mediaBlobStore.register(sha256, storedPath, fileSize, contentType);
+            if (!registeredPath.equals(storedPath)) {
+                deleteObjectQuietly(key);
+            }
+            return registeredPath;
+        } catch (RuntimeException e) {
+            deleteObjectQuietly(key);
+            throw e;
+        }
+    }
+
+    private FileUploadResult result(String storedPath, String originalFilename, long fileSize,
+                                    String contentType, String sha256, boolean faststart,
+                                    MediaProbe.Metadata metadata) {
+        return FileUploadResult.builder()
+                .filePath(storedPath)
+                .originalFileName(originalFilename)
+                .savedFileName(storedPath.substring(storedPath.lastIndexOf('/') + 1))
+                .fileSize(fileSize)
+                .contentType(contentType)
+                .sha256(sha256)
+                .faststart(faststart)
+                .metadata(metadata)
+                .build();
+    }
+
+    private void deleteObjectQuietly(String key) {
+        try {
+            amazonS3Client.deleteObject(bucket, key);
+        } catch (Exception e) {
+            log.warn("S3 객체 삭제 실패: {}", key, e);
+        }
+    }
+
     @Override
     public FileUploadResult uploadThumbnail(MultipartFile file) {
         validateFile(file, thumbnailMaxSize, thumbnailAllowedExtensions, "썸네일");
@@ -78,6 +226,22 @@ public class S3FileUploadStrategy implements FileUploadStrategy {
 
         validateFileSize(file, maxSize, fileType);
         validateFileExtension(file, allowedExtensions, fileType);
+        try (InputStream in = file.getInputStream()) {
+            validateSignature(in, file.getOriginalFilename(), fileType);
+        } catch (IOException e) {
+            throw new FileUploadException("파일 업로드에 실패했습니다.", e);
+        }
+    }
+
+    private void validateSignature(InputStream in, String filename, String fileType) throws IOException {
+        in.mark(MediaProbe.SIGNATURE_LENGTH);
+        byte[] head = in.readNBytes(MediaProbe.SIGNATURE_LENGTH);
+        if (in.markSupported()) {
+            in.reset();
+        }
+        if (head.length > 0 && !MediaProbe.matchesSignature(filename, head)) {
+            throw new FileValidationException(fileType + " 파일 내용이 확장자와 일치하지 않습니다.");
+        }
     }
 
     private void validateFileSize(MultipartFile file, long maxSize, String fileType) {
@@ -89,7 +253,14 @@ public class S3FileUploadStrategy implements FileUploadStrategy {
     }
 
     private void validateFileExtension(MultipartFile file, String allowedExtensions, String fileType) {
-        String extension = getExtension(file.getOriginalFilename()).substring(1);
+        validateFileExtension(file.getOriginalFilename(), allowedExtensions, fileType);
+    }
+
+    private void validateFileExtension(String filename, String allowedExtensions, String fileType) {
+        if (filename == null || !filename.contains(".")) {
+            throw new FileValidationException(fileType + " 파일의 확장자가 없습니다.");
+        }
+        String extension = getExtension(filename).substring(1);
         if (!Arrays.asList(allowedExtensions.split(",")).contains(extension.toLowerCase())) {
             throw new FileValidationException(
                     String.format("%s 파일의 확장자가 허용되지 않습니다. (허용: %s)", fileType, allowedExtensions)
@@ -101,29 +272,39 @@ public class S3FileUploadStrategy implements FileUploadStrategy {
         return filename.substring(filename.lastIndexOf("."));
     }
 
+    /**
+     * 동영상은 먼저 컨테이너 헤더를 확인해 깨진 파일을 S3 전송 전에 거절합니다. (MediaProbe)
+     * 먼저 SHA-256 을 계산해 같은 내용의 객체가 이미 있으면 업로드 없이 기존 객체를 재사용합니다.
+     */
     private FileUploadResult uploadToS3(MultipartFile file, String directory) {
         try {
-            File convertFile = convertMultiPartToFile(file)
-                    .orElseThrow(() -> new FileUploadException("파일 변환에 실패했습니다.", new IOException()));
-
             String originalFilename = file.getOriginalFilename();
-            String extension = getExtension(originalFilename);
-            String savedFileName = UUID.randomUUID() + extension;
-            String filePath = directory + "/" + savedFileName;
+            MediaProbe.Metadata metadata = probe(originalFilename, file.getSize(),
+                    MediaProbe.reader(file::getInputStream));
+            String sha256;
+            try (InputStream in = file.getInputStream()) {
+                sha256 = DigestingInputStream.sha256(in);
+            }
+            boolean faststart = isFaststart(file);
+
+            Optional<String> existing = mediaBlobStore.acquire(sha256);
+            if (existing.isPresent()) {
+                return result(existing.get(), originalFilename, file.getSize(), file.getContentType(), sha256,
+                        faststart, metadata);
+            }
 
-            // S3 업로드
-            String s3Url = uploadFileToS3(convertFile, filePath);
+            String extension = getExtension(originalFilename);
+            String filePath = directory + "/" + UUID.randomUUID() + extension;
 
-            // 로컬 임시 파일 삭제
-            removeLocalFile(convertFile);
+            // 임시 파일 없이 업로드 파트를 바로 S3 파트로 나눠 병렬 전송
+            try (InputStream in = file.getInputStream()) {
+                multipartUploader.upload(bucket, filePath, metadata(file.getContentType(), sha256),
+                        CannedAccessControlList.PublicRead, in);
+            }
 
-            return FileUploadResult.builder()
-                    .filePath(s3Url)
-                    .originalFileName(originalFilename)
-                    .savedFileName(savedFileName)
-                    .fileSize(file.getSize())
-                    .contentType(file.getContentType())
-                    .build();
+            String storedPath = register(sha256, filePath, file.getSize(), file.getContentType());
+            return result(storedPath, originalFilename, file.getSize(), file.getContentType(), sha256, faststart,
+                    metadata);
 
         } catch (IOException e) {
             log.error("S3 파일 업로드 실패: {}", file.getOriginalFilename(), e);
@@ -131,47 +312,199 @@ public class S3FileUploadStrategy implements FileUploadStrategy {
         }
     }
 
-    private Optional<File> convertMultiPartToFile(MultipartFile file) throws IOException {
-        File convertFile = File.createTempFile(
-                UUID.randomUUID().toString(),
-                file.getOriginalFilename()
-        );
+    /**
+     * 컨테이너 헤더에서 재생 정보 확인, 헤더를 해석하지 않는 형식이면 null
+     * @throws FileValidationException 확장자와 내용이 맞지 않거나 헤더가 깨진 경우
+     */
+    private MediaProbe.Metadata probe(String originalFilename, long fileSize, MediaProbe.RangeReader reader)
+            throws IOException {
+        return MediaProbe.isSupported(originalFilename) ? MediaProbe.probe(originalFilename, fileSize, reader) : null;
+    }
+
+    private byte[] readRange(String key, long position, int length) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(length);
+        transferTo(key, position, length, Channels.newChannel(out));
+        return out.toByteArray();
+    }
 
-        try (FileOutputStream fos = new FileOutputStream(convertFile)) {
-            fos.write(file.getBytes());
+    /**
+     * 파트를 바로 S3 로 보내므로 moov 재배치는 하지 않고, 최상위 box 헤더만 읽어 배치를 확인
+     */
+    private boolean isFaststart(MultipartFile file) throws IOException {
+        if (!Mp4Faststart.isCandidate(file.getOriginalFilename())) {
+            return false;
         }
+        try (InputStream in = file.getInputStream()) {
+            return Mp4Faststart.inspect(in) == Mp4Faststart.Layout.FASTSTART;
+        }
+    }
 
-        return Optional.of(convertFile);
+    /**
+     * 객체 메타데이터 - 키가 UUID 라 내용이 바뀌지 않으므로 immutable 로 캐싱
+     * @param sha256 업로드 전에 계산한 내용 해시 (스트리밍 업로드는 끝나야 나오므로 null, MediaBlob 에만 저장)
+     */
+    private ObjectMetadata metadata(String contentType, String sha256) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        if (contentType != null) {
+            metadata.setContentType(contentType);
+        }
+        metadata.setCacheControl(IMMUTABLE_CACHE_CONTROL);
+        if (sha256 != null) {
+            metadata.addUserMetadata(SHA256_METADATA, sha256);
+        }
+        return metadata;
     }
 
-    private String uploadFileToS3(File file, String fileName) {
+    /**
+     * 파생 파일을 원본과 같은 공개 읽기 권한으로 업로드
+     */
+    @Override
+    public void storeDerivedFile(String filePath, byte[] content, String contentType) {
+        ObjectMetadata metadata = metadata(contentType, null);
+        metadata.setContentLength(content.length);
         try {
-            amazonS3Client.putObject(new PutObjectRequest(bucket, fileName, file)
+            amazonS3Client.putObject(new PutObjectRequest(bucket, resolveKey(filePath),
+                    new ByteArrayInputStream(content), metadata)
                     .withCannedAcl(CannedAccessControlList.PublicRead));
-
-            return amazonS3Client.getUrl(bucket, fileName).toString();
         } catch (Exception e) {
-            log.error("S3 업로드 중 오류 발생", e);
-            throw new FileUploadException("S3 업로드에 실패했습니다.", e);
-        }
-    }
-
-    private void removeLocalFile(File file) {
-        if (file.delete()) {
-            log.info("임시 파일 삭제 성공: {}", file.getName());
-        } else {
-            log.warn("임시 파일 삭제 실패: {}", file.getName());
+            log.error("S3 파생 파일 업로드 실패: {}", filePath, e);
+            throw new FileUploadException("파생 파일 기록에 실패했습니다.", e);
         }
     }
 
+    /**
+     * 참조 해제, 마지막 참조일 때만 S3 객체 삭제
+     */
     @Override
     public void deleteFile(String filePath) {
+        if (!mediaBlobStore.release(filePath)) {
+            log.info("다른 곳에서 참조 중인 파일이라 유지합니다: {}", filePath);
+            return;
+        }
+
         try {
-            amazonS3Client.deleteObject(bucket, filePath);
+            amazonS3Client.deleteObject(bucket, resolveKey(filePath));
             log.info("S3에서 파일 삭제 성공: {}", filePath);
         } catch (Exception e) {
             log.error("S3 파일 삭제 실패: {}", filePath, e);
             throw new FileDeleteException("파일 삭제에 실패했습니다.");
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * DeleteObjects 요청 1회에 최대 1000개씩 일괄 삭제
+     * @return 삭제하지 못한 경로
+     */
+    @Override
+    public List<String> purgeFiles(List<String> filePaths) {
+        List<String> failed = new ArrayList<>();
+        for (int from = 0; from < filePaths.size(); from += MAX_DELETE_KEYS) {
+            List<String> batch = filePaths.subList(from, Math.min(from + MAX_DELETE_KEYS, filePaths.size()));
+            Map<String, String> pathByKey = new HashMap<>();
+            batch.forEach(filePath -> pathByKey.put(resolveKey(filePath), filePath));
+
+            try {
+                amazonS3Client.deleteObjects(new DeleteObjectsRequest(bucket)
+                        .withKeys(pathByKey.keySet().toArray(String[]::new))
+                        .withQuiet(true));
+            } catch (MultiObjectDeleteException e) {
+                for (MultiObjectDeleteException.DeleteError error : e.getErrors()) {
+                    log.warn("S3 파일 삭제 실패: {} ({})", error.getKey(), error.getCode());
+                    failed.add(pathByKey.get(error.getKey()));
+                }
+            } catch (Exception e) {
+                log.warn("S3 일괄 삭제 실패: {}건", batch.size(), e);
+                failed.addAll(batch);
+            }
+        }
+        return failed;
+    }
+
+    @Override
+    public void listFiles(Consumer<StoredFile> consumer) {
+        for (String directory : MEDIA_DIRECTORIES) {
+            ListObjectsV2Request request = new ListObjectsV2Request()
+                    .withBucketName(bucket)
+                    .withPrefix(directory + "/");
+            ListObjectsV2Result result;
+            do {
+                result = amazonS3Client.listObjectsV2(request);
+                for (S3ObjectSummary summary : result.getObjectSummaries()) {
+                    consumer.accept(new StoredFile(amazonS3Client.getUrl(bucket, summary.getKey()).toString(),
+                            summary.getLastModified().toInstant()));
+                }
+                request.setContinuationToken(result.getNextContinuationToken());
+            } while (result.isTruncated());
+        }
+    }
+
+    @Override
+    public long getFileSize(String filePath) {
+        try {
+            return amazonS3Client.getObjectMetadata(bucket, resolveKey(filePath)).getContentLength();
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) {
+                throw new MediaNotFoundException(filePath, e);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 요청 구간만 Range GET 으로 받아 전달합니다. 객체 전체를 내려받지 않습니다.
+     */
+    @Override
+    public void transferTo(String filePath, long position, long count, WritableByteChannel target) throws IOException {
+        if (count <= 0) {
+            return;
+        }
+
+        GetObjectRequest request = new GetObjectRequest(bucket, resolveKey(filePath))
+                .withRange(position, position + count - 1);
+
+        try (S3Object object = amazonS3Client.getObject(request);
+             ReadableByteChannel source = Channels.newChannel(object.getObjectContent())) {
+            ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+            while (source.read(buffer) != -1) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    target.write(buffer);
+                }
+                buffer.clear();
+            }
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) {
+                throw new MediaNotFoundException(filePath, e);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 단기 pre-signed GET URL
+     */
+    @Override
+    public String getDownloadUrl(String filePath) {
+        if (filePath == null) {
+            return null;
+        }
+        Date expiration = Date.from(Instant.now().plusSeconds(downloadUrlTtlSeconds));
+        return amazonS3Client.generatePresignedUrl(bucket, resolveKey(filePath), expiration, HttpMethod.GET).toString();
+    }
+
+    /**
+     * 유효 시간의 절반마다 바뀜 - 304 로 재사용하는 URL 도 최소 절반의 유효 시간이 남음
+     */
+    @Override
+    public long getDownloadUrlVersion() {
+        return System.currentTimeMillis() / Math.max(1, downloadUrlTtlSeconds * 1000 / 2);
+    }
+
+    /**
+     * 저장 경로(S3 URL 또는 key)를 S3 object key 로 변환
+     */
+    private String resolveKey(String filePath) {
+        String path = filePath.contains("://") ? URI.create(filePath).getPath() : filePath;
+        return path.startsWith("/") ? path.substring(1) : path;
+    }
+}
@@ -0,0 +1,228 @@
+package io.goorm.youtube.file;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import io.goorm.youtube.exception.FileUploadException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 입력 스트림을 고정 크기 파트로 나눠 S3 multipart upload 로 병렬 전송
+ *
+ * - 임시 파일 없이 스트림에서 파트를 읽어 바로 전송합니다.
+ * - 업로드 1건에서 동시에 전송 중인 파트 수는 upload-concurrency 로 제한되므로
+ *   업로드 1건의 메모리 사용량은 part-size × upload-concurrency 이내입니다.
+ * - 파트 단위로 재시도하며, 한 파트라도 최종 실패하거나 입력 스트림에서 예외가 나면
+ *   남은 전송을 취소하고 업로드를 abort 해 S3 에 파트가 남지 않게 합니다.
+ */
+@Slf4j
+@Component
+@Profile("aws")
+public class S3MultipartUploader {
+
+    private static final long RETRY_BACKOFF_MILLIS = 200;
+
+    private final AmazonS3 amazonS3;
+    private final int partSize;
+    private final int concurrency;
+    private final int maxRetries;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public S3MultipartUploader(AmazonS3 amazonS3,
+                               @Value("${file.s3.part-size}") int partSize,
+                               @Value("${file.s3.upload-concurrency}") int concurrency,
+                               @Value("${file.s3.part-max-retries}") int maxRetries) {
+        this.amazonS3 = amazonS3;
+        this.partSize = partSize;
+        this.concurrency = concurrency;
+        this.maxRetries = maxRetries;
+    }
+
+    /**
+     * 스트림 전체를 bucket/key 로 업로드
+     * @return 업로드한 바이트 수, 스트림이 비어 있으면 업로드를 abort 하고 0
+     * @throws FileUploadException 파트 전송이 재시도 후에도 실패한 경우
+     * @throws RuntimeException 입력 스트림에서 발생한 예외 (크기 제한 초과 등) 는 abort 후 그대로 전달
+     */
+    public long upload(String bucket, String key, ObjectMetadata metadata,
+                       CannedAccessControlList acl, InputStream inputStream) throws IOException {
+        String uploadId = amazonS3.initiateMultipartUpload(
+                new InitiateMultipartUploadRequest(bucket, key, metadata).withCannedACL(acl)).getUploadId();
+
+        Semaphore inFlightParts = new Semaphore(concurrency);
+        List<Future<PartETag>> parts = new ArrayList<>();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        long totalBytes = 0;
+        try {
+            int partNumber = 1;
+            while (failure.get() == null) {
+                inFlightParts.acquire();
+                byte[] buffer;
+                try {
+                    buffer = inputStream.readNBytes(partSize);
+                } catch (IOException | RuntimeException e) {
+                    inFlightParts.release();
+                    throw e;
+                }
+                if (buffer.length == 0) {
+                    inFlightParts.release();
+                    break;
+                }
+
+                totalBytes += buffer.length;
+                int number = partNumber++;
+                parts.add(executor.submit(() -> {
+                    try {
+                        return uploadPart(bucket, key, uploadId, number, buffer, failure);
+                    } catch (RuntimeException e) {
+                        failure.compareAndSet(null, e);
+                        throw e;
+                    } finally {
+                        inFlightParts.release();
+                    }
+                }));
+            }
+
+            List<PartETag> partETags = awaitParts(parts);
+            if (partETags.isEmpty()) {
+                abortQuietly(bucket, key, uploadId);
+                return 0;
+            }
+
+            partETags.sort(Comparator.comparingInt(PartETag::getPartNumber));
+            amazonS3.completeMultipartUpload(new CompleteMultipartUploadRequest(bucket, key, uploadId, partETags));
+            log.debug("S3 multipart upload 완료: {} ({} parts, {} bytes)", key, partETags.size(), totalBytes);
+            return totalBytes;
+
+        } catch (InterruptedException e) {
+            failure.compareAndSet(null, e);
+            drain(parts);
+            abortQuietly(bucket, key, uploadId);
+            Thread.currentThread().interrupt();
+            throw new FileUploadException("파일 업로드가 중단되었습니다.", e);
+        } catch (IOException | RuntimeException e) {
+            failure.compareAndSet(null, e);
+            drain(parts);
+            abortQuietly(bucket, key, uploadId);
+            throw e;
+        }
+    }
+
+    private List<PartETag> awaitParts(List<Future<PartETag>> parts) throws InterruptedException {
+        List<PartETag> partETags = new ArrayList<>(parts.size());
+        for (Future<PartETag> part : parts) {
+            try {
+                partETags.add(part.get());
+            } catch (ExecutionException e) {
+                throw new FileUploadException("S3 파트 업로드에 실패했습니다.", e.getCause());
+            }
+        }
+        return partETags;
+    }
+
+    /**
+     * 파트 1개 전송, 일시적인 오류는 지수 백오프로 재시도
+     * 다른 파트나 입력 스트림에서 이미 실패한 경우 전송하지 않습니다.
+     */
+    private PartETag uploadPart(String bucket, String key, String uploadId, int partNumber, byte[] data,
+                                AtomicReference<Throwable> failure) {
+        for (int attempt = 0; ; attempt++) {
+            if (failure.get() != null) {
+                throw new FileUploadException("파일 업로드가 중단되었습니다.", failure.get());
+            }
+            try {
+                return amazonS3.uploadPart(new UploadPartRequest()
+                        .withBucketName(bucket)
+                        .withKey(key)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partNumber)
+                        .withInputStream(new ByteArrayInputStream(data))
+                        .withPartSize(data.length)).getPartETag();
+            } catch (AmazonClientException e) {
+                if (attempt >= maxRetries || !isRetryable(e)) {
+                    throw e;
+                }
+                log.warn("S3 파트 업로드 재시도: {} part={} attempt={} ({})",
+                        key, partNumber, attempt + 1, e.getMessage());
+                sleep(RETRY_BACKOFF_MILLIS << attempt);
+            }
+        }
+    }
+
+    // 4xx(권한, 잘못된 uploadId 등)는 재시도해도 결과가 같으므로 5xx/네트워크 오류만 재시도
+    private boolean isRetryable(AmazonClientException e) {
+        if (e instanceof AmazonServiceException serviceException) {
+            return serviceException.getStatusCode() >= 500;
+        }
+        return e.isRetryable();
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FileUploadException("파일 업로드가 중단되었습니다.", e);
+        }
+    }
+
+    /**
+     * 전송 중인 파트가 모두 끝날 때까지 대기 (abort 이후에 파트가 올라가면 S3 에 남으므로 abort 전에 호출)
+     * 실패가 기록된 뒤에는 아직 시작하지 않은 파트가 전송 없이 바로 끝납니다.
+     */
+    private void drain(List<Future<PartETag>> parts) {
+        boolean interrupted = Thread.interrupted();
+        for (Future<PartETag> part : parts) {
+            while (true) {
+                try {
+                    part.get();
+                    break;
+                } catch (ExecutionException e) {
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void abortQuietly(String bucket, String key, String uploadId) {
+        try {
+            amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, key, uploadId));
+        } catch (Exception e) {
+            log.warn("S3 multipart upload 중단 실패: {} ({})", key, uploadId, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
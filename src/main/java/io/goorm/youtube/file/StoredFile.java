@@ -0,0 +1,9 @@
+package io.goorm.youtube.file;
+
+import java.time.Instant;
+
+/**
+ * 저장소에 있는 파일 (filePath 는 DB 에 저장하는 경로 형식)
+ */
+public record StoredFile(String filePath, Instant lastModified) {
+}
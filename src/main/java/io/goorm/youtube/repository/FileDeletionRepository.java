@@ -0,0 +1,16 @@
+package io.goorm.youtube.repository;
+
+import io.goorm.youtube.domain.FileDeletion;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface FileDeletionRepository extends JpaRepository<FileDeletion, Long> {
+
+    @Query("select d from FileDeletion d where d.nextAttemptAt <= :now order by d.nextAttemptAt, d.deletionSeq")
+    List<FileDeletion> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+}
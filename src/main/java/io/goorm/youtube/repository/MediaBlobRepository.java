@@ -0,0 +1,28 @@
+package io.goorm.youtube.repository;
+
+import io.goorm.youtube.domain.MediaBlob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface MediaBlobRepository extends JpaRepository<MediaBlob, String> {
+
+    //참조 수 변경은 행 잠금 후 처리 (마지막 참조 해제와 새 참조가 엇갈리지 않도록)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from MediaBlob b where b.sha256 = :sha256")
+    Optional<MediaBlob> findForUpdate(@Param("sha256") String sha256);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from MediaBlob b where b.filePath in :filePaths")
+    List<MediaBlob> findAllByFilePathInForUpdate(@Param("filePaths") Collection<String> filePaths);
+
+    //정적 파일 응답의 ETag 용 - 저장 경로의 내용 해시
+    @Query("select b.sha256 from MediaBlob b where b.filePath = :filePath")
+    Optional<String> findSha256ByFilePath(@Param("filePath") String filePath);
+}
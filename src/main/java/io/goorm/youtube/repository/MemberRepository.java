@@ -1,11 +1,26 @@
 package io.goorm.youtube.repository;
 
 import io.goorm.youtube.domain.Member;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findByMemberId(String memberId);
     boolean existsByMemberId(String memberId);
+
+    // 이미지 변형 생성 완료 표시용 - 프로필 경로가 같은 회원 (중복 업로드는 같은 경로를 공유)
+    List<Member> findAllByProfilePath(String profilePath);
+
+    // 프로필 미리보기 백필용 - 미리보기가 없는 프로필 경로를 경로 순 키셋 조회
+    @Query("select distinct m.profilePath from Member m " +
+            "where m.profilePath > :after and m.profilePlaceholder is null order by m.profilePath")
+    List<String> findProfilePathsWithoutPlaceholderAfter(@Param("after") String after, Pageable pageable);
+
+    @Query("select count(distinct m.profilePath) from Member m where m.profilePlaceholder is null")
+    long countProfilePathsWithoutPlaceholder();
 }
\ No newline at end of file
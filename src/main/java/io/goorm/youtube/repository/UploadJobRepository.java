@@ -0,0 +1,25 @@
+package io.goorm.youtube.repository;
+
+import io.goorm.youtube.domain.UploadJob;
+import io.goorm.youtube.domain.UploadJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface UploadJobRepository extends JpaRepository<UploadJob, String> {
+
+    Optional<UploadJob> findByJobIdAndMemberSeq(String jobId, Long memberSeq);
+
+    List<UploadJob> findByStatusIn(Collection<UploadJobStatus> statuses);
+
+    //PENDING 인 작업만 PROCESSING 으로 선점 (중복 실행 방지)
+    @Modifying
+    @Query("update UploadJob j set j.status = io.goorm.youtube.domain.UploadJobStatus.PROCESSING " +
+            "where j.jobId = :jobId and j.status = io.goorm.youtube.domain.UploadJobStatus.PENDING")
+    int claim(@Param("jobId") String jobId);
+}
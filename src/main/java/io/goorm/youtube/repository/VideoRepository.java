@@ -1,23 +1,147 @@
 package io.goorm.youtube.repository;
 
 import io.goorm.youtube.domain.Video;
+import io.goorm.youtube.dto.video.VideoResponse;
+import io.goorm.youtube.dto.video.VideoSummaryResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface VideoRepository extends JpaRepository<Video, Long> {
 
-    //메인목록-삭제되지 않고 게시상태
-    Page<Video> findByPublishYnTrueAndDeleteYnFalseOrderByRegAtDesc(Pageable pageable);
+    // 목록용 프로젝션 - content(TEXT)를 제외한 컬럼만 members 와 한 번의 조인으로 조회
+    String SUMMARY_SELECT = "select new io.goorm.youtube.dto.video.VideoSummaryResponse(" +
+            "v.videoSeq, v.videoPath, v.thumbnailPath, v.thumbnailVariants, v.thumbnailPlaceholder, m.memberName, v.title, " +
+            "v.publishYn, v.viewCount, v.mediaStatus, v.regAt, v.updateAt) " +
+            "from Video v join v.member m ";
+
+    // 상세용 프로젝션 - VideoResponse 에 필요한 컬럼만 조회
+    String DETAIL_SELECT = "select new io.goorm.youtube.dto.video.VideoResponse(" +
+            "v.videoSeq, v.videoPath, v.thumbnailPath, v.thumbnailVariants, v.thumbnailPlaceholder, m.memberName, v.title, v.content, " +
+            "v.publishYn, v.viewCount, v.mediaStatus, v.durationMillis, v.width, v.height, v.codec, v.bitrate, " +
+            "v.regAt, v.updateAt) " +
+            "from Video v join v.member m ";
+
+    String PUBLIC_CONDITION = "v.publishYn = true and v.deleteYn = false ";
+
+    String KEYSET_CONDITION = "(v.regAt < :regAt or (v.regAt = :regAt and v.videoSeq < :videoSeq)) ";
+
+    String KEYSET_ORDER = "order by v.regAt desc, v.videoSeq desc";
+
+
+    //메인목록-삭제되지 않고 게시상태 (PublicVideoFeed 와 같은 순서가 되도록 videoSeq 로 동순위 정렬)
+    @Query(value = SUMMARY_SELECT + "where " + PUBLIC_CONDITION + KEYSET_ORDER,
+            countQuery = "select count(v) from Video v where " + PUBLIC_CONDITION)
+    Page<VideoSummaryResponse> findPublicSummaries(Pageable pageable);
+
+
+    //메인목록(커서) 첫 조각-삭제되지 않고 게시상태
+    @Query(SUMMARY_SELECT + "where " + PUBLIC_CONDITION + KEYSET_ORDER)
+    Slice<VideoSummaryResponse> findPublicFeed(Pageable pageable);
+
+
+    //메인목록(커서) 다음 조각-커서 (regAt, videoSeq) 이후
+    @Query(SUMMARY_SELECT + "where " + PUBLIC_CONDITION + "and " + KEYSET_CONDITION + KEYSET_ORDER)
+    Slice<VideoSummaryResponse> findPublicFeedAfter(@Param("regAt") LocalDateTime regAt,
+                                                    @Param("videoSeq") Long videoSeq,
+                                                    Pageable pageable);
+
+
+    //메인목록 메모리 사본 갱신용 - 공개 상태인 비디오 한 건
+    @Query(SUMMARY_SELECT + "where v.videoSeq = :videoSeq and " + PUBLIC_CONDITION)
+    Optional<VideoSummaryResponse> findPublicSummary(@Param("videoSeq") Long videoSeq);
+
+
+    //공개 비디오 전체 건수
+    @Query("select count(v) from Video v where " + PUBLIC_CONDITION)
+    long countPublic();
 
 
     //비디오 상세-삭제되지 않고 게시상테
-    Optional<Video> findByVideoSeqAndPublishYnTrueAndDeleteYnFalse(Long videoSeq);
+    @Query(DETAIL_SELECT + "where v.videoSeq = :videoSeq and " + PUBLIC_CONDITION)
+    Optional<VideoResponse> findPublicDetail(@Param("videoSeq") Long videoSeq);
+
+
+    //소유권 확인 - 소유자일 때만 비디오(+작성자)를 한 번의 쿼리로 적재
+    //@IsVideoOwner 서비스 메소드도 확인과 적재를 이 쿼리 한 번으로 처리
+    @Query("select v from Video v join fetch v.member m where v.videoSeq = :videoSeq and m.memberSeq = :memberSeq")
+    Optional<Video> findOwnedVideo(@Param("videoSeq") Long videoSeq, @Param("memberSeq") Long memberSeq);
 
 
     //내비디오 목록
-    Page<Video> findByMember_MemberSeq(Long memberSeq, Pageable pageable);
+    @Query(value = SUMMARY_SELECT + "where m.memberSeq = :memberSeq",
+            countQuery = "select count(v) from Video v where v.member.memberSeq = :memberSeq")
+    Page<VideoSummaryResponse> findMemberSummaries(@Param("memberSeq") Long memberSeq, Pageable pageable);
+
+
+    //내비디오 목록(커서) 첫 조각
+    @Query(SUMMARY_SELECT + "where m.memberSeq = :memberSeq " + KEYSET_ORDER)
+    Slice<VideoSummaryResponse> findMemberFeed(@Param("memberSeq") Long memberSeq, Pageable pageable);
+
+
+    //내비디오 목록(커서) 다음 조각
+    @Query(SUMMARY_SELECT + "where m.memberSeq = :memberSeq and " + KEYSET_CONDITION + KEYSET_ORDER)
+    Slice<VideoSummaryResponse> findMemberFeedAfter(@Param("memberSeq") Long memberSeq,
+                                                    @Param("regAt") LocalDateTime regAt,
+                                                    @Param("videoSeq") Long videoSeq,
+                                                    Pageable pageable);
+
+
+    //검색 결과 채우기 - 공개 상태인 비디오만 (순서는 호출 측에서 검색 순위대로 맞춤)
+    @Query(SUMMARY_SELECT + "where v.videoSeq in :videoSeqs and " + PUBLIC_CONDITION)
+    List<VideoSummaryResponse> findPublicSummaries(@Param("videoSeqs") Collection<Long> videoSeqs);
+
+
+    //검색 색인용 - 공개 상태인 비디오 (제목, 설명, 작성자 이름 포함)
+    @Query(DETAIL_SELECT + "where v.videoSeq in :videoSeqs and " + PUBLIC_CONDITION)
+    List<VideoResponse> findPublicDetails(@Param("videoSeqs") Collection<Long> videoSeqs);
+
+
+    //검색 전체 색인용 - videoSeq 순 키셋 조회
+    @Query(DETAIL_SELECT + "where v.videoSeq > :videoSeq and " + PUBLIC_CONDITION + "order by v.videoSeq")
+    Slice<VideoResponse> findPublicDetailsAfter(@Param("videoSeq") Long videoSeq, Pageable pageable);
+
+
+    //자동완성 전체 적재용 - videoSeq 순 키셋 조회
+    @Query(SUMMARY_SELECT + "where v.videoSeq > :videoSeq and " + PUBLIC_CONDITION + "order by v.videoSeq")
+    Slice<VideoSummaryResponse> findPublicSummariesAfter(@Param("videoSeq") Long videoSeq, Pageable pageable);
+
+
+    //검색 색인 따라잡기용 - 마지막 색인 커밋 이후 바뀐 비디오
+    @Query("select v.videoSeq from Video v where v.updateAt >= :since")
+    List<Long> findVideoSeqsUpdatedSince(@Param("since") LocalDateTime since);
+
+
+    //회원의 비디오 번호 (작성자 이름 변경 시 상세 캐시 무효화용)
+    @Query("select v.videoSeq from Video v where v.member.memberSeq = :memberSeq")
+    List<Long> findVideoSeqsByMemberSeq(@Param("memberSeq") Long memberSeq);
+
+
+    //이미지 변형 생성 완료 표시용 - 썸네일 경로가 같은 비디오 (중복 업로드는 같은 경로를 공유)
+    List<Video> findAllByThumbnailPath(String thumbnailPath);
+
+
+    //썸네일 미리보기 백필용 - 미리보기가 없는 썸네일 경로를 경로 순 키셋 조회
+    @Query("select distinct v.thumbnailPath from Video v " +
+            "where v.thumbnailPath > :after and v.thumbnailPlaceholder is null and v.deleteYn = false " +
+            "order by v.thumbnailPath")
+    List<String> findThumbnailPathsWithoutPlaceholderAfter(@Param("after") String after, Pageable pageable);
+
+    @Query("select count(distinct v.thumbnailPath) from Video v " +
+            "where v.thumbnailPlaceholder is null and v.deleteYn = false")
+    long countThumbnailPathsWithoutPlaceholder();
+
+
+    //스트리밍-삭제되지 않고 게시상태인 비디오 파일 경로
+    @Query("select v.videoPath from Video v where v.videoSeq = :videoSeq and v.publishYn = true and v.deleteYn = false")
+    Optional<String> findPublicVideoPath(@Param("videoSeq") Long videoSeq);
 
 }
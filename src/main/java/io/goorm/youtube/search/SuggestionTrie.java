@@ -0,0 +1,426 @@
+package io.goorm.youtube.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 자동완성용 접두어 트라이 (노드마다 점수 상위 k개를 미리 보관)
+ *
+ * 조회는 접두어 길이만큼 내려간 노드의 상위 목록을 복사하는 것으로 끝나므로 전체 건수와 무관합니다.
+ * - 검색어는 소문자/공백 정리 후 전체 문자열과 단어 시작 위치부터의 문자열로 색인합니다.
+ *   ("고양이 피아노 연주" 는 "피아노" 로도 찾을 수 있음)
+ * - 같은 종류의 같은 문구는 한 항목으로 합치며, 추가한 횟수만큼 제거해야 사라집니다.
+ * - 점수가 오르면 경로의 상위 목록만 고치고, 내려가거나 제거되면 경로를 따라 자식 목록에서 다시 계산합니다.
+ * 노드의 자식은 정렬된 char[]/Node[] 배열로 두어 맵보다 적은 메모리를 씁니다.
+ */
+public class SuggestionTrie {
+
+    public enum Kind {
+        TITLE,
+        CHANNEL
+    }
+
+    public record Suggestion(String text, Kind kind, long score) {
+    }
+
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final Term[] NO_TERMS = new Term[0];
+
+    private static final Comparator<Term> BY_SCORE = Comparator
+            .comparingLong((Term term) -> term.score).reversed()
+            .thenComparing(term -> term.text);
+
+    // 메모리 추정치 (64bit, compressed oops 기준 대략값)
+    private static final long NODE_BYTES = 16 + 4 * 4 + 4 * 16;
+    private static final long EDGE_BYTES = 2 + 4;
+    private static final long SLOT_BYTES = 4;
+    private static final long TERM_BYTES = 32 + 40;
+
+    private final int topK;
+    private final int maxWordStarts;
+    private final int maxKeyLength;
+
+    private final Node root = new Node();
+    private final Map<String, Term> terms = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long nodeCount = 1;
+    private long slotCount;
+    private long termBytes;
+
+    /**
+     * @param topK 노드마다 보관하는 상위 항목 수 (조회 최대 건수)
+     * @param maxWordStarts 문구 중간 단어부터 찾을 수 있게 추가로 색인하는 단어 수
+     * @param maxKeyLength 색인하는 문자열 최대 길이 (트라이 깊이 제한)
+     */
+    public SuggestionTrie(int topK, int maxWordStarts, int maxKeyLength) {
+        this.topK = topK;
+        this.maxWordStarts = maxWordStarts;
+        this.maxKeyLength = maxKeyLength;
+    }
+
+    /**
+     * 문구 추가 (이미 있으면 참조 수와 점수만 늘림)
+     */
+    public void add(Kind kind, String text, long score) {
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            Term term = terms.get(termKey(kind, normalized));
+            if (term != null) {
+                term.refs++;
+                increase(term, score);
+                return;
+            }
+
+            term = new Term(text.strip(), kind, keys(normalized), score);
+            terms.put(termKey(kind, normalized), term);
+            termBytes += TERM_BYTES + 2L * term.text.length() + SLOT_BYTES * term.keys.length;
+            for (String key : term.keys) {
+                insert(key, term);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문구 참조 하나 제거 (마지막 참조면 트라이에서 삭제, 아니면 점수만 줄임)
+     */
+    public void remove(Kind kind, String text, long score) {
+        String normalized = normalize(text);
+        lock.writeLock().lock();
+        try {
+            Term term = terms.get(termKey(kind, normalized));
+            if (term == null) {
+                return;
+            }
+
+            term.score -= score;
+            if (--term.refs > 0) {
+                for (String key : term.keys) {
+                    recomputePath(key, term, false);
+                }
+                return;
+            }
+
+            terms.remove(termKey(kind, normalized));
+            termBytes -= TERM_BYTES + 2L * term.text.length() + SLOT_BYTES * term.keys.length;
+            for (String key : term.keys) {
+                recomputePath(key, term, true);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 점수 증가 (조회수 반영 등)
+     */
+    public void addScore(Kind kind, String text, long delta) {
+        if (delta <= 0) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Term term = terms.get(termKey(kind, normalize(text)));
+            if (term != null) {
+                increase(term, delta);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 접두어로 시작하는 문구를 점수순으로 최대 limit(≤ topK)건 조회
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < normalized.length() && node != null; i++) {
+                node = i < maxKeyLength ? node.child(normalized.charAt(i)) : node;
+            }
+            if (node == null) {
+                return List.of();
+            }
+
+            int count = Math.min(limit, node.top.length);
+            List<Suggestion> suggestions = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                Term term = node.top[i];
+                suggestions.add(new Suggestion(term.text, term.kind, term.score));
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return terms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 트라이가 차지하는 메모리 추정치 (바이트)
+     */
+    public long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            return nodeCount * NODE_BYTES + (nodeCount - 1) * EDGE_BYTES + slotCount * SLOT_BYTES + termBytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : text.strip().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+    }
+
+    private static String termKey(Kind kind, String normalized) {
+        return kind.name() + ':' + normalized;
+    }
+
+    // 전체 문자열 + 단어 시작 위치부터의 문자열 (최대 길이로 자름)
+    private String[] keys(String normalized) {
+        Set<String> keys = new LinkedHashSet<>();
+        keys.add(truncate(normalized));
+        int start = normalized.indexOf(' ');
+        for (int words = 0; start >= 0 && words < maxWordStarts; words++) {
+            keys.add(truncate(normalized.substring(start + 1)));
+            start = normalized.indexOf(' ', start + 1);
+        }
+        return keys.toArray(String[]::new);
+    }
+
+    private String truncate(String key) {
+        return key.length() > maxKeyLength ? key.substring(0, maxKeyLength) : key;
+    }
+
+    private void insert(String key, Term term) {
+        Node node = root;
+        offer(node, term);
+        for (int i = 0; i < key.length(); i++) {
+            node = childOrCreate(node, key.charAt(i));
+            offer(node, term);
+        }
+        node.ends = append(node.ends, term);
+        slotCount++;
+    }
+
+    private void increase(Term term, long delta) {
+        term.score += delta;
+        for (String key : term.keys) {
+            Node node = root;
+            offer(node, term);
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.child(key.charAt(i));
+                if (node != null) {
+                    offer(node, term);
+                }
+            }
+        }
+    }
+
+    /**
+     * 점수가 줄었거나 제거된 항목이 지나는 경로의 상위 목록을 아래에서부터 다시 계산
+     * 어떤 노드의 상위 목록에 없으면 그 위 노드들의 상위 목록에도 없으므로 거기서 멈춥니다.
+     */
+    private void recomputePath(String key, Term term, boolean removed) {
+        Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < key.length(); i++) {
+            path[i + 1] = path[i].child(key.charAt(i));
+            if (path[i + 1] == null) {
+                return;
+            }
+        }
+
+        Node end = path[key.length()];
+        if (removed) {
+            int before = end.ends.length;
+            end.ends = without(end.ends, term);
+            slotCount -= before - end.ends.length;
+        }
+
+        for (int depth = key.length(); depth >= 0; depth--) {
+            Node node = path[depth];
+            if (depth > 0 && node.ends.length == 0 && node.keys.length == 0) {
+                removeChild(path[depth - 1], key.charAt(depth - 1));
+                continue;
+            }
+            if (!contains(node.top, term)) {
+                return;
+            }
+            setTop(node, recompute(node));
+        }
+    }
+
+    private Term[] recompute(Node node) {
+        List<Term> candidates = new ArrayList<>(node.ends.length + node.children.length * topK);
+        for (Term end : node.ends) {
+            addDistinct(candidates, end);
+        }
+        for (Node child : node.children) {
+            for (Term top : child.top) {
+                addDistinct(candidates, top);
+            }
+        }
+        candidates.sort(BY_SCORE);
+        return candidates.subList(0, Math.min(topK, candidates.size())).toArray(NO_TERMS);
+    }
+
+    private static void addDistinct(List<Term> terms, Term term) {
+        for (Term existing : terms) {
+            if (existing == term) {
+                return;
+            }
+        }
+        terms.add(term);
+    }
+
+    // 점수가 오른(또는 새) 항목을 상위 목록에 반영
+    private void offer(Node node, Term term) {
+        Term[] top = node.top;
+        if (contains(top, term)) {
+            Arrays.sort(top, BY_SCORE);
+            return;
+        }
+        if (top.length < topK) {
+            Term[] next = append(top, term);
+            Arrays.sort(next, BY_SCORE);
+            setTop(node, next);
+            return;
+        }
+        if (BY_SCORE.compare(term, top[top.length - 1]) < 0) {
+            Term[] next = top.clone();
+            next[next.length - 1] = term;
+            Arrays.sort(next, BY_SCORE);
+            node.top = next;
+        }
+    }
+
+    private void setTop(Node node, Term[] top) {
+        slotCount += top.length - node.top.length;
+        node.top = top;
+    }
+
+    private Node childOrCreate(Node node, char key) {
+        int index = Arrays.binarySearch(node.keys, key);
+        if (index >= 0) {
+            return node.children[index];
+        }
+
+        int position = -index - 1;
+        Node child = new Node();
+        char[] keys = new char[node.keys.length + 1];
+        Node[] children = new Node[node.children.length + 1];
+        System.arraycopy(node.keys, 0, keys, 0, position);
+        System.arraycopy(node.children, 0, children, 0, position);
+        keys[position] = key;
+        children[position] = child;
+        System.arraycopy(node.keys, position, keys, position + 1, node.keys.length - position);
+        System.arraycopy(node.children, position, children, position + 1, node.children.length - position);
+        node.keys = keys;
+        node.children = children;
+        nodeCount++;
+        return child;
+    }
+
+    private void removeChild(Node node, char key) {
+        int index = Arrays.binarySearch(node.keys, key);
+        if (index < 0) {
+            return;
+        }
+        slotCount -= node.children[index].top.length;
+
+        char[] keys = new char[node.keys.length - 1];
+        Node[] children = new Node[node.children.length - 1];
+        System.arraycopy(node.keys, 0, keys, 0, index);
+        System.arraycopy(node.children, 0, children, 0, index);
+        System.arraycopy(node.keys, index + 1, keys, index, node.keys.length - index - 1);
+        System.arraycopy(node.children, index + 1, children, index, node.children.length - index - 1);
+        node.keys = keys.length == 0 ? NO_KEYS : keys;
+        node.children = children.length == 0 ? NO_CHILDREN : children;
+        nodeCount--;
+    }
+
+    private static boolean contains(Term[] terms, Term term) {
+        for (Term candidate : terms) {
+            if (candidate == term) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Term[] append(Term[] terms, Term term) {
+        Term[] next = Arrays.copyOf(terms, terms.length + 1);
+        next[terms.length] = term;
+        return next;
+    }
+
+    private static Term[] without(Term[] terms, Term term) {
+        for (int i = 0; i < terms.length; i++) {
+            if (terms[i] == term) {
+                Term[] next = new Term[terms.length - 1];
+                System.arraycopy(terms, 0, next, 0, i);
+                System.arraycopy(terms, i + 1, next, i, terms.length - i - 1);
+                return next.length == 0 ? NO_TERMS : next;
+            }
+        }
+        return terms;
+    }
+
+    private static final class Node {
+        char[] keys = NO_KEYS;
+        Node[] children = NO_CHILDREN;
+        Term[] ends = NO_TERMS;   // 이 노드에서 끝나는 문구
+        Term[] top = NO_TERMS;    // 이 노드 아래 문구 중 점수 상위 topK (점수순)
+
+        Node child(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            return index >= 0 ? children[index] : null;
+        }
+    }
+
+    private static final class Term {
+        final String text;
+        final Kind kind;
+        final String[] keys;
+        long score;
+        int refs = 1;
+
+        Term(String text, Kind kind, String[] keys, long score) {
+            this.text = text;
+            this.kind = kind;
+            this.keys = keys;
+            this.score = score;
+        }
+    }
+}
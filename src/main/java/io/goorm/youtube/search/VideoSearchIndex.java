@@ -0,0 +1,347 @@
+package io.goorm.youtube.search;
+
+import io.goorm.youtube.dto.video.VideoResponse;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherFactory;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 비디오 검색용 Lucene 역색인 (디스크)
+ *
+ * 공개 비디오만 색인하며, 문서 1건 = 비디오 1건 (videoSeq 로 교체/삭제)
+ * - 색인 필드: 제목(가중치 3), 작성자 이름(2), 설명(1), 모두 nori 형태소 분석
+ * - 정렬: BM25 점수, 같은 점수는 최신 등록순
+ * 변경은 refresh 후 검색에 보이고, commit 후 디스크에 영속됩니다.
+ * 전체 재생성(beginRebuild ~ finishRebuild)은 시작 시점을 커밋해 두고 그 위에 다시 쓰며,
+ * 끝날 때까지 검색에는 이전 색인이 보입니다. 실패하거나 중간에 종료되면 시작 시점으로 되돌립니다. (abortRebuild, close)
+ * 검색 결과로는 videoSeq 만 돌려주며 응답 데이터는 호출 측에서 DB 로 채웁니다.
+ */
+@Component
+public class VideoSearchIndex implements Closeable {
+
+    static final String VIDEO_SEQ = "videoSeq";
+    static final String TITLE = "title";
+    static final String CONTENT = "content";
+    static final String MEMBER_NAME = "memberName";
+    static final String REG_AT = "regAt";
+
+    private static final Sort RELEVANCE = new Sort(SortField.FIELD_SCORE,
+            new SortField(REG_AT, SortField.Type.LONG, true));
+
+    private final Directory directory;
+    private final Analyzer analyzer = new KoreanAnalyzer();
+    private final double ramBufferMb;
+
+    // 재생성 실패 시 writer 를 다시 열어 교체 - 교체(write lock) 중에는 색인/검색을 잠시 멈춤
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile IndexWriter writer;
+    private volatile SearcherManager searcherManager;
+    private volatile boolean rebuilding;
+
+    public VideoSearchIndex(@Value("${video.search.index-directory}") Path indexDirectory,
+                            @Value("${video.search.ram-buffer-mb}") double ramBufferMb) throws IOException {
+        Files.createDirectories(indexDirectory);
+        this.directory = FSDirectory.open(indexDirectory);
+        this.ramBufferMb = ramBufferMb;
+        open();
+    }
+
+    // close 시 자동 커밋하지 않음 (재생성 중 종료되면 만들다 만 색인이 커밋되지 않도록, 커밋은 close 에서 직접)
+    private void open() throws IOException {
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND)
+                .setRAMBufferSizeMB(ramBufferMb)
+                .setCommitOnClose(false));
+        this.searcherManager = new SearcherManager(writer, new SearcherFactory());
+    }
+
+    /**
+     * 색인 추가 또는 교체
+     */
+    public void index(VideoResponse video) {
+        Document document = new Document();
+        document.add(new StringField(VIDEO_SEQ, String.valueOf(video.getVideoSeq()), Field.Store.YES));
+        document.add(new TextField(TITLE, nullToEmpty(video.getTitle()), Field.Store.NO));
+        document.add(new TextField(CONTENT, nullToEmpty(video.getContent()), Field.Store.NO));
+        document.add(new TextField(MEMBER_NAME, nullToEmpty(video.getMemberName()), Field.Store.NO));
+        document.add(new NumericDocValuesField(REG_AT, epochMillis(video.getRegAt())));
+
+        lock.readLock().lock();
+        try {
+            writer.updateDocument(idTerm(video.getVideoSeq()), document);
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 색인에 실패했습니다: " + video.getVideoSeq(), e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void delete(Long videoSeq) {
+        lock.readLock().lock();
+        try {
+            writer.deleteDocuments(idTerm(videoSeq));
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 색인 삭제에 실패했습니다: " + videoSeq, e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 지금까지의 변경을 검색에 반영 (재생성 중에는 이전 색인을 유지하도록 건너뜀)
+     */
+    public void refresh() {
+        if (rebuilding) {
+            return;
+        }
+        lock.readLock().lock();
+        try {
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 색인 갱신에 실패했습니다.", e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 변경을 디스크에 영속 (userData 는 마지막 커밋 정보로 함께 기록)
+     * @throws IllegalStateException 재생성 중인 경우 (만들다 만 색인은 커밋하지 않음)
+     */
+    public void commit(Map<String, String> userData) {
+        if (rebuilding) {
+            throw new IllegalStateException("검색 색인 재생성 중에는 커밋할 수 없습니다.");
+        }
+        lock.readLock().lock();
+        try {
+            writeCommit(userData);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 재생성 시작 - 되돌릴 지점으로 현재 상태를 커밋한 뒤 모든 문서를 지움
+     * 끝나면 finishRebuild, 실패하면 abortRebuild 를 호출해야 합니다.
+     */
+    public void beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            if (rebuilding) {
+                throw new IllegalStateException("검색 색인 재생성이 이미 진행 중입니다.");
+            }
+            writer.commit();  // 이전 커밋 정보(userData)를 그대로 유지
+            rebuilding = true;
+            writer.deleteAll();
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 색인 재생성을 시작하지 못했습니다.", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 재생성한 색인을 커밋하고 검색에 반영
+     */
+    public void finishRebuild(Map<String, String> userData) {
+        lock.readLock().lock();
+        try {
+            writeCommit(userData);
+            rebuilding = false;
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 색인 갱신에 실패했습니다.", e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 재생성 취소 - 시작 시점 커밋으로 되돌리고 writer 를 다시 엶 (검색에는 계속 이전 색인이 보임)
+     */
+    public void abortRebuild() {
+        lock.writeLock().lock();
+        try {
+            if (!rebuilding) {
+                return;
+            }
+            searcherManager.close();
+            writer.rollback();
+            open();
+            rebuilding = false;
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 색인을 되돌리지 못했습니다.", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void writeCommit(Map<String, String> userData) {
+        try {
+            writer.setLiveCommitData(Map.copyOf(userData).entrySet());
+            writer.commit();
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 색인 커밋에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 마지막 커밋에 기록한 userData (커밋이 없으면 빈 맵)
+     */
+    public Map<String, String> getCommitData() {
+        try {
+            if (!DirectoryReader.indexExists(directory)) {
+                return Map.of();
+            }
+            return new HashMap<>(SegmentInfos.readLatestCommit(directory).getUserData());
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 색인 커밋 정보를 읽지 못했습니다.", e);
+        }
+    }
+
+    public long count() {
+        lock.readLock().lock();
+        try {
+            return writer.getDocStats().numDocs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어로 조회 (AND 검색, 따옴표 구문/-제외 등 단순 문법 지원)
+     * @return 관련도순 videoSeq 와 전체 일치 건수
+     */
+    public SearchHits search(String queryText, int offset, int size) {
+        Query query = parse(queryText);  // 불용어만 있으면 아무것도 일치하지 않는 쿼리
+
+        lock.readLock().lock();
+        try {
+            return search(query, offset, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private SearchHits search(Query query, int offset, int size) {
+        IndexSearcher searcher;
+        try {
+            searcher = searcherManager.acquire();
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 색인을 열지 못했습니다.", e);
+        }
+        try {
+            TopDocs topDocs = searcher.search(query, offset + size, RELEVANCE, true);
+            long total = topDocs.totalHits.relation == TotalHits.Relation.EQUAL_TO
+                    ? topDocs.totalHits.value
+                    : searcher.count(query);  // 일치 건수가 많으면 상위 문서 수집 중에 세기를 멈추므로 따로 셈
+
+            StoredFields storedFields = searcher.storedFields();
+            List<Long> videoSeqs = new ArrayList<>(size);
+            ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+            for (int i = offset; i < scoreDocs.length; i++) {
+                String videoSeq = storedFields.document(scoreDocs[i].doc, Set.of(VIDEO_SEQ)).get(VIDEO_SEQ);
+                videoSeqs.add(Long.valueOf(videoSeq));
+            }
+            return new SearchHits(videoSeqs, total);
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색에 실패했습니다.", e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    private Query parse(String queryText) {
+        SimpleQueryParser parser = new SimpleQueryParser(analyzer, Map.of(
+                TITLE, 3f,
+                MEMBER_NAME, 2f,
+                CONTENT, 1f));
+        parser.setDefaultOperator(BooleanClause.Occur.MUST);
+        return parser.parse(queryText);
+    }
+
+    private void release(IndexSearcher searcher) {
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Term idTerm(Long videoSeq) {
+        return new Term(VIDEO_SEQ, String.valueOf(videoSeq));
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static long epochMillis(LocalDateTime dateTime) {
+        return dateTime == null ? 0 : dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    @PreDestroy
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            searcherManager.close();
+            if (rebuilding) {
+                writer.rollback();  // 만들다 만 색인은 버리고 시작 시점 커밋을 유지
+            } else {
+                writer.commit();  // 남은 변경 커밋
+                writer.close();
+            }
+            directory.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param videoSeqs 관련도순 비디오 번호 (요청한 페이지 분량)
+     * @param total 전체 일치 건수
+     */
+    public record SearchHits(List<Long> videoSeqs, long total) {
+    }
+}
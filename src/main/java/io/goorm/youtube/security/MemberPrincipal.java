@@ -0,0 +1,35 @@
+package io.goorm.youtube.security;
+
+import io.goorm.youtube.domain.Member;
+import io.goorm.youtube.domain.Role;
+import lombok.Getter;
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+import java.io.Serializable;
+
+/**
+ * JWT 클레임으로 구성되는 경량 인증 주체
+ * 요청마다 Member 를 조회하지 않고 memberSeq, memberId, role 만으로 현재 사용자를 식별합니다.
+ */
+@Getter
+public class MemberPrincipal implements AuthenticatedPrincipal, Serializable {
+
+    private final Long memberSeq;
+    private final String memberId;
+    private final Role role;
+
+    public MemberPrincipal(Long memberSeq, String memberId, Role role) {
+        this.memberSeq = memberSeq;
+        this.memberId = memberId;
+        this.role = role;
+    }
+
+    public static MemberPrincipal of(Member member) {
+        return new MemberPrincipal(member.getMemberSeq(), member.getMemberId(), member.getRole());
+    }
+
+    @Override
+    public String getName() {
+        return memberId;
+    }
+}
@@ -19,12 +19,11 @@ public class SecurityUtils {
     private final MemberRepository memberRepository;
 
     /**
-     * 현재 인증된 사용자의 Member 엔티티 조회
-     * @return 인증된 사용자의 Member 엔티티
-     * @throws BadCredentialsException 인증된 사용자가 없는 경우
-     * @throws EntityNotFoundException 사용자 정보가 DB에 없는 경우
+     * 현재 인증된 사용자의 MemberPrincipal 조회 (DB 조회 없음)
+     * @return 토큰 클레임으로 구성된 인증 주체
+     * @throws AccessDeniedException 인증된 사용자가 없는 경우
      */
-    public Member getCurrentMember() {
+    public MemberPrincipal getCurrentPrincipal() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
         if (authentication == null || !authentication.isAuthenticated() ||
@@ -32,10 +31,43 @@ public class SecurityUtils {
             throw new AccessDeniedException("인증된 사용자가 아닙니다.");
         }
 
-        return memberRepository.findByMemberId(authentication.getName())
+        if (!(authentication.getPrincipal() instanceof MemberPrincipal principal)) {
+            log.error("지원하지 않는 인증 주체입니다: {}", authentication.getName());
+            throw new AccessDeniedException("인증된 사용자가 아닙니다.");
+        }
+
+        return principal;
+    }
+
+    /**
+     * 현재 인증된 사용자의 memberSeq 조회 (DB 조회 없음)
+     */
+    public Long getCurrentMemberSeq() {
+        return getCurrentPrincipal().getMemberSeq();
+    }
+
+    /**
+     * 현재 인증된 사용자의 Member 프록시 조회
+     * 연관관계(FK) 설정용이며, 필드에 접근하기 전까지 쿼리가 실행되지 않습니다.
+     */
+    public Member getCurrentMemberReference() {
+        return memberRepository.getReferenceById(getCurrentMemberSeq());
+    }
+
+    /**
+     * 현재 인증된 사용자의 Member 엔티티 조회
+     * 엔티티를 수정해야 하는 경우에만 사용합니다.
+     * @return 인증된 사용자의 Member 엔티티
+     * @throws BadCredentialsException 인증된 사용자가 없는 경우
+     * @throws EntityNotFoundException 사용자 정보가 DB에 없는 경우
+     */
+    public Member getCurrentMember() {
+        Long memberSeq = getCurrentMemberSeq();
+
+        return memberRepository.findById(memberSeq)
                 .orElseThrow(() -> {
-                    log.error("사용자 정보를 찾을 수 없습니다: {}", authentication.getName());
+                    log.error("사용자 정보를 찾을 수 없습니다: {}", memberSeq);
                     return new EntityNotFoundException("사용자 정보를 찾을 수 없습니다.");
                 });
     }
-}
\ No newline at end of file
+}
@@ -3,8 +3,6 @@ package io.goorm.youtube.security;
 import io.goorm.youtube.repository.VideoRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -12,29 +10,25 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class VideoAuthChecker {
     private final VideoRepository videoRepository;
+    private final SecurityUtils securityUtils;
 
     /**
      * 비디오 소유자 확인 메소드
+     *
+     * (videoSeq, memberSeq) 조건 쿼리 한 번으로 확인합니다.
+     * 권한 검사는 서비스 메소드의 트랜잭션 밖에서 실행되므로, 서비스 메소드는 같은 조건으로 엔티티를 직접 적재합니다.
      * @param videoSeq 비디오 시퀀스 번호
      * @return 현재 인증된 사용자가 비디오 소유자인 경우 true
      */
     public boolean isOwner(Long videoSeq) {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String currentUsername = auth.getName();
+        Long currentMemberSeq = securityUtils.getCurrentMemberSeq();
 
-        return videoRepository.findById(videoSeq)
-                .map(video -> {
-                    boolean isOwner = video.getMember().getMemberId().equals(currentUsername);
+        boolean isOwner = videoRepository.findOwnedVideo(videoSeq, currentMemberSeq).isPresent();
 
-                    if (!isOwner) {
-                        log.warn("사용자 {} - 비디오 {} 소유권 없음", currentUsername, videoSeq);
-                    }
+        if (!isOwner) {
+            log.warn("사용자 {} - 비디오 {} 소유권 없음 또는 존재하지 않는 비디오", currentMemberSeq, videoSeq);
+        }
 
-                    return isOwner;
-                })
-                .orElseGet(() -> {
-                    log.error("존재하지 않는 비디오 ID: {}", videoSeq);
-                    return false;
-                });
+        return isOwner;
     }
-}
\ No newline at end of file
+}
@@ -2,6 +2,7 @@ package io.goorm.youtube.security.service.auth;
 
 import io.goorm.youtube.dto.auth.LoginRequest;
 import io.goorm.youtube.dto.auth.TokenResponse;
+import io.goorm.youtube.security.MemberPrincipal;
 import io.goorm.youtube.security.service.jwt.JwtTokenProvider;
 import io.goorm.youtube.domain.Member;
 import io.goorm.youtube.repository.MemberRepository;
@@ -33,13 +34,14 @@ public class AuthService {
         Authentication authentication = authenticationManagerBuilder.getObject().authenticate(authenticationToken);
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
-        // 3. 인증된 정보를 기반으로 JWT 토큰 생성
-        String accessToken = tokenProvider.createToken(authentication);
-        String refreshToken = tokenProvider.createRefreshToken(authentication);
-
         Member member = memberRepository.findByMemberId(authentication.getName())
                 .orElseThrow(() -> new RuntimeException("로그인 유저 정보가 없습니다"));
 
+        // 3. 인증된 정보를 기반으로 JWT 토큰 생성 (memberSeq, role 클레임 포함)
+        MemberPrincipal principal = MemberPrincipal.of(member);
+        String accessToken = tokenProvider.createToken(principal);
+        String refreshToken = tokenProvider.createRefreshToken(principal);
+
         return TokenResponse.builder()
                 .grantType("Bearer")
                 .accessToken(accessToken)
@@ -62,11 +64,11 @@ public class AuthService {
             throw new RuntimeException("Refresh Token이 유효하지 않습니다.");
         }
 
-        // 리프레시 토큰에서 Authentication 추출
-        Authentication authentication = tokenProvider.getAuthentication(refreshToken);
+        // 리프레시 토큰의 클레임에서 사용자 정보 추출
+        MemberPrincipal principal = tokenProvider.getPrincipal(refreshToken);
 
         // 새로운 액세스 토큰 생성
-        String newAccessToken = tokenProvider.createToken(authentication);
+        String newAccessToken = tokenProvider.createToken(principal);
 
         return TokenResponse.builder()
                 .grantType("Bearer")
@@ -0,0 +1,103 @@
+package io.goorm.youtube.security.service.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증이 끝난 JWT 의 Authentication 캐시
+ *
+ * 토큰 원문 대신 SHA-256 digest 를 키로 사용하며, 각 항목은 토큰의 exp 시각에 만료됩니다.
+ * 캐시 미스일 때만 서명 검증 + 클레임 파싱을 한 번 수행합니다.
+ * 적중/미스/제거 지표는 cache.* (cache=jwtAuthentication) 메트릭으로 노출됩니다.
+ */
+@Component
+public class JwtAuthenticationCache {
+
+    private final JwtTokenProvider tokenProvider;
+    private final Cache<String, CachedAuthentication> cache;
+
+    public JwtAuthenticationCache(JwtTokenProvider tokenProvider,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${jwt.cache.maximum-size}") long maximumSize) {
+        this.tokenProvider = tokenProvider;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwtAuthentication");
+    }
+
+    /**
+     * 토큰의 Authentication 조회
+     * @throws io.jsonwebtoken.JwtException 토큰 검증 실패 시
+     */
+    public Authentication getAuthentication(String token) {
+        String key = digest(token);
+
+        CachedAuthentication cached = cache.getIfPresent(key);
+        if (cached != null && cached.expiresAt() > System.currentTimeMillis()) {
+            return cached.authentication();
+        }
+
+        Claims claims = tokenProvider.parseClaims(token);
+        Authentication authentication = tokenProvider.getAuthentication(claims, token);
+
+        Date expiration = claims.getExpiration();
+        if (expiration != null) {
+            cache.put(key, new CachedAuthentication(authentication, expiration.getTime()));
+        }
+        return authentication;
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private record CachedAuthentication(Authentication authentication, long expiresAt) {
+    }
+
+    /**
+     * 항목별 만료 시간 = 토큰 exp - 현재 시각
+     */
+    private static class TokenExpiry implements Expiry<String, CachedAuthentication> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedAuthentication value, long currentTime) {
+            long remainingMillis = value.expiresAt() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedAuthentication value,
+                                      long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedAuthentication value,
+                                    long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
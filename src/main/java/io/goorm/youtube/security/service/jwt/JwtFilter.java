@@ -23,7 +23,7 @@ import java.io.IOException;
 public class JwtFilter extends OncePerRequestFilter {
 
     public static final String AUTHORIZATION_HEADER = "Authorization";
-    private final JwtTokenProvider tokenProvider;
+    private final JwtAuthenticationCache authenticationCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -34,15 +34,11 @@ public class JwtFilter extends OncePerRequestFilter {
             String requestURI = request.getRequestURI();
 
             if (StringUtils.hasText(jwt)) {
-                if (tokenProvider.validateToken(jwt)) {
-                    Authentication authentication = tokenProvider.getAuthentication(jwt);
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                    log.debug("Security Context에 '{}' 인증 정보를 저장했습니다, uri: {}",
-                            authentication.getName(), requestURI);
-                } else {
-                    log.debug("유효하지 않은 JWT 토큰입니다, uri: {}", requestURI);
-                    throw new JwtAuthenticationException("유효하지 않은 JWT 토큰입니다.");
-                }
+                // 서명 검증은 캐시 미스일 때 한 번만 수행 (실패 시 JwtException)
+                Authentication authentication = authenticationCache.getAuthentication(jwt);
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+                log.debug("Security Context에 '{}' 인증 정보를 저장했습니다, uri: {}",
+                        authentication.getName(), requestURI);
             } else if (!shouldNotFilter(request)) {
                 log.debug("JWT 토큰이 없습니다, uri: {}", requestURI);
                 throw new JwtAuthenticationException("JWT 토큰이 없습니다.");
@@ -71,11 +67,13 @@ public class JwtFilter extends OncePerRequestFilter {
         return path.equals("/") ||
                 path.equals("/api/movies") ||
                 path.matches("/api/movies/[^/]+") ||
+                path.matches("/api/movies/[^/]+/stream") ||
                 path.equals("/api/auth/login") ||
                 path.equals("/api/members") ||
                 path.matches("/api/members/[^/]+/duplicate") ||
                 path.matches("/api/members/[^/]+/password") ||
                 path.startsWith("/h2-console") ||
+                path.startsWith("/api/images") ||
                 path.startsWith("/upload");
     }
 
@@ -1,5 +1,7 @@
 package io.goorm.youtube.security.service.jwt;
 
+import io.goorm.youtube.domain.Role;
+import io.goorm.youtube.security.MemberPrincipal;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -11,7 +13,6 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;  // 이 import 추가
@@ -25,10 +26,13 @@ import java.util.stream.Collectors;
 public class JwtTokenProvider implements InitializingBean {
 
     private static final String AUTHORITIES_KEY = "auth";
+    private static final String MEMBER_SEQ_KEY = "mseq";
+    private static final String ROLE_KEY = "role";
     private final String secret;
     private final long tokenValidityInMilliseconds;
     private final long refreshTokenValidityInMilliseconds;
     private SecretKey key;
+    private JwtParser jwtParser;
 
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
@@ -43,31 +47,39 @@ public class JwtTokenProvider implements InitializingBean {
     public void afterPropertiesSet() {
         byte[] keyBytes = Decoders.BASE64.decode(secret);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        // 파서는 불변이며 스레드 안전하므로 한 번만 생성해 재사용
+        this.jwtParser = Jwts.parser()
+                .verifyWith(key)
+                .build();
     }
 
-    public String createToken(Authentication authentication) {
-        String authorities = authentication.getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
-                .collect(Collectors.joining(","));
-
+    public String createToken(MemberPrincipal principal) {
         long now = (new Date()).getTime();
         Date validity = new Date(now + this.tokenValidityInMilliseconds);
 
         return Jwts.builder()
-                .subject(authentication.getName())
-                .claim(AUTHORITIES_KEY, authorities)
+                .subject(principal.getMemberId())
+                .claim(AUTHORITIES_KEY, principal.getRole().name())
+                .claim(MEMBER_SEQ_KEY, principal.getMemberSeq())
+                .claim(ROLE_KEY, principal.getRole().name())
                 .issuedAt(new Date(now))
                 .expiration(validity)
                 .signWith(key)
                 .compact();
     }
 
-    public String createRefreshToken(Authentication authentication) {
+    /**
+     * 리프레시 토큰 생성
+     * 권한(auth) 클레임이 없어 액세스 토큰으로는 쓸 수 없고, 재발급에 필요한 memberSeq/role 만 담습니다.
+     */
+    public String createRefreshToken(MemberPrincipal principal) {
         long now = (new Date()).getTime();
         Date validity = new Date(now + this.refreshTokenValidityInMilliseconds);
 
         return Jwts.builder()
-                .subject(authentication.getName())
+                .subject(principal.getMemberId())
+                .claim(MEMBER_SEQ_KEY, principal.getMemberSeq())
+                .claim(ROLE_KEY, principal.getRole().name())
                 .issuedAt(new Date(now))
                 .expiration(validity)
                 .signWith(key)
@@ -75,29 +87,60 @@ public class JwtTokenProvider implements InitializingBean {
     }
 
     public Authentication getAuthentication(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(key)  // setSigningKey 대신 verifyWith 사용
-                .build()
-                .parseSignedClaims(token)  // parseClaimsJws 대신 parseSignedClaims 사용
-                .getPayload();  // getBody 대신 getPayload 사용
+        return getAuthentication(parseClaims(token), token);
+    }
+
+    /**
+     * 서명 검증과 클레임 파싱을 한 번에 수행
+     * @throws JwtException 서명 불일치, 만료, 형식 오류 등 검증 실패 시
+     */
+    public Claims parseClaims(String token) {
+        return jwtParser.parseSignedClaims(token).getPayload();
+    }
+
+    /**
+     * 이미 검증된 클레임으로 Authentication 생성 (서명 재검증 없음)
+     */
+    public Authentication getAuthentication(Claims claims, String token) {
+        Object authoritiesClaim = claims.get(AUTHORITIES_KEY);
+        if (authoritiesClaim == null) {
+            throw new UnsupportedJwtException("권한 정보가 없는 토큰입니다.");
+        }
 
         Collection<? extends GrantedAuthority> authorities =
-                Arrays.stream(claims.get(AUTHORITIES_KEY).toString().split(","))
+                Arrays.stream(authoritiesClaim.toString().split(","))
                         .map(SimpleGrantedAuthority::new)
                         .collect(Collectors.toList());
 
-        User principal = new User(claims.getSubject(), "", authorities);
+        MemberPrincipal principal = getPrincipal(claims);
 
         return new UsernamePasswordAuthenticationToken(principal, token, authorities);
     }
 
+    public MemberPrincipal getPrincipal(String token) {
+        return getPrincipal(parseClaims(token));
+    }
+
+    /**
+     * 클레임으로 MemberPrincipal 생성 (DB 조회 없음)
+     */
+    public MemberPrincipal getPrincipal(Claims claims) {
+        Object memberSeqClaim = claims.get(MEMBER_SEQ_KEY);
+        Object roleClaim = claims.get(ROLE_KEY);
+        if (memberSeqClaim == null || roleClaim == null) {
+            throw new UnsupportedJwtException("사용자 정보가 없는 토큰입니다.");
+        }
+
+        return new MemberPrincipal(
+                ((Number) memberSeqClaim).longValue(),
+                claims.getSubject(),
+                Role.valueOf(roleClaim.toString()));
+    }
+
     public boolean validateToken(String token) {
 
         try {
-            Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token);
+            jwtParser.parseSignedClaims(token);
             return true;
         } catch (SecurityException e) {
             throw new SecurityException("잘못된 JWT 서명입니다.");
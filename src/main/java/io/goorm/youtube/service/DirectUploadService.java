@@ -0,0 +1,330 @@
+package io.goorm.youtube.service;
+
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import io.goorm.youtube.dto.video.DirectUploadCompleteRequest;
+import io.goorm.youtube.dto.video.DirectUploadCreateRequest;
+import io.goorm.youtube.dto.video.DirectUploadResponse;
+import io.goorm.youtube.dto.video.VideoCreateRequest;
+import io.goorm.youtube.exception.FileUploadException;
+import io.goorm.youtube.exception.FileValidationException;
+import io.goorm.youtube.exception.UploadSessionNotFoundException;
+import io.goorm.youtube.file.MediaProbe;
+import io.goorm.youtube.file.S3DirectUploadSigner;
+import io.goorm.youtube.file.S3DirectUploadSigner.PresignedUpload;
+import io.goorm.youtube.security.SecurityUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * S3 직접 업로드 (aws 프로파일)
+ *
+ * 1. 업로드 생성 시 videos/, thumbnails/ key 에 대한 pre-signed PUT URL (큰 비디오는 multipart 파트별 URL) 을 발급합니다.
+ * 2. 클라이언트는 앱 서버를 거치지 않고 S3 로 바로 전송합니다.
+ * 3. 완료 요청에서 multipart 를 마무리하고, HEAD 로 크기/Content-Type/체크섬을,
+ *    범위 GET 으로 컨테이너 헤더(MediaProbe)를 확인한 뒤 Video 를 저장합니다.
+ *
+ * 발급 정보는 메모리에만 보관하며, URL 만료 시각이 지난 업로드는 주기적으로 abort/삭제합니다.
+ */
+@Slf4j
+@Service
+@Profile("aws")
+@RequiredArgsConstructor
+public class DirectUploadService {
+
+    private final S3DirectUploadSigner signer;
+    private final VideoService videoService;
+    private final SecurityUtils securityUtils;
+
+    private final ConcurrentHashMap<String, DirectUpload> uploads = new ConcurrentHashMap<>();
+
+    @Value("${file.s3.upload-url-ttl-seconds}")
+    private long uploadUrlTtlSeconds;
+
+    @Value("${file.upload.max-sessions-per-member}")
+    private int maxUploadsPerMember;
+
+    @Value("${file.video.max-size}")
+    private long videoMaxSize;
+
+    @Value("${file.thumbnail.max-size}")
+    private long thumbnailMaxSize;
+
+    @Value("${file.video.allowed-extensions}")
+    private String videoAllowedExtensions;
+
+    @Value("${file.thumbnail.allowed-extensions}")
+    private String thumbnailAllowedExtensions;
+
+    @PreAuthorize("isAuthenticated()")
+    public DirectUploadResponse createUpload(DirectUploadCreateRequest request) {
+        Long memberSeq = securityUtils.getCurrentMemberSeq();
+
+        String videoExtension = validate(request.getVideoFileName(), request.getVideoFileSize(),
+                videoMaxSize, videoAllowedExtensions, "비디오");
+        String thumbnailExtension = request.hasThumbnail()
+                ? validate(request.getThumbnailFileName(), request.getThumbnailFileSize(),
+                        thumbnailMaxSize, thumbnailAllowedExtensions, "썸네일")
+                : null;
+
+        long activeUploads = uploads.values().stream()
+                .filter(upload -> upload.memberSeq.equals(memberSeq))
+                .count();
+        if (activeUploads >= maxUploadsPerMember) {
+            throw new IllegalArgumentException("진행 중인 업로드가 너무 많습니다. 기존 업로드를 완료하거나 취소해주세요.");
+        }
+
+        Instant expiresAt = Instant.now().plusSeconds(uploadUrlTtlSeconds);
+        Date expiration = Date.from(expiresAt);
+
+        // 파트 크기보다 큰 비디오만 multipart, 썸네일은 항상 단일 PUT
+        String videoKey = "videos/" + UUID.randomUUID() + videoExtension;
+        PresignedUpload video = request.getVideoFileSize() > signer.getPartSize()
+                ? signer.presignMultipart(videoKey, request.getVideoFileSize(), request.getVideoContentType(), expiration)
+                : signer.presignPut(videoKey, request.getVideoContentType(), request.getVideoContentMd5(), expiration);
+
+        PresignedUpload thumbnail = null;
+        if (thumbnailExtension != null) {
+            thumbnail = signer.presignPut("thumbnails/" + UUID.randomUUID() + thumbnailExtension,
+                    request.getThumbnailContentType(), request.getThumbnailContentMd5(), expiration);
+        }
+
+        String uploadId = UUID.randomUUID().toString();
+        uploads.put(uploadId, new DirectUpload(uploadId, memberSeq, request, video, thumbnail, expiresAt));
+        log.info("직접 업로드 발급: {} (member={}, key={}, multipart={})",
+                uploadId, memberSeq, videoKey, video.multipartUploadId() != null);
+
+        return DirectUploadResponse.builder()
+                .uploadId(uploadId)
+                .video(video.target())
+                .thumbnail(thumbnail == null ? null : thumbnail.target())
+                .expiresAt(LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()))
+                .build();
+    }
+
+    /**
+     * 업로드 완료 - 객체 검증 후 Video 저장
+     * 아직 올라오지 않은 파일이 있거나 파트 정보가 틀리면 업로드는 유지되어 다시 완료 요청할 수 있고,
+     * 크기/형식/체크섬이 다르거나 헤더가 깨졌으면 올라온 객체를 삭제하고 업로드를 종료합니다.
+     */
+    @PreAuthorize("isAuthenticated()")
+    public Long complete(String uploadId, DirectUploadCompleteRequest request) {
+        DirectUpload upload = getOwnedUpload(uploadId);
+        if (!uploads.remove(uploadId, upload)) {
+            throw new UploadSessionNotFoundException(uploadId);  // 동시에 들어온 완료/취소 요청
+        }
+
+        MediaProbe.Metadata videoInfo;
+        try {
+            // multipart 완료는 되돌릴 수 없으므로 썸네일 도착을 먼저 확인
+            ObjectMetadata thumbnailMetadata = upload.thumbnail == null ? null : headUploaded(upload.thumbnail);
+            if (upload.video.multipartUploadId() != null) {
+                completeMultipart(upload, request.getVideoParts());
+            }
+            ObjectMetadata videoMetadata = headUploaded(upload.video);
+
+            verify(upload.video, videoMetadata, upload.request.getVideoFileSize(),
+                    upload.request.getVideoContentType(), upload.request.getVideoContentMd5());
+            if (thumbnailMetadata != null) {
+                verify(upload.thumbnail, thumbnailMetadata, upload.request.getThumbnailFileSize(),
+                        upload.request.getThumbnailContentType(), upload.request.getThumbnailContentMd5());
+            }
+            videoInfo = probe(upload.video, videoMetadata.getContentLength());
+        } catch (PendingUploadException e) {
+            uploads.put(uploadId, upload);
+            throw new FileValidationException(e.getMessage());
+        } catch (RuntimeException e) {
+            discard(upload);
+            throw e;
+        }
+
+        String thumbnailPath = upload.thumbnail == null ? null : signer.storedPath(upload.thumbnail.target().getKey());
+        Long videoSeq = videoService.registerUploadedVideo(
+                VideoCreateRequest.of(upload.request.getTitle(), upload.request.getContent()),
+                signer.storedPath(upload.video.target().getKey()),
+                thumbnailPath,
+                videoInfo);
+
+        log.info("직접 업로드 완료: {} -> video {}", uploadId, videoSeq);
+        return videoSeq;
+    }
+
+    @PreAuthorize("isAuthenticated()")
+    public void cancel(String uploadId) {
+        DirectUpload upload = getOwnedUpload(uploadId);
+        if (uploads.remove(uploadId, upload)) {
+            discard(upload);
+            log.info("직접 업로드 취소: {}", uploadId);
+        }
+    }
+
+    /**
+     * URL 이 만료된 업로드 정리 (multipart abort, 올라온 객체 삭제)
+     */
+    @Scheduled(fixedDelayString = "${file.upload.session-cleanup-interval-ms}")
+    public void expireUploads() {
+        Instant now = Instant.now();
+        for (DirectUpload upload : uploads.values()) {
+            if (upload.expiresAt.isBefore(now) && uploads.remove(upload.uploadId, upload)) {
+                discard(upload);
+                log.info("직접 업로드 만료: {}", upload.uploadId);
+            }
+        }
+    }
+
+    private void completeMultipart(DirectUpload upload, List<DirectUploadCompleteRequest.CompletedPart> parts) {
+        int expectedParts = upload.video.target().getParts().size();
+        if (parts == null || parts.size() != expectedParts) {
+            throw new PendingUploadException(
+                    String.format("비디오 파트 %d개의 ETag 가 필요합니다.", expectedParts));
+        }
+
+        List<PartETag> partETags = parts.stream()
+                .map(part -> new PartETag(part.getPartNumber(), part.getEtag()))
+                .sorted(Comparator.comparingInt(PartETag::getPartNumber))
+                .toList();
+        try {
+            signer.completeMultipart(upload.video.target().getKey(), upload.video.multipartUploadId(), partETags);
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 400) {  // InvalidPart, InvalidPartOrder 등 - 파트를 다시 올리거나 ETag 를 고쳐 재시도
+                throw new PendingUploadException("비디오 파트 정보가 올바르지 않습니다: " + e.getErrorCode());
+            }
+            throw e;
+        }
+    }
+
+    private ObjectMetadata headUploaded(PresignedUpload target) {
+        return signer.head(target.target().getKey())
+                .orElseThrow(() -> new PendingUploadException(
+                        "아직 업로드되지 않은 파일이 있습니다: " + target.target().getKey()));
+    }
+
+    /**
+     * 업로드된 비디오의 컨테이너 헤더 확인 (key 의 확장자 기준, 해석하지 않는 형식이면 null)
+     */
+    private MediaProbe.Metadata probe(PresignedUpload target, long fileSize) {
+        String key = target.target().getKey();
+        if (!MediaProbe.isSupported(key)) {
+            return null;
+        }
+        try {
+            return MediaProbe.probe(key, fileSize, (position, length) -> signer.read(key, position, length));
+        } catch (IOException e) {
+            throw new FileUploadException("업로드된 파일을 확인하지 못했습니다.", e);
+        }
+    }
+
+    /**
+     * HEAD 결과가 발급 요청과 같은지 확인
+     * 체크섬: 단일 PUT 은 ETag = MD5(hex), multipart 는 ETag 가 "-{파트 수}" 로 끝나야 함
+     */
+    private void verify(PresignedUpload target, ObjectMetadata metadata, long expectedSize,
+                        String expectedContentType, String contentMd5) {
+        String key = target.target().getKey();
+        if (metadata.getContentLength() != expectedSize) {
+            throw new FileValidationException(String.format(
+                    "업로드된 파일 크기가 다릅니다: %s (요청 %d, 실제 %d bytes)", key, expectedSize, metadata.getContentLength()));
+        }
+        if (expectedContentType != null && !expectedContentType.equalsIgnoreCase(metadata.getContentType())) {
+            throw new FileValidationException("업로드된 파일 형식이 다릅니다: " + key);
+        }
+
+        String etag = metadata.getETag() == null ? "" : metadata.getETag().replace("\"", "");
+        if (target.multipartUploadId() != null) {
+            if (!etag.endsWith("-" + target.target().getParts().size())) {
+                throw new FileValidationException("업로드된 파일의 파트 구성이 다릅니다: " + key);
+            }
+        } else if (contentMd5 != null) {
+            String expectedEtag = HexFormat.of().formatHex(Base64.getDecoder().decode(contentMd5));
+            if (!expectedEtag.equalsIgnoreCase(etag)) {
+                throw new FileValidationException("업로드된 파일 체크섬이 다릅니다: " + key);
+            }
+        }
+    }
+
+    private void discard(DirectUpload upload) {
+        for (PresignedUpload target : Arrays.asList(upload.video, upload.thumbnail)) {
+            if (target == null) {
+                continue;
+            }
+            if (target.multipartUploadId() != null) {
+                signer.abortQuietly(target.target().getKey(), target.multipartUploadId());
+            }
+            signer.deleteQuietly(target.target().getKey());
+        }
+    }
+
+    private DirectUpload getOwnedUpload(String uploadId) {
+        DirectUpload upload = uploads.get(uploadId);
+        if (upload == null || !upload.memberSeq.equals(securityUtils.getCurrentMemberSeq())) {
+            throw new UploadSessionNotFoundException(uploadId);
+        }
+        return upload;
+    }
+
+    private String validate(String fileName, long fileSize, long maxSize, String allowedExtensions, String fileType) {
+        if (fileName == null || !fileName.contains(".")) {
+            throw new FileValidationException(fileType + " 파일의 확장자가 없습니다.");
+        }
+        String extension = fileName.substring(fileName.lastIndexOf("."));
+        if (!Arrays.asList(allowedExtensions.split(",")).contains(extension.substring(1).toLowerCase())) {
+            throw new FileValidationException(
+                    String.format("%s 파일의 확장자가 허용되지 않습니다. (허용: %s)", fileType, allowedExtensions)
+            );
+        }
+        if (fileSize <= 0) {
+            throw new FileValidationException(fileType + " 파일이 비어있습니다.");
+        }
+        if (fileSize > maxSize) {
+            throw new FileValidationException(
+                    String.format("%s 파일 크기가 제한(%d bytes)을 초과합니다.", fileType, maxSize)
+            );
+        }
+        return extension;
+    }
+
+    // 완료 요청을 다시 보낼 수 있는 상태 (객체 미도착, 파트 정보 오류)
+    private static class PendingUploadException extends RuntimeException {
+        PendingUploadException(String message) {
+            super(message);
+        }
+    }
+
+    private static final class DirectUpload {
+        private final String uploadId;
+        private final Long memberSeq;
+        private final DirectUploadCreateRequest request;
+        private final PresignedUpload video;
+        private final PresignedUpload thumbnail;
+        private final Instant expiresAt;
+
+        private DirectUpload(String uploadId, Long memberSeq, DirectUploadCreateRequest request,
+                             PresignedUpload video, PresignedUpload thumbnail, Instant expiresAt) {
+            this.uploadId = uploadId;
+            this.memberSeq = memberSeq;
+            this.request = request;
+            this.video = video;
+            this.thumbnail = thumbnail;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package io.goorm.youtube.service;
+
+import io.goorm.youtube.domain.FileDeletion;
+import io.goorm.youtube.file.FileUploadStrategy;
+import io.goorm.youtube.file.ImageVariants;
+import io.goorm.youtube.file.MediaBlobStore;
+import io.goorm.youtube.repository.FileDeletionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 저장소 파일 삭제 (transactional outbox + orphan 정리)
+ *
+ * 1. schedule: 파일 경로를 바꾸거나 지우는 트랜잭션 안에서 참조를 해제하고,
+ *    더 이상 참조가 없는 경로를 file_deletions 에 기록합니다. 롤백되면 기록도 남지 않습니다.
+ * 2. drain: 커밋된 기록을 배치로 읽어 저장소에서 일괄 삭제 (S3 DeleteObjects, 로컬 병렬 unlink)
+ *    실패한 경로는 지수 백오프로 다시 시도합니다.
+ * 3. sweepOrphans: 어떤 행도 가리키지 않는 저장소 파일을 찾아 삭제 대상으로 기록합니다.
+ *    (outbox 도입 이전에 남은 파일, 업로드 직후 DB 반영 전에 서버가 종료된 파일 등)
+ *
+ * drain/sweep 은 인스턴스 간 조율 없이 실행되므로 단일 인스턴스 배포를 전제로 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FileDeletionService {
+
+    private static final Duration INITIAL_RETRY_DELAY = Duration.ofSeconds(10);
+    private static final Duration MAX_RETRY_DELAY = Duration.ofHours(1);
+    private static final int SWEEP_BATCH_SIZE = 1000;
+
+    // 업로드 직후 아직 DB 에 반영되지 않은 파일 등 "참조 중"으로 봐야 하는 경로 조회
+    private static final List<String> REFERENCE_QUERIES = List.of(
+            "select video_path from videos where video_path in (:paths)",
+            "select thumbnail_path from videos where thumbnail_path in (:paths)",
+            "select profile_path from members where profile_path in (:paths)",
+            "select file_path from media_blobs where file_path in (:paths)",
+            "select file_path from file_deletions where file_path in (:paths)"
+    );
+
+    private final FileDeletionRepository fileDeletionRepository;
+    private final MediaBlobStore mediaBlobStore;
+    private final FileUploadStrategy fileUploadStrategy;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${file.deletion.batch-size}")
+    private int batchSize;
+
+    @Value("${file.deletion.orphan-grace-hours}")
+    private long orphanGraceHours;
+
+    /**
+     * 경로마다 참조 하나를 해제하고, 마지막 참조였던 파일을 삭제 대상으로 기록
+     * 파일 경로를 바꾸는 트랜잭션 안에서 호출해야 합니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void schedule(String... filePaths) {
+        List<String> paths = Arrays.stream(filePaths)
+                .filter(Objects::nonNull)
+                .toList();
+        if (paths.isEmpty()) {
+            return;
+        }
+
+        List<FileDeletion> deletions = mediaBlobStore.release(paths).stream()
+                .map(FileDeletion::createDeletion)
+                .toList();
+        fileDeletionRepository.saveAll(deletions);
+    }
+
+    /**
+     * 삭제 시각이 된 기록을 배치 단위로 처리
+     */
+    @Scheduled(fixedDelayString = "${file.deletion.drain-interval-ms}")
+    public synchronized void drain() {
+        int processed;
+        do {
+            processed = drainBatch();
+        } while (processed == batchSize);
+    }
+
+    // 조회와 결과 반영만 짧은 트랜잭션으로 실행하고, 저장소 삭제 동안에는 커넥션을 잡지 않음
+    private int drainBatch() {
+        List<FileDeletion> due = transactionTemplate.execute(status ->
+                fileDeletionRepository.findDue(LocalDateTime.now(), PageRequest.of(0, batchSize)));
+        if (due == null || due.isEmpty()) {
+            return 0;
+        }
+
+        // 이미지는 너비별 변형까지 함께 삭제, 변형 삭제에 실패하면 원본 기록을 재시도
+        List<String> paths = due.stream().map(FileDeletion::getFilePath).distinct().toList();
+        Set<String> failed = fileUploadStrategy.purgeFiles(ImageVariants.withVariants(paths)).stream()
+                .map(ImageVariants::originalPath)
+                .collect(Collectors.toSet());
+
+        List<Long> purgedIds = new ArrayList<>();
+        List<Long> failedIds = new ArrayList<>();
+        for (FileDeletion deletion : due) {
+            (failed.contains(deletion.getFilePath()) ? failedIds : purgedIds).add(deletion.getDeletionSeq());
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            fileDeletionRepository.deleteAllByIdInBatch(purgedIds);
+            fileDeletionRepository.findAllById(failedIds)
+                    .forEach(deletion -> deletion.retryAfter(retryDelay(deletion.getAttempts())));
+        });
+
+        meterRegistry.counter("file.deletion.purged").increment(purgedIds.size());
+        meterRegistry.counter("file.deletion.failed").increment(failedIds.size());
+        if (!failedIds.isEmpty()) {
+            log.warn("저장소 파일 삭제 실패 - 재시도 예약: {}건", failedIds.size());
+        }
+        return due.size();
+    }
+
+    // 10초, 20초, 40초 ... 최대 1시간
+    private static Duration retryDelay(int attempts) {
+        Duration delay = INITIAL_RETRY_DELAY.multipliedBy(1L << Math.min(attempts, 20));
+        return delay.compareTo(MAX_RETRY_DELAY) > 0 ? MAX_RETRY_DELAY : delay;
+    }
+
+    /**
+     * 어떤 행도 참조하지 않는 저장소 파일을 삭제 대상으로 기록
+     * 업로드 중인 파일을 지우지 않도록 유예 시간(orphan-grace-hours)보다 오래된 파일만 봅니다.
+     */
+    @Scheduled(cron = "${file.deletion.orphan-sweep-cron}")
+    public void sweepOrphans() {
+        Instant cutoff = Instant.now().minus(Duration.ofHours(orphanGraceHours));
+        List<String> candidates = new ArrayList<>(SWEEP_BATCH_SIZE);
+        int[] orphans = {0};
+
+        fileUploadStrategy.listFiles(file -> {
+            if (file.lastModified().isAfter(cutoff)) {
+                return;
+            }
+            candidates.add(file.filePath());
+            if (candidates.size() == SWEEP_BATCH_SIZE) {
+                orphans[0] += enqueueOrphans(candidates);
+                candidates.clear();
+            }
+        });
+        if (!candidates.isEmpty()) {
+            orphans[0] += enqueueOrphans(candidates);
+        }
+
+        meterRegistry.counter("file.deletion.orphans").increment(orphans[0]);
+        log.info("저장소 orphan 파일 정리 예약: {}건", orphans[0]);
+    }
+
+    private int enqueueOrphans(List<String> candidates) {
+        Integer enqueued = transactionTemplate.execute(status -> {
+            // 이미지 변형은 원본이 참조 중이면 참조 중으로 봄
+            List<String> originals = candidates.stream().map(ImageVariants::originalPath).distinct().toList();
+            Map<String, List<String>> params = Map.of("paths", originals);
+            Set<String> referenced = REFERENCE_QUERIES.stream()
+                    .flatMap(sql -> namedParameterJdbcTemplate.queryForList(sql, params, String.class).stream())
+                    .collect(Collectors.toSet());
+
+            List<FileDeletion> deletions = candidates.stream()
+                    .filter(path -> !referenced.contains(ImageVariants.originalPath(path)))
+                    .map(FileDeletion::createDeletion)
+                    .toList();
+            fileDeletionRepository.saveAll(deletions);
+            return deletions.size();
+        });
+        return enqueued == null ? 0 : enqueued;
+    }
+}
@@ -0,0 +1,10 @@
+package io.goorm.youtube.service;
+
+/**
+ * 썸네일/프로필 이미지를 엔티티에 연결한 트랜잭션에서 발행하는 이벤트
+ * 커밋 후 너비별 변형을 만드는 데 사용합니다. (ImageVariantService)
+ *
+ * @param filePath 저장된 원본 이미지 경로
+ */
+public record ImageUploadedEvent(String filePath) {
+}
@@ -0,0 +1,313 @@
+package io.goorm.youtube.service;
+
+import io.goorm.youtube.exception.MediaNotFoundException;
+import io.goorm.youtube.file.FileUploadStrategy;
+import io.goorm.youtube.file.ImageResizer;
+import io.goorm.youtube.file.ImageVariants;
+import io.goorm.youtube.repository.MemberRepository;
+import io.goorm.youtube.repository.VideoRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 썸네일/프로필 이미지의 너비별 변형 생성과 제공
+ *
+ * - 이미지를 엔티티에 연결한 트랜잭션이 커밋되면 원본을 읽어 ImageVariants.WIDTHS 너비로 줄인 사본을 저장합니다.
+ *   디코딩이 메모리를 많이 쓰므로 전용 스레드 풀(동시 처리 수, 대기열 크기 제한)에서만 실행하고,
+ *   대기열이 가득 차면 건너뛰고 image.variants.rejected 로 셉니다. (응답은 원본으로 계속 동작)
+ * - 변형이 모두 저장되면 같은 경로를 쓰는 비디오/회원에 완료 표시를 하고, 응답에 변형 URL 이 포함됩니다.
+ * - serve 는 요청 너비에 맞는 변형을 골라 전송하며, 변형이 아직 없으면 원본을 짧은 캐시 시간으로 전송합니다.
+ * - 변형을 만들 때 미리보기(BlurHash)도 함께 계산해 엔티티에 저장합니다. (목록 응답에 그대로 포함)
+ *   미리보기가 없는 기존 이미지는 backfill 로 같은 스레드 풀에서 병렬로 채우며,
+ *   대기열을 업로드 처리와 나눠 쓰도록 백필이 동시에 올리는 작업 수를 제한합니다.
+ */
+@Slf4j
+@Service
+public class ImageVariantService {
+
+    private static final CacheControl VARIANT_CACHE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+    private static final CacheControl FALLBACK_CACHE = CacheControl.maxAge(Duration.ofMinutes(1)).cachePublic();
+    private static final int BACKFILL_BATCH_SIZE = 200;
+
+    private final FileUploadStrategy fileUploadStrategy;
+    private final VideoRepository videoRepository;
+    private final MemberRepository memberRepository;
+    private final MemberCache memberCache;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor executor;
+
+    private final ExecutorService backfillExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicBoolean backfilling = new AtomicBoolean();
+    private final AtomicLong backfillTotal = new AtomicLong();
+    private final AtomicLong backfillProcessed = new AtomicLong();
+    private final int backfillConcurrency;
+    private final Semaphore backfillPermits;
+
+    public ImageVariantService(FileUploadStrategy fileUploadStrategy,
+                               VideoRepository videoRepository,
+                               MemberRepository memberRepository,
+                               MemberCache memberCache,
+                               TransactionTemplate transactionTemplate,
+                               ApplicationEventPublisher eventPublisher,
+                               MeterRegistry meterRegistry,
+                               @Value("${file.image.variant-concurrency}") int concurrency,
+                               @Value("${file.image.variant-queue-capacity}") int queueCapacity) {
+        this.fileUploadStrategy = fileUploadStrategy;
+        this.videoRepository = videoRepository;
+        this.memberRepository = memberRepository;
+        this.memberCache = memberCache;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(concurrency, concurrency, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-variant-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        meterRegistry.gauge("image.variants.queued", executor, pool -> pool.getQueue().size());
+
+        // 백필은 대기열의 절반까지만 사용 (나머지는 업로드 직후 생성용)
+        this.backfillConcurrency = Math.max(1, concurrency + queueCapacity / 2);
+        this.backfillPermits = new Semaphore(backfillConcurrency);
+        meterRegistry.gauge("image.backfill.total", backfillTotal);
+        meterRegistry.gauge("image.backfill.processed", backfillProcessed);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onImageUploaded(ImageUploadedEvent event) {
+        String filePath = event.filePath();
+        if (!ImageVariants.isImage(filePath)) {
+            return;
+        }
+        try {
+            executor.execute(() -> generate(filePath));
+        } catch (RejectedExecutionException e) {
+            meterRegistry.counter("image.variants.rejected").increment();
+            log.warn("이미지 변형 대기열이 가득 차 건너뜁니다: {}", filePath);
+        }
+    }
+
+    /**
+     * 미리보기가 없는 썸네일/프로필 이미지 백필 시작 (이미 실행 중이면 false)
+     */
+    public boolean backfill() {
+        if (!backfilling.compareAndSet(false, true)) {
+            return false;
+        }
+        backfillExecutor.submit(this::runBackfill);
+        return true;
+    }
+
+    public BackfillProgress getBackfillProgress() {
+        return new BackfillProgress(backfilling.get(), backfillTotal.get(), backfillProcessed.get());
+    }
+
+    /**
+     * 요청 너비에 맞는 변형 전송 (변형이 없으면 원본)
+     * @param src 저장된 원본 이미지 경로 (응답의 thumbnailPath/profilePath)
+     * @param width 표시할 너비 (px)
+     * @throws IllegalArgumentException 이미지 경로가 아닌 경우
+     * @throws MediaNotFoundException 원본이 없는 경우
+     */
+    public void serve(String src, int width, HttpServletResponse response) throws IOException {
+        if (!ImageVariants.isImage(src) || src.contains("..")) {
+            throw new IllegalArgumentException("이미지 경로가 아닙니다.");
+        }
+
+        String filePath = ImageVariants.variantPath(src, ImageVariants.select(width));
+        CacheControl cacheControl = VARIANT_CACHE;
+        long fileSize;
+        try {
+            fileSize = fileUploadStrategy.getFileSize(filePath);
+            meterRegistry.counter("image.variants.served", "result", "variant").increment();
+        } catch (MediaNotFoundException e) {
+            filePath = src;
+            cacheControl = FALLBACK_CACHE;
+            fileSize = fileUploadStrategy.getFileSize(filePath);
+            meterRegistry.counter("image.variants.served", "result", "original").increment();
+        }
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaTypeFactory.getMediaType(filePath)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+        response.setContentLengthLong(fileSize);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        fileUploadStrategy.transferTo(filePath, 0, fileSize,
+                Channels.newChannel(response.getOutputStream()));
+    }
+
+    private void runBackfill() {
+        long start = System.nanoTime();
+        try {
+            backfillProcessed.set(0);
+            backfillTotal.set(videoRepository.countThumbnailPathsWithoutPlaceholder()
+                    + memberRepository.countProfilePathsWithoutPlaceholder());
+
+            submitBackfill(after -> videoRepository.findThumbnailPathsWithoutPlaceholderAfter(
+                    after, PageRequest.of(0, BACKFILL_BATCH_SIZE)));
+            submitBackfill(after -> memberRepository.findProfilePathsWithoutPlaceholderAfter(
+                    after, PageRequest.of(0, BACKFILL_BATCH_SIZE)));
+
+            // 마지막으로 올린 작업들이 끝날 때까지 대기 (허가가 모두 돌아오면 끝)
+            backfillPermits.acquire(backfillConcurrency);
+            backfillPermits.release(backfillConcurrency);
+
+            log.info("이미지 미리보기 백필 완료: {}/{}건, {}ms", backfillProcessed.get(), backfillTotal.get(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.error("이미지 미리보기 백필 실패 (다시 실행해야 합니다)", e);
+        } finally {
+            backfilling.set(false);
+        }
+    }
+
+    // 경로 순으로 끝까지 읽으며 변형 생성 풀에 제출 (허가 수만큼만 동시에 대기)
+    private void submitBackfill(Function<String, List<String>> nextBatch) throws InterruptedException {
+        String after = "";
+        List<String> batch;
+        do {
+            batch = nextBatch.apply(after);
+            for (String filePath : batch) {
+                after = filePath;
+                if (!ImageVariants.isImage(filePath)) {
+                    backfillProcessed.incrementAndGet();
+                    continue;
+                }
+                backfillPermits.acquire();
+                try {
+                    executor.execute(() -> {
+                        try {
+                            generate(filePath);
+                        } finally {
+                            backfillProcessed.incrementAndGet();
+                            backfillPermits.release();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    backfillPermits.release();
+                    backfillProcessed.incrementAndGet();
+                    meterRegistry.counter("image.variants.rejected").increment();
+                }
+            }
+        } while (batch.size() == BACKFILL_BATCH_SIZE && !Thread.currentThread().isInterrupted());
+    }
+
+    private void generate(String filePath) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            String placeholder;
+            if (variantsExist(filePath)) {  // 중복 업로드나 백필은 이미 만들어진 가장 작은 변형으로 미리보기만 계산
+                placeholder = ImageResizer.placeholder(read(ImageVariants.variantPath(filePath, ImageVariants.WIDTHS.get(0))));
+            } else {
+                ImageResizer.Result result = ImageResizer.resize(
+                        read(filePath), ImageResizer.formatOf(filePath), ImageVariants.WIDTHS);
+                String contentType = MediaTypeFactory.getMediaType(filePath)
+                        .map(MediaType::toString)
+                        .orElse(null);
+                // 가장 큰 너비를 마지막에 기록 (variantsExist 가 그 파일로 완료 여부를 판단)
+                result.variants().forEach((width, content) ->
+                        fileUploadStrategy.storeDerivedFile(ImageVariants.variantPath(filePath, width), content, contentType));
+                placeholder = result.placeholder();
+                meterRegistry.counter("image.variants.generated").increment();
+            }
+            markReady(filePath, placeholder);
+        } catch (IOException | RuntimeException e) {
+            meterRegistry.counter("image.variants.failed").increment();
+            log.warn("이미지 변형 생성 실패 (원본을 계속 사용합니다): {}", filePath, e);
+        } finally {
+            sample.stop(meterRegistry.timer("image.variants.generate"));
+        }
+    }
+
+    private boolean variantsExist(String filePath) {
+        int largest = ImageVariants.WIDTHS.get(ImageVariants.WIDTHS.size() - 1);
+        try {
+            fileUploadStrategy.getFileSize(ImageVariants.variantPath(filePath, largest));
+            return true;
+        } catch (MediaNotFoundException e) {
+            return false;
+        }
+    }
+
+    private byte[] read(String filePath) throws IOException {
+        long fileSize = fileUploadStrategy.getFileSize(filePath);
+        ByteArrayOutputStream content = new ByteArrayOutputStream((int) fileSize);
+        fileUploadStrategy.transferTo(filePath, 0, fileSize, Channels.newChannel(content));
+        return content.toByteArray();
+    }
+
+    /**
+     * 같은 경로를 쓰는 비디오 썸네일/회원 프로필에 변형 완료 표시와 미리보기 저장
+     * 목록/상세 캐시에도 반영되도록 비디오 변경 이벤트를 함께 발행합니다.
+     */
+    private void markReady(String filePath, String placeholder) {
+        transactionTemplate.executeWithoutResult(status -> {
+            videoRepository.findAllByThumbnailPath(filePath).stream()
+                    .filter(video -> !video.isThumbnailVariants() || video.getThumbnailPlaceholder() == null)
+                    .forEach(video -> {
+                        eventPublisher.publishEvent(VideoChangedEvent.before(video, VideoChangedEvent.Change.UPDATED));
+                        video.markThumbnailVariantsReady(placeholder);
+                    });
+            memberRepository.findAllByProfilePath(filePath).stream()
+                    .filter(member -> !member.isProfileVariants() || member.getProfilePlaceholder() == null)
+                    .forEach(member -> {
+                        member.markProfileVariantsReady(placeholder);
+                        memberCache.evictAfterCommit(member.getMemberSeq());
+                    });
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        backfillExecutor.shutdownNow();
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * @param running 백필 실행 중 여부
+     * @param total 시작 시점에 미리보기가 없던 이미지 경로 수
+     * @param processed 처리한 경로 수 (실패 포함)
+     */
+    public record BackfillProgress(boolean running, long total, long processed) {
+    }
+}
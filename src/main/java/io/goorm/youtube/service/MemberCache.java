@@ -0,0 +1,57 @@
+package io.goorm.youtube.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.goorm.youtube.dto.member.MemberResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 회원 정보 스냅샷(MemberResponse) 캐시
+ *
+ * 엔티티가 아닌 불변 응답 객체를 memberSeq 로 캐싱하며, 항목은 짧은 TTL 후 만료됩니다.
+ * 회원 정보가 바뀌면 커밋 이후에 무효화하여 이전 값이 다시 적재되지 않도록 합니다.
+ */
+@Component
+public class MemberCache {
+
+    private final Cache<Long, MemberResponse> cache;
+
+    public MemberCache(MeterRegistry meterRegistry,
+                       @Value("${member.cache.ttl-seconds}") long ttlSeconds,
+                       @Value("${member.cache.maximum-size}") long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "member");
+    }
+
+    public MemberResponse get(Long memberSeq, Function<Long, MemberResponse> loader) {
+        return cache.get(memberSeq, loader);
+    }
+
+    /**
+     * 진행 중인 트랜잭션이 있으면 커밋 후, 없으면 즉시 무효화
+     */
+    public void evictAfterCommit(Long memberSeq) {
+        cache.invalidate(memberSeq);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(memberSeq);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package io.goorm.youtube.service;
+
+/**
+ * 회원 이름 변경 이벤트
+ * 작성자 이름을 담아 둔 비디오 캐시 항목을 커밋 후 무효화하는 데 사용합니다.
+ */
+public record MemberRenamedEvent(Long memberSeq) {
+}
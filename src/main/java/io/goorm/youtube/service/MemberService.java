@@ -7,18 +7,26 @@ import io.goorm.youtube.dto.member.MemberResponse;
 import io.goorm.youtube.dto.member.MemberUpdateRequest;
 import io.goorm.youtube.dto.member.PasswordUpdateRequest;
 import io.goorm.youtube.exception.DuplicateMemberException;
+import io.goorm.youtube.exception.MemberNotFoundException;
 import io.goorm.youtube.exception.PasswordMismatchException;
 import io.goorm.youtube.file.FileUploadStrategy;
 import io.goorm.youtube.repository.MemberRepository;
 import io.goorm.youtube.security.SecurityUtils;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.Objects;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -28,9 +36,13 @@ public class MemberService {
     private final PasswordEncoder passwordEncoder;
     private final FileUploadStrategy fileUploadStrategy;
     private final SecurityUtils securityUtils;
+    private final MemberCache memberCache;
+    private final TransactionTemplate transactionTemplate;
+    private final FileDeletionService fileDeletionService;
+    private final ApplicationEventPublisher eventPublisher;
 
     //사용자 생성
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)  // 파일 전송 동안 트랜잭션/커넥션을 잡지 않음
     public Long createMember(MemberCreateRequest request, MultipartFile profileImage) {
         // 아이디 중복 검사
         if (memberRepository.existsByMemberId(request.getMemberId())) {
@@ -49,7 +61,20 @@ public class MemberService {
         );
 
         member.encodePw(passwordEncoder);
-        return memberRepository.save(member).getMemberSeq();
+
+        // 짧은 쓰기 트랜잭션 (아이디 중복 등으로 실패하면 업로드한 프로필 정리)
+        try {
+            return transactionTemplate.execute(status -> {
+                Long memberSeq = memberRepository.save(member).getMemberSeq();
+                if (member.getProfilePath() != null) {
+                    eventPublisher.publishEvent(new ImageUploadedEvent(member.getProfilePath()));
+                }
+                return memberSeq;
+            });
+        } catch (RuntimeException e) {
+            deleteStoredFile(profileUploadResult.getFilePath());
+            throw e;
+        }
     }
 
     //아이디 중복 확인
@@ -59,29 +84,50 @@ public class MemberService {
 
     public MemberResponse getMyInfo() {
 
-        Member member = securityUtils.getCurrentMember();
+        Long memberSeq = securityUtils.getCurrentMemberSeq();
 
-        return MemberResponse.of(member);
+        return memberCache.get(memberSeq, seq -> memberRepository.findById(seq)
+                .map(MemberResponse::of)
+                .orElseThrow(() -> new MemberNotFoundException("회원 정보를 찾을 수 없습니다: " + seq)));
     }
 
     //사용자 수정
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)  // 파일 전송 동안 트랜잭션/커넥션을 잡지 않음
     @PreAuthorize("isAuthenticated()")  // 인증된 사용자만 접근 가능
     public void updateMyInfo(MemberUpdateRequest request, MultipartFile profileImage) {
 
-        Member member = securityUtils.getCurrentMember();
-
-        // 새로운 비디오 파일이 있는 경우
+        // 1. 새로운 프로필 이미지 저장소 전송 (트랜잭션 없음)
+        String uploadedProfilePath = null;
         if (profileImage != null && !profileImage.isEmpty()) {
-            FileUploadResult profileResult = fileUploadStrategy.uploadProfileImage(profileImage);
-            fileUploadStrategy.deleteFile(member.getProfilePath()); // 기존 파일 삭제
-            member.updateProfile(profileResult.getFilePath());
+            uploadedProfilePath = fileUploadStrategy.uploadProfileImage(profileImage).getFilePath();
         }
 
-        member.updateMetadata(
-                request.getMemberName(),
-                request.getMemberInfo()
-        );
+        // 2. 짧은 쓰기 트랜잭션 - 교체된 기존 프로필은 같은 트랜잭션에서 삭제 예약 (커밋 후 drainer 가 삭제)
+        String newProfilePath = uploadedProfilePath;
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Member member = securityUtils.getCurrentMember();
+
+                if (newProfilePath != null) {
+                    fileDeletionService.schedule(member.getProfilePath());
+                    member.updateProfile(newProfilePath);
+                    eventPublisher.publishEvent(new ImageUploadedEvent(newProfilePath));
+                }
+
+                if (!Objects.equals(member.getMemberName(), request.getMemberName())) {
+                    eventPublisher.publishEvent(new MemberRenamedEvent(member.getMemberSeq()));
+                }
+                member.updateMetadata(
+                        request.getMemberName(),
+                        request.getMemberInfo()
+                );
+
+                memberCache.evictAfterCommit(member.getMemberSeq());
+            });
+        } catch (RuntimeException e) {
+            deleteStoredFile(newProfilePath);  // DB 반영 실패 시 새 파일 정리
+            throw e;
+        }
     }
 
     //비밀번호 수정
@@ -89,13 +135,13 @@ public class MemberService {
     @PreAuthorize("isAuthenticated()")
     public void updatePassword(Long memberSeq, PasswordUpdateRequest request) {  // memberId 추가
 
-        // 현재 인증된 사용자가 이 memberSeq의 소유자인지 확인
-        Member currentMember = securityUtils.getCurrentMember();
-
-        if (!currentMember.getMemberSeq().equals(memberSeq)) {
+        // 현재 인증된 사용자가 이 memberSeq의 소유자인지 확인 (토큰 클레임으로 판단, 조회 없음)
+        if (!securityUtils.getCurrentMemberSeq().equals(memberSeq)) {
             throw new AccessDeniedException("비밀번호 변경 권한이 없습니다.");
         }
 
+        Member currentMember = securityUtils.getCurrentMember();
+
         // 현재 비밀번호 확인
         if (!passwordEncoder.matches(request.getCurrentPassword(), currentMember.getMemberPw())) {
             throw new PasswordMismatchException();
@@ -109,4 +155,15 @@ public class MemberService {
         currentMember.updatePassword(passwordEncoder.encode(request.getNewPassword()));
     }
 
-}
\ No newline at end of file
+    // 저장소 파일 정리는 요청 결과에 영향을 주지 않도록 실패해도 기록만 남김
+    private void deleteStoredFile(String filePath) {
+        if (filePath == null) {
+            return;
+        }
+        try {
+            fileUploadStrategy.deleteFile(filePath);
+        } catch (RuntimeException e) {
+            log.warn("저장 파일 정리 실패: {}", filePath, e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package io.goorm.youtube.service;
+
+import io.goorm.youtube.dto.video.VideoSummaryResponse;
+
+/**
+ * 공개 목록 값 변경 이벤트
+ * PublicVideoFeed 가 비디오 변경을 반영하며 만든 값을 다른 메모리 사본(자동완성)이 다시 조회하지 않고 쓰도록 전달합니다.
+ *
+ * @param summary 커밋된 공개 목록 값 (비공개/삭제면 null)
+ */
+public record PublicSummaryChangedEvent(Long videoSeq, VideoSummaryResponse summary) {
+}
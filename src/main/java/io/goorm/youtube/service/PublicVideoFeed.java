@@ -0,0 +1,339 @@
+package io.goorm.youtube.service;
+
+import io.goorm.youtube.dto.ContentVersion;
+import io.goorm.youtube.dto.video.VideoCursor;
+import io.goorm.youtube.dto.video.VideoSummaryResponse;
+import io.goorm.youtube.repository.VideoRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 메인 목록 앞부분(최신 공개 비디오 N건)의 메모리 사본
+ *
+ * 모든 방문자에게 같은 결과인 메인 목록 첫 몇 페이지를 DB 조회 없이 응답합니다.
+ * - 목록은 (regAt desc, videoSeq desc) 순서의 불변 배열이며, 변경 시 새 배열로 통째로 교체합니다.
+ *   읽는 쪽은 잠금 없이 현재 배열을 사용합니다.
+ * - 배열은 항상 DB 정렬 결과의 "앞부분 그대로"입니다. 창 밖의 비디오는 알 수 없으므로
+ *   창 끝보다 오래된 비디오는 넣지 않고, 창을 넘는 요청은 DB 로 넘깁니다. (empty 반환)
+ * - VideoService 의 변경 이벤트로 해당 비디오만 반영하고 (이벤트에 담긴 커밋된 엔티티 값 사용),
+ *   주기적으로 DB 와 비교해 다시 만듭니다. (조회수, 작성자 이름 등도 이때 맞춰짐)
+ * - 공개 목록에 보이는 값이 바뀔 때마다 목록 버전을 올립니다. 목록 조회의 조건부 GET 은 이 버전만 비교하므로
+ *   변경이 없으면 DB 도 메모리 사본도 거치지 않고 304 로 응답합니다. (창 밖 페이지도 같은 버전을 씀)
+ * - 단, 조회수만 바뀐 경우(flush 마다 거의 항상)는 마지막 변경 후 view-version-interval-ms 가 지났을 때만 올립니다.
+ *   매 flush 마다 올리면 304 가 거의 나오지 않기 때문이며, 대신 클라이언트가 캐시한 목록의 조회수는
+ *   그 간격만큼 늦게 보일 수 있습니다. (등록/수정/삭제/공개 변경, 작성자 이름 변경은 바로 올림)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PublicVideoFeed {
+
+    // 재시작 전에 발급한 ETag 와 겹치지 않도록 버전 앞에 붙이는 기동 시각
+    private static final String BOOT_ID = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+
+    private static final Comparator<VideoSummaryResponse> FEED_ORDER = Comparator
+            .comparing(VideoSummaryResponse::getRegAt, Comparator.reverseOrder())
+            .thenComparing(VideoSummaryResponse::getVideoSeq, Comparator.reverseOrder());
+
+    private final VideoRepository videoRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 시작 직후 처음 만들어지기 전에는 null (모든 요청을 DB 로)
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    private final AtomicReference<Version> version = new AtomicReference<>(new Version(0, System.currentTimeMillis()));
+
+    @Value("${video.feed.window-size}")
+    private int windowSize;
+
+    @Value("${video.feed.view-version-interval-ms}")
+    private long viewVersionIntervalMs;
+
+    @PostConstruct
+    void registerMetrics() {
+        meterRegistry.gauge("video.feed.size", snapshot, ref -> {
+            Snapshot current = ref.get();
+            return current == null ? 0 : current.videos().length;
+        });
+    }
+
+    /**
+     * 페이지 목록 조회 - 요청 범위가 메모리 창 안에 있을 때만 응답
+     */
+    public Optional<Page<VideoSummaryResponse>> getPage(Pageable pageable) {
+        Snapshot current = snapshot.get();
+        if (current == null || pageable.isUnpaged() || pageable.getSort().isSorted()) {
+            return miss();
+        }
+
+        VideoSummaryResponse[] videos = current.videos();
+        long end = pageable.getOffset() + pageable.getPageSize();
+        if (end > videos.length && !current.complete()) {
+            return miss();
+        }
+
+        int from = (int) Math.min(pageable.getOffset(), videos.length);
+        int to = (int) Math.min(end, videos.length);
+        return hit(new PageImpl<>(List.of(Arrays.copyOfRange(videos, from, to)), pageable, current.total()));
+    }
+
+    /**
+     * 커서 목록 조회 - 커서 이후 size + 1 건(다음 조각 여부 확인용)이 메모리 창 안에 있을 때만 응답
+     */
+    public Optional<Slice<VideoSummaryResponse>> getSlice(VideoCursor cursor, Pageable limit) {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            return miss();
+        }
+
+        VideoSummaryResponse[] videos = current.videos();
+        int from = cursor == null ? 0 : indexAfter(videos, cursor);
+        int to = from + limit.getPageSize();
+        if (to >= videos.length && !current.complete()) {
+            return miss();
+        }
+
+        List<VideoSummaryResponse> content = List.of(Arrays.copyOfRange(videos, from, Math.min(to, videos.length)));
+        return hit(new SliceImpl<>(content, limit, to < videos.length));
+    }
+
+    /**
+     * 공개 목록 버전 (목록 조회의 ETag, Last-Modified)
+     */
+    public ContentVersion getVersion() {
+        Version current = version.get();
+        return ContentVersion.weak("feed-" + BOOT_ID + "-" + current.sequence(), current.changedAt());
+    }
+
+    /**
+     * 비디오 변경 반영 (변경 트랜잭션 커밋 후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVideoChanged(VideoChangedEvent event) {
+        Optional<VideoSummaryResponse> changed = committedSummary(event);
+        apply(event, changed);
+        // 자동완성도 같은 값으로 반영 (다시 조회하지 않도록)
+        eventPublisher.publishEvent(new PublicSummaryChangedEvent(event.videoSeq(), changed.orElse(null)));
+    }
+
+    /**
+     * 커밋된 공개 목록 값 (공개 상태가 아니면 empty)
+     * 이벤트의 엔티티로 만들고, 작성자가 적재되지 않은 엔티티일 때만 DB 에서 읽습니다.
+     */
+    private Optional<VideoSummaryResponse> committedSummary(VideoChangedEvent event) {
+        if (event.change() == VideoChangedEvent.Change.DELETED) {
+            return Optional.empty();
+        }
+        if (event.hasState()) {
+            return event.isPublic() ? Optional.of(VideoSummaryResponse.of(event.video())) : Optional.empty();
+        }
+        return videoRepository.findPublicSummary(event.videoSeq());
+    }
+
+    private synchronized void apply(VideoChangedEvent event, Optional<VideoSummaryResponse> changed) {
+        touch();
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            return;  // 처음 만들 때 커밋된 상태를 그대로 읽음
+        }
+
+        VideoSummaryResponse[] videos = remove(current.videos(), event.videoSeq());
+        boolean complete = current.complete();
+        if (changed.isPresent()) {
+            int position = insertionPoint(videos, changed.get());
+            // 창이 전체가 아니면 창 끝 뒤의 순서는 알 수 없으므로 넣지 않음
+            if (position < videos.length || complete) {
+                videos = insert(videos, position, changed.get());
+                if (videos.length > windowSize) {
+                    videos = Arrays.copyOf(videos, windowSize);
+                    complete = false;
+                }
+            }
+        }
+
+        long total = current.total() + (changed.isPresent() ? 1 : 0) - (event.wasPublic() ? 1 : 0);
+        snapshot.set(new Snapshot(videos, Math.max(0, total), complete));
+    }
+
+    /**
+     * 반영된 조회수를 메모리 사본에도 더함 (DB 값 + 미반영분으로 보여주므로 반영 후 줄어 보이지 않도록)
+     * 목록 버전은 마지막 변경 후 view-version-interval-ms 가 지났을 때만 올림 (304 유지, 조회수는 그만큼 늦게 보임)
+     */
+    @EventListener
+    public synchronized void onViewCountsFlushed(ViewCountsFlushedEvent event) {
+        touchIfOlderThan(viewVersionIntervalMs);
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            return;
+        }
+
+        VideoSummaryResponse[] videos = current.videos().clone();
+        boolean changed = false;
+        for (int i = 0; i < videos.length; i++) {
+            Long delta = event.deltas().get(videos[i].getVideoSeq());
+            if (delta != null) {
+                videos[i] = videos[i].toBuilder().viewCount(videos[i].getViewCount() + delta).build();
+                changed = true;
+            }
+        }
+        if (changed) {
+            snapshot.set(new Snapshot(videos, current.total(), current.complete()));
+        }
+    }
+
+    /**
+     * 작성자 이름은 다음 비교(verify) 때 사본에 반영되지만, 목록 버전은 바로 올림
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberRenamed(MemberRenamedEvent event) {
+        touch();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        Snapshot loaded = load();
+        snapshot.set(loaded);
+        log.info("메인 목록 메모리 사본 생성: {}건 (전체 {}건)", loaded.videos().length, loaded.total());
+    }
+
+    /**
+     * DB 와 비교 후 다시 만듦
+     * 목록 구성(순서, 수정 시각)이나 전체 건수가 다르면 불일치로 기록합니다.
+     */
+    @Scheduled(fixedDelayString = "${video.feed.verify-interval-ms}",
+            initialDelayString = "${video.feed.verify-interval-ms}")
+    public synchronized void verify() {
+        Snapshot current = snapshot.get();
+        Snapshot loaded = load();
+
+        if (current != null && !current.sameAs(loaded)) {
+            meterRegistry.counter("video.feed.drift").increment();
+            log.warn("메인 목록 메모리 사본이 DB 와 달라 다시 만듭니다: memory={}건/{}, db={}건/{}",
+                    current.videos().length, current.total(), loaded.videos().length, loaded.total());
+            touch();
+        }
+        snapshot.set(loaded);
+    }
+
+    private Snapshot load() {
+        return transactionTemplate.execute(status -> {
+            Slice<VideoSummaryResponse> window = videoRepository.findPublicFeed(PageRequest.of(0, windowSize));
+            return new Snapshot(
+                    window.getContent().toArray(VideoSummaryResponse[]::new),
+                    videoRepository.countPublic(),
+                    !window.hasNext());
+        });
+    }
+
+    private void touch() {
+        long now = System.currentTimeMillis();
+        version.updateAndGet(current -> new Version(current.sequence() + 1, now));
+    }
+
+    // 마지막 변경이 intervalMs 보다 오래됐을 때만 올림
+    private void touchIfOlderThan(long intervalMs) {
+        long now = System.currentTimeMillis();
+        version.updateAndGet(current -> now - current.changedAt() >= intervalMs
+                ? new Version(current.sequence() + 1, now)
+                : current);
+    }
+
+    private <T> Optional<T> hit(T result) {
+        meterRegistry.counter("video.feed.requests", "result", "hit").increment();
+        return Optional.of(result);
+    }
+
+    private <T> Optional<T> miss() {
+        meterRegistry.counter("video.feed.requests", "result", "miss").increment();
+        return Optional.empty();
+    }
+
+    // 커서 바로 다음 위치
+    private static int indexAfter(VideoSummaryResponse[] videos, VideoCursor cursor) {
+        VideoSummaryResponse probe = VideoSummaryResponse.builder()
+                .regAt(cursor.getRegAt())
+                .videoSeq(cursor.getVideoSeq())
+                .build();
+        int index = Arrays.binarySearch(videos, probe, FEED_ORDER);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    private static int insertionPoint(VideoSummaryResponse[] videos, VideoSummaryResponse video) {
+        int index = Arrays.binarySearch(videos, video, FEED_ORDER);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private static VideoSummaryResponse[] insert(VideoSummaryResponse[] videos, int position, VideoSummaryResponse video) {
+        VideoSummaryResponse[] next = new VideoSummaryResponse[videos.length + 1];
+        System.arraycopy(videos, 0, next, 0, position);
+        next[position] = video;
+        System.arraycopy(videos, position, next, position + 1, videos.length - position);
+        return next;
+    }
+
+    private static VideoSummaryResponse[] remove(VideoSummaryResponse[] videos, Long videoSeq) {
+        for (int i = 0; i < videos.length; i++) {
+            if (videos[i].getVideoSeq().equals(videoSeq)) {
+                VideoSummaryResponse[] next = new VideoSummaryResponse[videos.length - 1];
+                System.arraycopy(videos, 0, next, 0, i);
+                System.arraycopy(videos, i + 1, next, i, videos.length - i - 1);
+                return next;
+            }
+        }
+        return videos;
+    }
+
+    /**
+     * @param sequence 공개 목록이 바뀔 때마다 1 증가
+     * @param changedAt 마지막으로 바뀐 시각 (Last-Modified)
+     */
+    private record Version(long sequence, long changedAt) {
+    }
+
+    /**
+     * @param videos 최신순 공개 비디오 (DB 정렬 결과의 앞부분)
+     * @param total 공개 비디오 전체 건수 (페이지 응답의 totalElements)
+     * @param complete 창 안에 공개 비디오가 모두 들어 있는지 여부
+     */
+    private record Snapshot(VideoSummaryResponse[] videos, long total, boolean complete) {
+
+        // 삭제/비공개로 창이 줄어든 것은 정상이므로 현재 창이 DB 결과의 앞부분과 같은지만 비교
+        boolean sameAs(Snapshot loaded) {
+            if (total != loaded.total || videos.length > loaded.videos.length) {
+                return false;
+            }
+            for (int i = 0; i < videos.length; i++) {
+                if (!videos[i].getVideoSeq().equals(loaded.videos[i].getVideoSeq())
+                        || !Objects.equals(videos[i].getUpdateAt(), loaded.videos[i].getUpdateAt())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
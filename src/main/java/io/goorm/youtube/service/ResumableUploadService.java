@@ -0,0 +1,399 @@
+package io.goorm.youtube.service;
+
+import io.goorm.youtube.dto.video.UploadSessionCreateRequest;
+import io.goorm.youtube.dto.video.UploadSessionResponse;
+import io.goorm.youtube.dto.video.VideoCreateRequest;
+import io.goorm.youtube.exception.FileUploadException;
+import io.goorm.youtube.exception.FileValidationException;
+import io.goorm.youtube.exception.UploadSessionNotFoundException;
+import io.goorm.youtube.file.FileUploadStrategy;
+import io.goorm.youtube.security.SecurityUtils;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 이어받기(resumable) 비디오 업로드
+ *
+ * 1. 세션 생성 시 파일명(확장자)과 크기를 확인하고 빈 임시 파일을 만듭니다.
+ * 2. 청크는 chunkSize 경계의 offset 으로 순서와 상관없이 병렬 전송할 수 있으며,
+ *    FileChannel 위치 지정 쓰기로 제자리에 기록됩니다. (파일은 기록되는 만큼 늘어남)
+ * 3. 모든 청크를 받으면 완료 요청에서 기존 FileUploadStrategy + Video.createVideo 경로로 넘깁니다.
+ *    저장소 전송 중에는 잠금을 잡지 않으며, 그동안 청크 기록/취소/만료는 거절되거나 건너뜁니다.
+ *
+ * 세션은 메모리에만 있으므로 재시작 시 남은 임시 파일은 정리되며, 일정 시간 요청이 없는 세션은 만료됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ResumableUploadService {
+
+    private static final String PART_SUFFIX = ".part";
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private final VideoService videoService;
+    private final FileUploadStrategy fileUploadStrategy;
+    private final SecurityUtils securityUtils;
+
+    private final ConcurrentHashMap<String, UploadSession> sessions = new ConcurrentHashMap<>();
+
+    @Value("${file.upload.staging-directory}")
+    private String stagingDirectory;
+
+    @Value("${file.upload.chunk-size}")
+    private int chunkSize;
+
+    @Value("${file.upload.session-ttl-minutes}")
+    private long sessionTtlMinutes;
+
+    @Value("${file.upload.max-sessions-per-member}")
+    private int maxSessionsPerMember;
+
+    @Value("${file.video.max-size}")
+    private long videoMaxSize;
+
+    // 세션은 메모리에만 있으므로 이전 실행에서 남은 임시 파일은 이어받을 수 없음
+    @PostConstruct
+    void cleanStagingDirectory() {
+        Path directory = Path.of(stagingDirectory);
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (DirectoryStream<Path> parts = Files.newDirectoryStream(directory, "*" + PART_SUFFIX)) {
+            for (Path part : parts) {
+                deleteQuietly(part);
+            }
+        } catch (IOException e) {
+            log.warn("업로드 임시 디렉토리 정리 실패: {}", directory, e);
+        }
+    }
+
+    @PreAuthorize("isAuthenticated()")
+    public UploadSessionResponse createSession(UploadSessionCreateRequest request) {
+        Long memberSeq = securityUtils.getCurrentMemberSeq();
+
+        if (request.getFileSize() > videoMaxSize) {
+            throw new FileValidationException(
+                    String.format("비디오 파일 크기가 제한(%d bytes)을 초과합니다.", videoMaxSize)
+            );
+        }
+        // 청크를 다 받은 뒤 완료 요청에서야 거절되지 않도록 먼저 확인
+        fileUploadStrategy.validateVideoFileName(request.getFileName());
+
+        long activeSessions = sessions.values().stream()
+                .filter(session -> session.memberSeq.equals(memberSeq))
+                .count();
+        if (activeSessions >= maxSessionsPerMember) {
+            throw new IllegalArgumentException("진행 중인 업로드가 너무 많습니다. 기존 업로드를 완료하거나 취소해주세요.");
+        }
+
+        String uploadId = UUID.randomUUID().toString();
+        Path path = Path.of(stagingDirectory, uploadId + PART_SUFFIX);
+        FileChannel channel;
+        try {
+            Files.createDirectories(path.getParent());
+            channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            deleteQuietly(path);
+            throw new FileUploadException("업로드 세션을 만들지 못했습니다.", e);
+        }
+
+        UploadSession session = new UploadSession(uploadId, memberSeq, request, path, channel, chunkSize);
+        sessions.put(uploadId, session);
+        log.info("업로드 세션 생성: {} (member={}, size={})", uploadId, memberSeq, request.getFileSize());
+
+        return toResponse(session);
+    }
+
+    /**
+     * offset 위치의 청크 기록
+     * offset 은 chunkSize 의 배수여야 하며, 본문 길이는 chunkSize(마지막 청크는 나머지 크기)와 같아야 합니다.
+     */
+    @PreAuthorize("isAuthenticated()")
+    public UploadSessionResponse writeChunk(String uploadId, long offset, InputStream body) {
+        UploadSession session = getOwnedSession(uploadId);
+
+        if (offset < 0 || offset >= session.fileSize || offset % session.chunkSize != 0) {
+            throw new IllegalArgumentException("청크 offset 이 올바르지 않습니다: " + offset);
+        }
+        int index = (int) (offset / session.chunkSize);
+        long expected = Math.min(session.chunkSize, session.fileSize - offset);
+
+        // 청크 쓰기끼리는 동시에 진행하고, 완료/취소/만료와는 배타적으로 실행
+        session.lock.readLock().lock();
+        try {
+            if (session.closed) {
+                throw new UploadSessionNotFoundException(uploadId);
+            }
+            if (session.completing) {
+                throw new IllegalArgumentException("완료 처리 중인 업로드에는 청크를 기록할 수 없습니다.");
+            }
+            session.touch();
+
+            long written = write(session.channel, body, offset, expected);
+            if (written != expected) {
+                throw new IllegalArgumentException(
+                        String.format("청크가 완전히 전송되지 않았습니다. (%d / %d bytes)", written, expected));
+            }
+
+            session.markReceived(index);
+        } catch (IOException e) {
+            throw new FileUploadException("청크 기록에 실패했습니다.", e);
+        } finally {
+            session.lock.readLock().unlock();
+        }
+
+        return toResponse(session);
+    }
+
+    @PreAuthorize("isAuthenticated()")
+    public UploadSessionResponse getSession(String uploadId) {
+        UploadSession session = getOwnedSession(uploadId);
+        session.touch();
+        return toResponse(session);
+    }
+
+    /**
+     * 업로드 완료 - 조립된 파일을 저장소에 올리고 비디오를 등록
+     * 저장소 업로드가 실패하면 세션은 유지되므로 완료 요청만 다시 보내면 됩니다.
+     */
+    @PreAuthorize("isAuthenticated()")
+    public Long complete(String uploadId) {
+        UploadSession session = getOwnedSession(uploadId);
+
+        // 완료 처리 시작만 배타적으로 표시하고, 저장소 전송은 잠금 밖에서 진행
+        session.lock.writeLock().lock();
+        try {
+            if (session.closed) {
+                throw new UploadSessionNotFoundException(uploadId);
+            }
+            if (session.completing) {
+                throw new IllegalArgumentException("이미 완료 처리 중인 업로드입니다.");
+            }
+            if (!session.isComplete()) {
+                throw new IllegalArgumentException(
+                        String.format("아직 받지 않은 청크가 있습니다. (%d / %d)", session.receivedCount(), session.totalChunks));
+            }
+            session.completing = true;
+            session.touch();
+        } finally {
+            session.lock.writeLock().unlock();
+        }
+
+        Long videoSeq = null;
+        try (InputStream in = Files.newInputStream(session.path)) {
+            videoSeq = videoService.uploadVideo(
+                    VideoCreateRequest.of(session.title, session.content),
+                    in, session.fileName, session.contentType);
+        } catch (IOException e) {
+            throw new FileUploadException("업로드 파일을 읽지 못했습니다.", e);
+        } finally {
+            if (videoSeq == null) {
+                session.completing = false;  // 실패하면 완료 요청을 다시 받을 수 있도록 세션 유지
+            }
+        }
+
+        session.lock.writeLock().lock();
+        try {
+            close(session);
+        } finally {
+            session.lock.writeLock().unlock();
+        }
+        log.info("업로드 세션 완료: {} -> video {}", uploadId, videoSeq);
+        return videoSeq;
+    }
+
+    @PreAuthorize("isAuthenticated()")
+    public void cancel(String uploadId) {
+        UploadSession session = getOwnedSession(uploadId);
+
+        session.lock.writeLock().lock();
+        try {
+            if (session.completing) {
+                throw new IllegalArgumentException("완료 처리 중인 업로드는 취소할 수 없습니다.");
+            }
+            close(session);
+            log.info("업로드 세션 취소: {}", uploadId);
+        } finally {
+            session.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 마지막 요청 이후 TTL 이 지난 세션을 만료시키고 임시 파일을 회수
+     */
+    @Scheduled(fixedDelayString = "${file.upload.session-cleanup-interval-ms}")
+    public void expireSessions() {
+        long threshold = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(sessionTtlMinutes);
+
+        for (UploadSession session : sessions.values()) {
+            if (session.lastAccessedAt >= threshold || session.completing) {
+                continue;
+            }
+            // 청크 기록이나 완료 처리 중인 세션은 다음 주기에 다시 확인
+            if (!session.lock.writeLock().tryLock()) {
+                continue;
+            }
+            try {
+                close(session);
+                log.info("업로드 세션 만료: {} (member={})", session.id, session.memberSeq);
+            } finally {
+                session.lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private UploadSession getOwnedSession(String uploadId) {
+        UploadSession session = sessions.get(uploadId);
+        // 다른 사용자의 세션은 존재 여부도 노출하지 않음
+        if (session == null || !session.memberSeq.equals(securityUtils.getCurrentMemberSeq())) {
+            throw new UploadSessionNotFoundException(uploadId);
+        }
+        return session;
+    }
+
+    private static long write(FileChannel channel, InputStream body, long offset, long expected) throws IOException {
+        ReadableByteChannel source = Channels.newChannel(body);
+        ByteBuffer buffer = ByteBuffer.allocate(COPY_BUFFER_SIZE);
+        long written = 0;
+
+        while (source.read(buffer) != -1) {
+            if (written + buffer.position() > expected) {
+                throw new IllegalArgumentException(
+                        String.format("청크 크기가 올바르지 않습니다. (최대 %d bytes)", expected));
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                written += channel.write(buffer, offset + written);
+            }
+            buffer.clear();
+        }
+        return written;
+    }
+
+    // 호출 측에서 세션의 write lock 을 잡은 상태여야 함
+    private void close(UploadSession session) {
+        session.closed = true;
+        sessions.remove(session.id);
+        try {
+            session.channel.close();
+        } catch (IOException e) {
+            log.warn("업로드 임시 파일 닫기 실패: {}", session.path, e);
+        }
+        deleteQuietly(session.path);
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("업로드 임시 파일 삭제 실패: {}", path, e);
+        }
+    }
+
+    private UploadSessionResponse toResponse(UploadSession session) {
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(
+                Instant.ofEpochMilli(session.lastAccessedAt).plusSeconds(TimeUnit.MINUTES.toSeconds(sessionTtlMinutes)),
+                ZoneId.systemDefault());
+
+        synchronized (session.received) {
+            List<Integer> missing = new ArrayList<>();
+            for (int i = session.received.nextClearBit(0); i < session.totalChunks; i = session.received.nextClearBit(i + 1)) {
+                missing.add(i);
+            }
+
+            return UploadSessionResponse.builder()
+                    .uploadId(session.id)
+                    .fileSize(session.fileSize)
+                    .chunkSize(session.chunkSize)
+                    .offset(Math.min((long) session.received.nextClearBit(0) * session.chunkSize, session.fileSize))
+                    .totalChunks(session.totalChunks)
+                    .receivedChunks(session.received.cardinality())
+                    .missingChunks(missing)
+                    .expiresAt(expiresAt)
+                    .build();
+        }
+    }
+
+    private static class UploadSession {
+        private final String id;
+        private final Long memberSeq;
+        private final String title;
+        private final String content;
+        private final String fileName;
+        private final String contentType;
+        private final long fileSize;
+        private final int chunkSize;
+        private final int totalChunks;
+        private final Path path;
+        private final FileChannel channel;
+        private final BitSet received;
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private volatile boolean closed;
+        // 완료 요청이 저장소로 전송 중 (write lock 을 잡고 설정)
+        private volatile boolean completing;
+        private volatile long lastAccessedAt = System.currentTimeMillis();
+
+        private UploadSession(String id, Long memberSeq, UploadSessionCreateRequest request,
+                              Path path, FileChannel channel, int chunkSize) {
+            this.id = id;
+            this.memberSeq = memberSeq;
+            this.title = request.getTitle();
+            this.content = request.getContent();
+            this.fileName = request.getFileName();
+            this.contentType = request.getContentType();
+            this.fileSize = request.getFileSize();
+            this.chunkSize = chunkSize;
+            this.totalChunks = (int) ((fileSize + chunkSize - 1) / chunkSize);
+            this.path = path;
+            this.channel = channel;
+            this.received = new BitSet(totalChunks);
+        }
+
+        private void touch() {
+            lastAccessedAt = System.currentTimeMillis();
+        }
+
+        private void markReceived(int index) {
+            synchronized (received) {
+                received.set(index);
+            }
+        }
+
+        private int receivedCount() {
+            synchronized (received) {
+                return received.cardinality();
+            }
+        }
+
+        private boolean isComplete() {
+            return receivedCount() == totalChunks;
+        }
+    }
+}
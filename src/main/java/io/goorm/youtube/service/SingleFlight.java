@@ -0,0 +1,100 @@
+package io.goorm.youtube.service;
+
+import io.goorm.youtube.exception.ReadTimeoutException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 동시 조회 합치기 (single-flight)
+ *
+ * 같은 키로 먼저 들어온 요청(leader)만 loader 를 실행하고, 그동안 들어온 요청은
+ * leader 의 결과나 예외를 그대로 받습니다. 캐시 만료 직후 같은 조회가 한꺼번에 DB 로 가는 것을 막습니다.
+ * - 기다리는 요청은 leader 시작 후 timeout 까지만 기다리고, 그때까지 결과가 없으면 직접 조회합니다.
+ * - leader 가 timeout 을 넘겨도 끝나지 않으면 그 뒤로 들어온 요청은 새로 조회합니다.
+ *   (멈춘 조회 하나에 같은 키의 요청이 계속 묶이지 않도록)
+ * 합쳐진 요청 수는 video.read.coalesced, 시간 초과는 video.read.coalesce-timeouts 메트릭으로 노출됩니다.
+ */
+@Component
+public class SingleFlight {
+
+    private final MeterRegistry meterRegistry;
+    private final Duration timeout;
+    private final ConcurrentHashMap<String, Flight> inFlight = new ConcurrentHashMap<>();
+
+    public SingleFlight(MeterRegistry meterRegistry,
+                        @Value("${video.single-flight.timeout-ms}") long timeoutMillis) {
+        this.meterRegistry = meterRegistry;
+        this.timeout = Duration.ofMillis(timeoutMillis);
+    }
+
+    /**
+     * @param operation 메트릭 태그로 쓰는 조회 이름 (키 종류별로 고정된 값)
+     * @param key 같은 조회를 구분하는 키
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, Object key, Supplier<T> loader) {
+        String flightKey = operation + ":" + key;
+        Flight started = new Flight(new CompletableFuture<>(), System.nanoTime());
+        Flight flight = inFlight.compute(flightKey, (k, existing) ->
+                existing == null || existing.isOverdue(timeout) ? started : existing);
+
+        if (flight == started) {
+            return lead(flightKey, started, loader);
+        }
+
+        meterRegistry.counter("video.read.coalesced", "operation", operation).increment();
+        try {
+            return (T) flight.result().get(flight.remaining(timeout), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        } catch (TimeoutException e) {
+            // leader 가 멈췄어도 요청은 끝나도록 직접 조회 (이 조회는 다른 요청과 합치지 않음)
+            meterRegistry.counter("video.read.coalesce-timeouts", "operation", operation).increment();
+            return loader.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ReadTimeoutException(operation);
+        }
+    }
+
+    private <T> T lead(String flightKey, Flight flight, Supplier<T> loader) {
+        try {
+            T result = loader.get();
+            flight.result().complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.result().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    private record Flight(CompletableFuture<Object> result, long startedAt) {
+
+        boolean isOverdue(Duration timeout) {
+            return remaining(timeout) <= 0;
+        }
+
+        // leader 시작 기준으로 남은 대기 시간 (ns)
+        long remaining(Duration timeout) {
+            return timeout.toNanos() - (System.nanoTime() - startedAt);
+        }
+    }
+}
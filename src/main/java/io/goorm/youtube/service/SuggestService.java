@@ -0,0 +1,261 @@
+package io.goorm.youtube.service;
+
+import io.goorm.youtube.dto.video.SuggestionResponse;
+import io.goorm.youtube.dto.video.VideoSummaryResponse;
+import io.goorm.youtube.repository.VideoRepository;
+import io.goorm.youtube.search.SuggestionTrie;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 검색어 자동완성 (공개 비디오 제목, 채널명)
+ *
+ * 메모리 트라이에서 접두어로 조회하므로 DB 를 거치지 않습니다.
+ * - 점수는 조회수: 제목은 해당 비디오, 채널은 그 채널 공개 비디오의 합 (공개 비디오가 없으면 제안하지 않음)
+ * - 비디오 변경은 메인 목록 사본(PublicVideoFeed)이 만든 공개 목록 값을 받아 그대로 반영하고,
+ *   작성자 이름 변경은 커밋 후 해당 비디오만 DB 의 현재 상태로 다시 반영합니다.
+ * - 메모리 추정치가 memory-budget-bytes 를 넘으면 새 비디오는 추가하지 않고 video.suggest.rejected 로 셉니다.
+ * 시작 시와 rebuild-cron 마다 전체를 새 트라이로 다시 만들어 교체합니다. (제거/수정으로 생긴 편차 정리)
+ */
+@Slf4j
+@Service
+public class SuggestService {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int MAX_WORD_STARTS = 3;
+    private static final int MAX_KEY_LENGTH = 50;
+
+    private final VideoRepository videoRepository;
+    private final MeterRegistry meterRegistry;
+    private final int topK;
+    private final long memoryBudgetBytes;
+
+    private volatile Snapshot snapshot;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    // 전체 재생성 중에 바뀐 비디오 (재생성이 읽은 이전 값일 수 있으므로 교체 후 다시 반영)
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    public SuggestService(VideoRepository videoRepository,
+                          MeterRegistry meterRegistry,
+                          @Value("${video.suggest.top-k}") int topK,
+                          @Value("${video.suggest.memory-budget-bytes}") long memoryBudgetBytes) {
+        this.videoRepository = videoRepository;
+        this.meterRegistry = meterRegistry;
+        this.topK = topK;
+        this.memoryBudgetBytes = memoryBudgetBytes;
+        this.snapshot = newSnapshot();
+
+        meterRegistry.gauge("video.suggest.memory.bytes", this, service -> service.snapshot.trie.estimatedBytes());
+        meterRegistry.gauge("video.suggest.terms", this, service -> service.snapshot.trie.size());
+    }
+
+    /**
+     * 접두어 자동완성 (조회수 높은 순, 최대 top-k 건)
+     */
+    public List<SuggestionResponse> suggest(String prefix, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        return meterRegistry.timer("video.suggest.latency").record(() ->
+                snapshot.trie.suggest(prefix, Math.min(limit, topK)).stream()
+                        .map(SuggestionResponse::of)
+                        .toList());
+    }
+
+    /**
+     * 메인 목록 사본이 비디오 변경을 반영하며 만든 값으로 갱신 (다시 조회하지 않음)
+     */
+    @EventListener
+    public void onPublicSummaryChanged(PublicSummaryChangedEvent event) {
+        if (rebuilding.get()) {
+            changedDuringRebuild.add(event.videoSeq());
+        }
+        synchronized (this) {
+            replace(event.videoSeq(), event.summary());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberRenamed(MemberRenamedEvent event) {
+        refreshVideos(videoRepository.findVideoSeqsByMemberSeq(event.memberSeq()));
+    }
+
+    @EventListener
+    public void onViewCountsFlushed(ViewCountsFlushedEvent event) {
+        if (rebuilding.get()) {
+            changedDuringRebuild.addAll(event.deltas().keySet());
+        }
+        synchronized (this) {
+            event.deltas().forEach(snapshot::addViews);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    /**
+     * 전체 재생성 (새 트라이를 따로 만든 뒤 교체, 그동안 조회는 이전 트라이로 응답)
+     */
+    @Scheduled(cron = "${video.suggest.rebuild-cron}")
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            Snapshot rebuilt = newSnapshot();
+            long lastVideoSeq = 0;
+            Slice<VideoSummaryResponse> batch;
+            do {
+                batch = videoRepository.findPublicSummariesAfter(lastVideoSeq, PageRequest.of(0, BATCH_SIZE));
+                for (VideoSummaryResponse video : batch) {
+                    if (!rebuilt.put(video)) {
+                        meterRegistry.counter("video.suggest.rejected").increment();
+                    }
+                    lastVideoSeq = video.getVideoSeq();
+                }
+            } while (batch.hasNext());
+
+            synchronized (this) {
+                snapshot = rebuilt;
+            }
+            rebuilding.set(false);
+            reapplyChangedDuringRebuild();
+
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            meterRegistry.timer("video.suggest.rebuild").record(Duration.ofMillis(elapsedMillis));
+            log.info("자동완성 재생성 완료: 비디오 {}건, 항목 {}건, 약 {}KB, {}ms",
+                    rebuilt.videos.size(), rebuilt.trie.size(), rebuilt.trie.estimatedBytes() / 1024, elapsedMillis);
+        } catch (RuntimeException e) {
+            log.error("자동완성 재생성 실패 (이전 트라이를 계속 사용합니다)", e);
+        } finally {
+            rebuilding.set(false);
+            changedDuringRebuild.clear();
+        }
+    }
+
+    private void reapplyChangedDuringRebuild() {
+        while (!changedDuringRebuild.isEmpty()) {
+            List<Long> changed = new ArrayList<>(changedDuringRebuild);
+            changedDuringRebuild.removeAll(changed);
+            refreshVideos(changed);
+        }
+    }
+
+    /**
+     * 비디오를 DB 의 현재 상태로 다시 반영 (공개 상태가 아니면 제거)
+     * 반영 실패는 요청 결과에 영향을 주지 않도록 기록만 남기고, 다음 재생성 때 바로잡힙니다.
+     */
+    private void refreshVideos(Collection<Long> videoSeqs) {
+        if (videoSeqs.isEmpty()) {
+            return;
+        }
+        if (rebuilding.get()) {
+            changedDuringRebuild.addAll(videoSeqs);
+        }
+
+        try {
+            List<Long> ids = List.copyOf(videoSeqs);
+            for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+                List<Long> batch = ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()));
+                Map<Long, VideoSummaryResponse> current = videoRepository.findPublicSummaries(batch).stream()
+                        .collect(Collectors.toMap(VideoSummaryResponse::getVideoSeq, video -> video));
+
+                synchronized (this) {
+                    for (Long videoSeq : batch) {
+                        replace(videoSeq, current.get(videoSeq));
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            meterRegistry.counter("video.suggest.update-failures").increment();
+            log.error("자동완성 반영 실패: {}", videoSeqs, e);
+        }
+    }
+
+    // 호출하는 쪽에서 this 로 동기화 (video 가 null 이면 제거만)
+    private void replace(Long videoSeq, VideoSummaryResponse video) {
+        snapshot.remove(videoSeq);
+        if (video != null && !snapshot.put(video)) {
+            meterRegistry.counter("video.suggest.rejected").increment();
+        }
+    }
+
+    private Snapshot newSnapshot() {
+        return new Snapshot(new SuggestionTrie(topK, MAX_WORD_STARTS, MAX_KEY_LENGTH), memoryBudgetBytes);
+    }
+
+    /**
+     * 트라이와 비디오별 반영 내용 (제거 시 넣었던 값을 그대로 빼기 위해 보관)
+     * 채널명은 공개 비디오마다 참조를 하나씩 더해 마지막 비디오가 빠지면 사라집니다.
+     */
+    private static final class Snapshot {
+
+        final SuggestionTrie trie;
+        final long memoryBudgetBytes;
+        final Map<Long, Entry> videos = new HashMap<>();
+
+        Snapshot(SuggestionTrie trie, long memoryBudgetBytes) {
+            this.trie = trie;
+            this.memoryBudgetBytes = memoryBudgetBytes;
+        }
+
+        /**
+         * @return 메모리 한도를 넘어 추가하지 못하면 false
+         */
+        boolean put(VideoSummaryResponse video) {
+            if (trie.estimatedBytes() >= memoryBudgetBytes) {
+                return false;
+            }
+            Entry entry = new Entry(video.getTitle(), video.getMemberName(), video.getViewCount());
+            videos.put(video.getVideoSeq(), entry);
+            trie.add(SuggestionTrie.Kind.TITLE, entry.title(), entry.views());
+            trie.add(SuggestionTrie.Kind.CHANNEL, entry.channel(), entry.views());
+            return true;
+        }
+
+        void remove(Long videoSeq) {
+            Entry entry = videos.remove(videoSeq);
+            if (entry != null) {
+                trie.remove(SuggestionTrie.Kind.TITLE, entry.title(), entry.views());
+                trie.remove(SuggestionTrie.Kind.CHANNEL, entry.channel(), entry.views());
+            }
+        }
+
+        void addViews(Long videoSeq, Long delta) {
+            Entry entry = videos.get(videoSeq);
+            if (entry != null) {
+                videos.put(videoSeq, new Entry(entry.title(), entry.channel(), entry.views() + delta));
+                trie.addScore(SuggestionTrie.Kind.TITLE, entry.title(), delta);
+                trie.addScore(SuggestionTrie.Kind.CHANNEL, entry.channel(), delta);
+            }
+        }
+    }
+
+    private record Entry(String title, String channel, long views) {
+    }
+}
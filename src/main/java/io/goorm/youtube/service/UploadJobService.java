@@ -0,0 +1,311 @@
+package io.goorm.youtube.service;
+
+import io.goorm.youtube.domain.UploadJob;
+import io.goorm.youtube.domain.UploadJobStatus;
+import io.goorm.youtube.domain.Video;
+import io.goorm.youtube.dto.FileUploadResult;
+import io.goorm.youtube.dto.video.UploadJobResponse;
+import io.goorm.youtube.dto.video.VideoCreateRequest;
+import io.goorm.youtube.exception.FileUploadException;
+import io.goorm.youtube.exception.FileValidationException;
+import io.goorm.youtube.exception.UploadJobNotFoundException;
+import io.goorm.youtube.exception.VideoNotFoundException;
+import io.goorm.youtube.file.FileUploadStrategy;
+import io.goorm.youtube.file.MediaProbe;
+import io.goorm.youtube.repository.MemberRepository;
+import io.goorm.youtube.repository.UploadJobRepository;
+import io.goorm.youtube.repository.VideoRepository;
+import io.goorm.youtube.security.SecurityUtils;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 비디오 업로드
+ *
+ * 요청 스레드는 업로드 파일을 임시 디렉토리에 옮겨(fsync) 작업을 기록한 뒤 바로 202 로 응답합니다.
+ * 저장소 이동, 썸네일 처리, Video 등록은 가상 스레드 작업자가 처리하며,
+ * 동시에 실행되는 작업 수는 video.ingest.max-concurrency 로 제한됩니다.
+ *
+ * 작업 중인 비디오는 MediaStatus.PROCESSING 상태로 등록되어 처리가 끝날 때까지 게시할 수 없습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UploadJobService {
+
+    private static final String VIDEO_FILE = "video";
+    private static final String THUMBNAIL_FILE = "thumbnail";
+
+    private final UploadJobRepository uploadJobRepository;
+    private final VideoRepository videoRepository;
+    private final MemberRepository memberRepository;
+    private final FileUploadStrategy fileUploadStrategy;
+    private final SecurityUtils securityUtils;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${file.upload.staging-directory}")
+    private String stagingDirectory;
+
+    @Value("${video.ingest.max-concurrency}")
+    private int maxConcurrency;
+
+    private ExecutorService executor;
+    private Semaphore permits;
+
+    @PostConstruct
+    void init() {
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("upload-job-", 0).factory());
+        this.permits = new Semaphore(maxConcurrency);
+    }
+
+    // 진행 중인 작업은 중단하지 않고 기다리며, 끝나지 못한 작업은 재시작 시 다시 실행됨
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("종료 전에 끝나지 않은 업로드 작업은 재시작 후 다시 실행됩니다.");
+        }
+    }
+
+    /**
+     * 업로드 파일을 임시 저장하고 작업을 등록
+     * @return 등록된 작업 (PENDING)
+     */
+    @PreAuthorize("isAuthenticated()")
+    public UploadJobResponse submit(VideoCreateRequest request, MultipartFile videoFile, MultipartFile thumbnailFile) {
+        if (!StringUtils.hasText(request.getTitle())) {
+            throw new IllegalArgumentException("제목을 입력해주세요");
+        }
+        if (videoFile == null || videoFile.isEmpty()) {
+            throw new FileValidationException("비디오 파일이 비어있습니다.");
+        }
+        boolean hasThumbnail = thumbnailFile != null && !thumbnailFile.isEmpty();
+
+        // 임시 저장 전에 확장자 확인 (허용되지 않는 파일을 받아 둔 뒤 FAILED 작업으로 알리지 않도록)
+        fileUploadStrategy.validateVideoFileName(videoFile.getOriginalFilename());
+        if (hasThumbnail) {
+            fileUploadStrategy.validateThumbnailFileName(thumbnailFile.getOriginalFilename());
+        }
+
+        Long memberSeq = securityUtils.getCurrentMemberSeq();
+        String jobId = UUID.randomUUID().toString();
+        Path jobDirectory = jobDirectory(jobId);
+
+        UploadJob job;
+        try {
+            Files.createDirectories(jobDirectory);
+            Path videoPath = stage(videoFile, jobDirectory.resolve(VIDEO_FILE));
+            Path thumbnailPath = hasThumbnail ? stage(thumbnailFile, jobDirectory.resolve(THUMBNAIL_FILE)) : null;
+
+            job = uploadJobRepository.save(UploadJob.createJob(
+                    jobId, memberSeq, request.getTitle(), request.getContent(),
+                    videoFile.getOriginalFilename(), videoFile.getContentType(), videoPath.toString(),
+                    hasThumbnail ? thumbnailFile.getOriginalFilename() : null,
+                    hasThumbnail ? thumbnailFile.getContentType() : null,
+                    thumbnailPath != null ? thumbnailPath.toString() : null));
+        } catch (IOException e) {
+            deleteStaging(jobId);
+            throw new FileUploadException("업로드 파일을 저장하지 못했습니다.", e);
+        } catch (RuntimeException e) {
+            deleteStaging(jobId);
+            throw e;
+        }
+
+        dispatch(jobId);
+        log.info("업로드 작업 등록: {} (member={})", jobId, memberSeq);
+
+        return UploadJobResponse.of(job);
+    }
+
+    @PreAuthorize("isAuthenticated()")
+    public UploadJobResponse getJob(String jobId) {
+        return uploadJobRepository.findByJobIdAndMemberSeq(jobId, securityUtils.getCurrentMemberSeq())
+                .map(UploadJobResponse::of)
+                .orElseThrow(() -> new UploadJobNotFoundException(jobId));
+    }
+
+    /**
+     * 재시작 시 끝나지 않은 작업 재실행
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeJobs() {
+        List<UploadJob> unfinished = uploadJobRepository.findByStatusIn(
+                EnumSet.of(UploadJobStatus.PENDING, UploadJobStatus.PROCESSING));
+
+        for (UploadJob job : unfinished) {
+            if (job.getStatus() == UploadJobStatus.PROCESSING) {
+                // 이전 실행에서 처리 중에 종료된 작업
+                transactionTemplate.executeWithoutResult(status ->
+                        uploadJobRepository.findById(job.getJobId()).ifPresent(UploadJob::requeue));
+            }
+            dispatch(job.getJobId());
+        }
+
+        if (!unfinished.isEmpty()) {
+            log.info("끝나지 않은 업로드 작업 재실행: {}건", unfinished.size());
+        }
+    }
+
+    private void dispatch(String jobId) {
+        executor.submit(() -> {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                process(jobId);
+            } catch (RuntimeException e) {
+                // 실패 상태조차 기록하지 못한 경우 - 작업은 PENDING/PROCESSING 으로 남아 재시작 시 다시 실행됨
+                log.error("업로드 작업 상태 기록 실패: {}", jobId, e);
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    private void process(String jobId) {
+        String storedVideoPath = null;
+        String storedThumbnailPath = null;
+
+        // 선점/적재 실패도 아래 catch 에서 기록하고 작업을 FAILED 로 끝냄 (폴링하는 클라이언트가 결과를 받도록)
+        try {
+            Integer claimed = transactionTemplate.execute(status -> uploadJobRepository.claim(jobId));
+            if (claimed == null || claimed == 0) {
+                return;  // 이미 다른 작업자가 처리 중이거나 끝난 작업
+            }
+
+            UploadJob job = uploadJobRepository.findById(jobId)
+                    .orElseThrow(() -> new UploadJobNotFoundException(jobId));
+
+            // 1. 비디오를 저장소로 옮기고 PROCESSING 상태로 등록 (이미 등록된 경우 건너뜀)
+            Long videoSeq = job.getVideoSeq();
+            if (videoSeq == null) {
+                FileUploadResult videoResult;
+                try (InputStream in = Files.newInputStream(Path.of(job.getVideoStagingPath()))) {
+                    videoResult = fileUploadStrategy.uploadVideo(in, job.getVideoFileName(), job.getVideoContentType());
+                }
+                storedVideoPath = videoResult.getFilePath();
+
+                String videoPath = storedVideoPath;
+                boolean faststart = videoResult.isFaststart();
+                MediaProbe.Metadata metadata = videoResult.getMetadata() == null
+                        ? MediaProbe.Metadata.EMPTY : videoResult.getMetadata();
+                videoSeq = transactionTemplate.execute(status -> {
+                    Video video = Video.createProcessingVideo(
+                            videoPath,
+                            memberRepository.getReferenceById(job.getMemberSeq()),
+                            job.getTitle(),
+                            job.getContent());
+                    video.markFaststart(faststart);
+                    video.updateMediaInfo(metadata.durationMillis(), metadata.width(), metadata.height(),
+                            metadata.codec(), metadata.bitrate());
+                    Long seq = videoRepository.save(video).getVideoSeq();
+                    uploadJobRepository.findById(jobId).ifPresent(saved -> saved.assignVideo(seq));
+                    return seq;
+                });
+                storedVideoPath = null;  // 이제 비디오 행이 파일을 참조
+            }
+
+            // 2. 썸네일 처리
+            // 영상에서 프레임을 추출할 미디어 도구가 없으므로, 함께 올린 썸네일을 저장소로 옮기는 것으로 대신함
+            if (job.hasThumbnail()) {
+                try (InputStream in = Files.newInputStream(Path.of(job.getThumbnailStagingPath()))) {
+                    storedThumbnailPath = fileUploadStrategy.uploadThumbnail(
+                            in, job.getThumbnailFileName(), job.getThumbnailContentType()).getFilePath();
+                }
+            }
+
+            // 3. 비디오 READY, 작업 COMPLETED
+            Long finalVideoSeq = videoSeq;
+            String thumbnailPath = storedThumbnailPath;
+            transactionTemplate.executeWithoutResult(status -> {
+                Video video = videoRepository.findById(finalVideoSeq)
+                        .orElseThrow(() -> new VideoNotFoundException(finalVideoSeq));
+                if (thumbnailPath != null) {
+                    video.updateThumbnailPath(thumbnailPath);
+                    eventPublisher.publishEvent(new ImageUploadedEvent(thumbnailPath));
+                }
+                video.markMediaReady();
+                uploadJobRepository.findById(jobId).ifPresent(UploadJob::complete);
+            });
+
+            log.info("업로드 작업 완료: {} -> video {}", jobId, finalVideoSeq);
+        } catch (Exception e) {
+            log.error("업로드 작업 실패: {}", jobId, e);
+            deleteStoredFile(storedVideoPath);
+            deleteStoredFile(storedThumbnailPath);
+
+            String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            transactionTemplate.executeWithoutResult(status ->
+                    uploadJobRepository.findById(jobId).ifPresent(failed -> {
+                        failed.fail(message);
+                        if (failed.getVideoSeq() != null) {
+                            videoRepository.findById(failed.getVideoSeq()).ifPresent(Video::markMediaFailed);
+                        }
+                    }));
+        }
+
+        deleteStaging(jobId);
+    }
+
+    // 업로드 파일을 임시 디렉토리로 옮기고 디스크에 기록될 때까지 대기
+    private static Path stage(MultipartFile file, Path target) throws IOException {
+        file.transferTo(target);
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        return target;
+    }
+
+    private Path jobDirectory(String jobId) {
+        return Path.of(stagingDirectory, "jobs", jobId);
+    }
+
+    private void deleteStaging(String jobId) {
+        try {
+            FileSystemUtils.deleteRecursively(jobDirectory(jobId));
+        } catch (IOException e) {
+            log.warn("업로드 작업 임시 파일 삭제 실패: {}", jobId, e);
+        }
+    }
+
+    private void deleteStoredFile(String filePath) {
+        if (filePath == null) {
+            return;
+        }
+        try {
+            fileUploadStrategy.deleteFile(filePath);
+        } catch (RuntimeException e) {
+            log.warn("업로드 작업 저장 파일 정리 실패: {}", filePath, e);
+        }
+    }
+}
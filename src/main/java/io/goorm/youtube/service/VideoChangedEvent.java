@@ -0,0 +1,43 @@
+package io.goorm.youtube.service;
+
+import io.goorm.youtube.domain.Video;
+import org.hibernate.Hibernate;
+
+/**
+ * 비디오 변경 이벤트
+ * 변경한 트랜잭션이 커밋된 뒤 메모리에 둔 목록/상세 데이터를 갱신하는 데 사용합니다.
+ * 리스너는 커밋 후 요청 스레드에서 실행되므로, 엔티티로 알 수 있으면 DB 를 다시 읽지 않습니다.
+ *
+ * @param wasPublic 변경 전 공개 상태 (게시 중이고 삭제되지 않음)
+ * @param video 변경한 엔티티 (커밋 후에는 변경이 반영된 상태)
+ */
+public record VideoChangedEvent(Long videoSeq, Change change, boolean wasPublic, Video video) {
+
+    public enum Change {
+        UPDATED,
+        PUBLISH_CHANGED,
+        DELETED
+    }
+
+    /**
+     * 변경을 적용하기 전에 호출해야 변경 전 공개 상태가 기록됩니다.
+     */
+    public static VideoChangedEvent before(Video video, Change change) {
+        return new VideoChangedEvent(video.getVideoSeq(), change, video.isPublishYn() && !video.isDeleteYn(), video);
+    }
+
+    /**
+     * 커밋된 상태를 엔티티에서 바로 읽을 수 있는지 (작성자까지 적재된 경우)
+     * false 면 리스너가 DB 에서 다시 읽습니다.
+     */
+    public boolean hasState() {
+        return video != null && Hibernate.isInitialized(video.getMember());
+    }
+
+    /**
+     * 커밋된 공개 상태 (hasState() 일 때만 사용)
+     */
+    public boolean isPublic() {
+        return video.isPublishYn() && !video.isDeleteYn();
+    }
+}
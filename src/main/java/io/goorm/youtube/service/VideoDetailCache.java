@@ -0,0 +1,108 @@
+package io.goorm.youtube.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.goorm.youtube.dto.video.VideoResponse;
+import io.goorm.youtube.repository.VideoRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 공개 비디오 상세(VideoResponse) 캐시
+ *
+ * videoSeq 로 캐싱하며, 없는 비디오(비공개/삭제 포함)도 Optional.empty 로 짧게 캐싱해
+ * 존재하지 않는 ID 반복 요청이 DB 로 가지 않게 합니다.
+ * 비디오 수정/삭제/게시상태 변경, 작성자 이름 변경 시 커밋 후 해당 항목만 무효화합니다.
+ * 적중률/제거/적재 시간은 cache.* (cache=videoDetail) 메트릭으로 노출됩니다.
+ */
+@Component
+public class VideoDetailCache {
+
+    private final VideoRepository videoRepository;
+    private final boolean enabled;
+    private final Cache<Long, Optional<VideoResponse>> cache;
+
+    public VideoDetailCache(VideoRepository videoRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${video.detail-cache.enabled}") boolean enabled,
+                            @Value("${video.detail-cache.ttl-seconds}") long ttlSeconds,
+                            @Value("${video.detail-cache.negative-ttl-seconds}") long negativeTtlSeconds,
+                            @Value("${video.detail-cache.maximum-size}") long maximumSize) {
+        this.videoRepository = videoRepository;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new DetailExpiry(Duration.ofSeconds(ttlSeconds), Duration.ofSeconds(negativeTtlSeconds)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "videoDetail");
+    }
+
+    /**
+     * 캐시된 상세 조회, 미스일 때만 loader 실행 (같은 키의 동시 미스는 한 번만 적재)
+     */
+    public Optional<VideoResponse> get(Long videoSeq, Function<Long, Optional<VideoResponse>> loader) {
+        if (!enabled) {
+            return loader.apply(videoSeq);
+        }
+        return cache.get(videoSeq, loader);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVideoChanged(VideoChangedEvent event) {
+        cache.invalidate(event.videoSeq());
+    }
+
+    /**
+     * 작성자 이름이 바뀌면 그 회원의 비디오 항목만 무효화
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberRenamed(MemberRenamedEvent event) {
+        if (cache.estimatedSize() == 0) {
+            return;
+        }
+        cache.invalidateAll(videoRepository.findVideoSeqsByMemberSeq(event.memberSeq()));
+    }
+
+    /**
+     * 반영된 조회수를 캐시된 항목에도 더함 (DB 값 + 미반영분으로 보여주므로 반영 후 줄어 보이지 않도록)
+     */
+    @EventListener
+    public void onViewCountsFlushed(ViewCountsFlushedEvent event) {
+        event.deltas().forEach((videoSeq, delta) ->
+                cache.asMap().computeIfPresent(videoSeq, (key, cached) -> cached.map(video ->
+                        video.toBuilder().viewCount(video.getViewCount() + delta).build())));
+    }
+
+    /**
+     * 있는 비디오는 ttl, 없는 비디오는 negative-ttl 후 만료
+     */
+    private record DetailExpiry(Duration ttl, Duration negativeTtl) implements Expiry<Long, Optional<VideoResponse>> {
+
+        @Override
+        public long expireAfterCreate(Long key, Optional<VideoResponse> value, long currentTime) {
+            return (value.isPresent() ? ttl : negativeTtl).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(Long key, Optional<VideoResponse> value,
+                                      long currentTime, long currentDuration) {
+            return currentDuration;  // 조회수 반영은 만료 시각을 늘리지 않음
+        }
+
+        @Override
+        public long expireAfterRead(Long key, Optional<VideoResponse> value,
+                                    long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package io.goorm.youtube.service;
+
+import io.goorm.youtube.dto.video.VideoResponse;
+import io.goorm.youtube.repository.VideoRepository;
+import io.goorm.youtube.search.VideoSearchIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 비디오 검색 색인 관리
+ *
+ * - 비디오 변경/작성자 이름 변경 이벤트를 커밋 후 받아 해당 비디오만 다시 색인합니다.
+ *   공개 상태가 아니면(비공개, 삭제) 색인에서 지웁니다.
+ * - 색인은 주기적으로 커밋하며, 커밋 시각(indexedUntil)을 함께 기록합니다.
+ *   재시작 시 그 이후 바뀐 비디오만 다시 색인하고, 건수가 DB 와 다르면 전체 색인합니다.
+ * - 전체 색인은 백그라운드에서 실행되며, 끝날 때까지 검색에는 이전 색인이 보입니다.
+ *   실패하거나 종료로 중단되면 시작 시점의 색인으로 되돌립니다. (VideoSearchIndex.abortRebuild)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VideoSearchService {
+
+    public static final int MAX_RESULT_WINDOW = 1000;
+
+    private static final int BATCH_SIZE = 1000;
+    private static final String INDEXED_UNTIL = "indexedUntil";
+    // 커밋 직전에 DB 에 커밋됐지만 이벤트가 아직 처리되지 않은 변경까지 따라잡도록 여유를 둠
+    private static final Duration CATCH_UP_MARGIN = Duration.ofMinutes(1);
+
+    private final VideoSearchIndex searchIndex;
+    private final VideoRepository videoRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicBoolean reindexing = new AtomicBoolean();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    // 전체 색인 중에 바뀐 비디오 (전체 색인이 읽은 이전 값으로 덮였을 수 있으므로 끝난 뒤 다시 색인)
+    private final Set<Long> changedDuringReindex = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 관련도순 검색
+     * @return 요청한 페이지의 videoSeq 와 전체 일치 건수
+     * @throws IllegalArgumentException 검색 결과 앞쪽 MAX_RESULT_WINDOW 건을 넘는 페이지를 요청한 경우
+     */
+    public VideoSearchIndex.SearchHits search(String query, Pageable pageable) {
+        if (pageable.getOffset() + pageable.getPageSize() > MAX_RESULT_WINDOW) {
+            throw new IllegalArgumentException("검색 결과는 " + MAX_RESULT_WINDOW + "건까지 조회할 수 있습니다.");
+        }
+
+        return meterRegistry.timer("video.search.latency").record(() ->
+                searchIndex.search(query, (int) pageable.getOffset(), pageable.getPageSize()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVideoChanged(VideoChangedEvent event) {
+        if (!event.hasState()) {
+            indexVideos(List.of(event.videoSeq()));
+            return;
+        }
+        // 커밋된 엔티티로 바로 반영 (DB 재조회 없음)
+        applyToIndex(List.of(event.videoSeq()), () -> {
+            if (event.isPublic()) {
+                searchIndex.index(VideoResponse.of(event.video()));
+            } else {
+                searchIndex.delete(event.videoSeq());
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberRenamed(MemberRenamedEvent event) {
+        indexVideos(videoRepository.findVideoSeqsByMemberSeq(event.memberSeq()));
+    }
+
+    /**
+     * 전체 색인 시작 (이미 실행 중이면 false)
+     */
+    public boolean reindex() {
+        if (!reindexing.compareAndSet(false, true)) {
+            return false;
+        }
+        executor.submit(this::rebuild);
+        return true;
+    }
+
+    public boolean isReindexing() {
+        return reindexing.get();
+    }
+
+    /**
+     * 재시작 시 마지막 커밋 이후의 변경을 따라잡고, 건수가 맞지 않으면 전체 색인
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        String indexedUntil = searchIndex.getCommitData().get(INDEXED_UNTIL);
+        if (indexedUntil != null) {
+            LocalDateTime since = LocalDateTime.parse(indexedUntil).minus(CATCH_UP_MARGIN);
+            List<Long> changed = videoRepository.findVideoSeqsUpdatedSince(since);
+            indexVideos(changed);
+            log.info("검색 색인 따라잡기: {} 이후 변경 {}건", since, changed.size());
+        }
+
+        long publicCount = videoRepository.countPublic();
+        if (indexedUntil == null || searchIndex.count() != publicCount) {
+            log.info("검색 색인 전체 재생성: 색인 {}건, 공개 비디오 {}건", searchIndex.count(), publicCount);
+            reindex();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${video.search.commit-interval-ms}")
+    public void commit() {
+        if (reindexing.get() || !dirty.compareAndSet(true, false)) {
+            return;  // 전체 색인 중에는 만들다 만 색인이 커밋되지 않도록 건너뜀
+        }
+        LocalDateTime indexedUntil = LocalDateTime.now();
+        try {
+            searchIndex.commit(Map.of(INDEXED_UNTIL, indexedUntil.toString()));
+        } catch (RuntimeException e) {
+            dirty.set(true);
+            log.error("검색 색인 커밋 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        commit();
+    }
+
+    private void rebuild() {
+        long start = System.nanoTime();
+        LocalDateTime startedAt = LocalDateTime.now();
+        boolean finished = false;
+        try {
+            searchIndex.beginRebuild();
+
+            long lastVideoSeq = 0;
+            long indexed = 0;
+            Slice<VideoResponse> batch;
+            do {
+                long after = lastVideoSeq;
+                batch = transactionTemplate.execute(status ->
+                        videoRepository.findPublicDetailsAfter(after, PageRequest.of(0, BATCH_SIZE)));
+                for (VideoResponse video : batch) {
+                    searchIndex.index(video);
+                    lastVideoSeq = video.getVideoSeq();
+                }
+                indexed += batch.getNumberOfElements();
+            } while (batch.hasNext() && !Thread.currentThread().isInterrupted());
+            if (Thread.currentThread().isInterrupted()) {
+                log.warn("검색 색인 전체 재생성 중단 (종료 중), 이전 색인을 유지합니다.");
+                return;
+            }
+
+            reapplyChangedDuringReindex();
+            searchIndex.finishRebuild(Map.of(INDEXED_UNTIL, startedAt.toString()));
+            finished = true;
+
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            meterRegistry.timer("video.search.reindex").record(Duration.ofMillis(elapsedMillis));
+            log.info("검색 색인 전체 재생성 완료: {}건, {}ms", indexed, elapsedMillis);
+        } catch (RuntimeException e) {
+            log.error("검색 색인 전체 재생성 실패, 이전 색인을 유지합니다. (다시 실행해야 합니다)", e);
+        } finally {
+            if (!finished) {
+                abortRebuild();
+            }
+            reindexing.set(false);
+            reapplyChangedDuringReindex();  // 되돌린 경우 재생성 중의 변경도 함께 되돌려졌으므로 다시 반영
+        }
+    }
+
+    private void abortRebuild() {
+        try {
+            searchIndex.abortRebuild();
+        } catch (RuntimeException e) {
+            log.error("검색 색인 되돌리기 실패", e);
+        }
+    }
+
+    private void reapplyChangedDuringReindex() {
+        while (!changedDuringReindex.isEmpty()) {
+            List<Long> changed = new ArrayList<>(changedDuringReindex);
+            changedDuringReindex.removeAll(changed);
+            indexVideos(changed);
+        }
+    }
+
+    /**
+     * 비디오를 DB 의 현재 상태로 다시 색인 (공개 상태가 아니면 삭제)
+     * 색인 실패는 요청 결과에 영향을 주지 않도록 기록만 남기고, 재시작 시 따라잡기/전체 색인으로 복구됩니다.
+     */
+    private void indexVideos(Collection<Long> videoSeqs) {
+        if (videoSeqs.isEmpty()) {
+            return;
+        }
+        applyToIndex(videoSeqs, () -> {
+            List<Long> ids = List.copyOf(videoSeqs);
+            for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+                List<Long> batch = ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()));
+                Set<Long> removed = new HashSet<>(batch);
+                for (VideoResponse video : videoRepository.findPublicDetails(batch)) {
+                    searchIndex.index(video);
+                    removed.remove(video.getVideoSeq());
+                }
+                removed.forEach(searchIndex::delete);
+            }
+        });
+    }
+
+    private void applyToIndex(Collection<Long> videoSeqs, Runnable update) {
+        if (reindexing.get()) {
+            changedDuringReindex.addAll(videoSeqs);
+        }
+
+        try {
+            update.run();
+            dirty.set(true);
+
+            if (!reindexing.get()) {
+                searchIndex.refresh();  // 전체 색인 중에는 만들다 만 색인이 검색에 보이지 않도록 끝난 뒤에 반영
+            }
+        } catch (RuntimeException e) {
+            meterRegistry.counter("video.search.index-failures").increment();
+            log.error("검색 색인 반영 실패: {}", videoSeqs, e);
+        }
+    }
+}
@@ -1,141 +1,389 @@
 package io.goorm.youtube.service;
 
-import io.goorm.youtube.domain.Member;
 import io.goorm.youtube.domain.Video;
+import io.goorm.youtube.dto.ContentVersion;
+import io.goorm.youtube.dto.CursorSlice;
 import io.goorm.youtube.dto.FileUploadResult;
 import io.goorm.youtube.dto.video.VideoCreateRequest;
+import io.goorm.youtube.dto.video.VideoCursor;
 import io.goorm.youtube.dto.video.VideoResponse;
+import io.goorm.youtube.dto.video.VideoSummaryResponse;
 import io.goorm.youtube.dto.video.VideoUpdateRequest;
 import io.goorm.youtube.exception.VideoNotFoundException;
 import io.goorm.youtube.file.FileUploadStrategy;
+import io.goorm.youtube.file.MediaProbe;
 import io.goorm.youtube.repository.VideoRepository;
+import io.goorm.youtube.search.VideoSearchIndex;
 import io.goorm.youtube.security.IsVideoOwner;
 import io.goorm.youtube.security.SecurityUtils;
 import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class VideoService {
 
+    private static final int MAX_CURSOR_SIZE = 50;
+
     private final VideoRepository videoRepository;
     private final FileUploadStrategy fileUploadStrategy;
     private final SecurityUtils securityUtils;
+    private final ViewCountService viewCountService;
+    private final TransactionTemplate transactionTemplate;
+    private final FileDeletionService fileDeletionService;
+    private final PublicVideoFeed publicVideoFeed;
+    private final VideoDetailCache videoDetailCache;
+    private final SingleFlight singleFlight;
+    private final VideoSearchService videoSearchService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @ApiOperation(value = "비디오목록 조회", notes = "삭제되지 않고 게시상태인 메인화면용 입니다.")
-    public Page<VideoResponse> getPublicVideos(Pageable pageable) {
-        return videoRepository.findByPublishYnTrueAndDeleteYnFalseOrderByRegAtDesc(pageable)
-                .map(VideoResponse::of);
+    @Transactional(propagation = Propagation.SUPPORTS)  // 메모리 사본으로 응답할 때는 커넥션을 잡지 않음
+    public Page<VideoSummaryResponse> getPublicVideos(Pageable pageable) {
+        // 메인 목록 앞부분은 메모리 사본으로 응답하고, 그 밖의 페이지만 DB 조회
+        return publicVideoFeed.getPage(pageable)
+                .orElseGet(() -> singleFlight.execute("publicPage", pageable,
+                        () -> videoRepository.findPublicSummaries(pageable)))
+                .map(this::withPendingViews);
     }
 
+    @ApiOperation(value = "비디오목록 커서 조회", notes = "COUNT 쿼리 없이 (regAt, videoSeq) 커서 이후의 목록을 조회합니다.")
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public CursorSlice<VideoSummaryResponse> getPublicVideos(String cursor, int size) {
+        VideoCursor videoCursor = VideoCursor.decode(cursor);
+        Pageable limit = cursorLimit(size);
+
+        Slice<VideoSummaryResponse> videos = publicVideoFeed.getSlice(videoCursor, limit)
+                .orElseGet(() -> singleFlight.execute("publicFeed", (videoCursor == null ? "" : cursor) + "/" + limit.getPageSize(),
+                        () -> videoCursor == null
+                                ? videoRepository.findPublicFeed(limit)
+                                : videoRepository.findPublicFeedAfter(videoCursor.getRegAt(), videoCursor.getVideoSeq(), limit)));
+
+        return CursorSlice.of(videos.map(this::withPendingViews), VideoService::nextCursor);
+    }
+
+
+    @ApiOperation(value = "비디오 검색", notes = "제목, 설명, 작성자 이름으로 게시상태인 비디오를 관련도순으로 검색합니다.")
+    @Transactional(propagation = Propagation.SUPPORTS)  // 색인 검색 동안 커넥션을 잡지 않음
+    public Page<VideoSummaryResponse> searchPublicVideos(String query, Pageable pageable) {
+        if (!StringUtils.hasText(query)) {
+            throw new IllegalArgumentException("검색어를 입력해주세요");
+        }
+
+        VideoSearchIndex.SearchHits hits = videoSearchService.search(query.strip(), pageable);
+        if (hits.videoSeqs().isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, hits.total());
+        }
+
+        // 색인 반영 전에 비공개/삭제된 비디오는 DB 조회에서 빠짐
+        Map<Long, VideoSummaryResponse> videos = videoRepository.findPublicSummaries(hits.videoSeqs()).stream()
+                .collect(Collectors.toMap(VideoSummaryResponse::getVideoSeq, Function.identity()));
+        List<VideoSummaryResponse> ranked = hits.videoSeqs().stream()
+                .map(videos::get)
+                .filter(Objects::nonNull)
+                .map(this::withPendingViews)
+                .toList();
+        return new PageImpl<>(ranked, pageable, hits.total());
+    }
+
+    @ApiOperation(value = "비디오목록 버전 조회", notes = "메인 목록 조건부 조회(If-None-Match/If-Modified-Since)용 입니다.")
+    public ContentVersion getPublicVideosVersion() {
+        return publicVideoFeed.getVersion();
+    }
 
     @ApiOperation(value = "비디오상세 조회", notes = "삭제되지 않고 게시상태인 메인화면용 입니다.")
+    @Transactional(propagation = Propagation.SUPPORTS)  // 캐시 적중 시 커넥션을 잡지 않음
     public VideoResponse getPublicVideoDetail(Long videoSeq) {
+        VideoResponse video = findPublicDetail(videoSeq);
 
-        Video video =  videoRepository.findByVideoSeqAndPublishYnTrueAndDeleteYnFalse(videoSeq)
-                .orElseThrow(() -> new VideoNotFoundException(videoSeq));
+        // 조회수는 여기서만 셈 (재생 중 Range 요청마다 늘지 않도록 스트리밍은 세지 않음)
+        viewCountService.increment(videoSeq);
+
+        return withDownloadUrls(withPendingViews(video));
+    }
 
-        return VideoResponse.of(video);
+    @ApiOperation(value = "비디오상세 버전 조회", notes = "상세 조건부 조회용 입니다. 상세 캐시에 있으면 DB 를 거치지 않습니다.")
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ContentVersion getPublicVideoDetailVersion(Long videoSeq) {
+        VideoResponse video = findPublicDetail(videoSeq);
+
+        // 수정 시각 외에 반영된 조회수, 작성자 이름, 다운로드 URL 세대도 본문에 보이므로 함께 반영
+        long updatedAt = Objects.requireNonNullElse(video.getUpdateAt(), video.getRegAt())
+                .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        int contentHash = Objects.hash(video.getViewCount(), video.getMemberName(),
+                fileUploadStrategy.getDownloadUrlVersion());
+        return ContentVersion.weak("video-" + videoSeq + "-" + Long.toHexString(updatedAt)
+                + "-" + Integer.toHexString(contentHash), updatedAt);
     }
 
     @ApiOperation(value = "내비디오 목록 조회", notes = "로그인한 사용자 비디오 목록조회 입니다.")
     @PreAuthorize("isAuthenticated()")
-    public Page<VideoResponse> getMyVideos(Pageable pageable) {
+    public Page<VideoSummaryResponse> getMyVideos(Pageable pageable) {
 
-        Member member = securityUtils.getCurrentMember();  // 현재 로그인한 사용자 정보 조회
+        Long memberSeq = securityUtils.getCurrentMemberSeq();  // 토큰 클레임의 memberSeq (회원 조회 없음)
 
-        return videoRepository.findByMember_MemberSeq(member.getMemberSeq(), pageable)
-                .map(VideoResponse::of);
+        return videoRepository.findMemberSummaries(memberSeq, pageable)
+                .map(this::withPendingViews);
 
     }
 
+    @ApiOperation(value = "내비디오 목록 커서 조회", notes = "로그인한 사용자 비디오 목록을 커서 기반으로 조회합니다.")
+    @PreAuthorize("isAuthenticated()")
+    public CursorSlice<VideoSummaryResponse> getMyVideos(String cursor, int size) {
+
+        Long memberSeq = securityUtils.getCurrentMemberSeq();
+        VideoCursor videoCursor = VideoCursor.decode(cursor);
+        Pageable limit = cursorLimit(size);
+
+        Slice<VideoSummaryResponse> videos = videoCursor == null
+                ? videoRepository.findMemberFeed(memberSeq, limit)
+                : videoRepository.findMemberFeedAfter(memberSeq,
+                        videoCursor.getRegAt(), videoCursor.getVideoSeq(), limit);
+
+        return CursorSlice.of(videos.map(this::withPendingViews), VideoService::nextCursor);
+    }
+
     @ApiOperation(value = "내비디오 상세 조회", notes = "로그인한 사용자 비디오 상세 조회 입니다.")
     @IsVideoOwner
     public VideoResponse getVideoDetail(Long videoSeq) {
 
-        Video video = videoRepository.findById(videoSeq)
+        // 소유자 조건으로 작성자까지 한 번에 적재
+        return videoRepository.findOwnedVideo(videoSeq, securityUtils.getCurrentMemberSeq())
+                .map(VideoResponse::of)
+                .map(this::withPendingViews)
+                .map(this::withDownloadUrls)
                 .orElseThrow(() -> new VideoNotFoundException(videoSeq));
-
-        return VideoResponse.of(video);
     }
 
     @ApiOperation(value = "내비디오 등록", notes = "로그인한 사용자 비디오 등록 입니다.")
     @PreAuthorize("isAuthenticated()")
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)  // 파일 전송 동안 트랜잭션/커넥션을 잡지 않음
     public Long uploadVideo(VideoCreateRequest request, MultipartFile videoFile, MultipartFile thumbnailFile) {
 
-        Member member = securityUtils.getCurrentMember();
-
-        // 비디오 파일 업로드
+        // 1. 저장소 전송 (트랜잭션 없음)
         FileUploadResult videoUploadResult = fileUploadStrategy.uploadVideo(videoFile);
 
-        //선네일 파일 업로드
-        FileUploadResult thumbnailUploadResult = fileUploadStrategy.uploadThumbnail(thumbnailFile);
+        FileUploadResult thumbnailUploadResult;
+        try {
+            thumbnailUploadResult = fileUploadStrategy.uploadThumbnail(thumbnailFile);
+        } catch (RuntimeException e) {
+            deleteStoredFiles(videoUploadResult.getFilePath());
+            throw e;
+        }
+
+        // 2. 짧은 쓰기 트랜잭션 (실패 시 업로드한 파일 정리)
+        return createVideo(request, videoUploadResult.getFilePath(), videoUploadResult.isFaststart(),
+                videoUploadResult.getMetadata(), thumbnailUploadResult.getFilePath());
+    }
+
+    @ApiOperation(value = "내비디오 스트리밍 등록", notes = "요청 본문을 임시 파일 없이 저장소에 바로 기록하는 비디오 등록입니다.")
+    @PreAuthorize("isAuthenticated()")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)  // 본문을 받는 동안 DB 커넥션을 잡지 않음
+    public Long uploadVideo(VideoCreateRequest request, InputStream videoStream,
+                            String originalFilename, String contentType) {
+
+        if (!StringUtils.hasText(request.getTitle())) {
+            throw new IllegalArgumentException("제목을 입력해주세요");
+        }
 
-        // 비디오 엔티티 생성 및 저장
-        Video video = Video.createVideo(
-                videoUploadResult.getFilePath(),
-                thumbnailUploadResult.getFilePath(),
-                member,
-                request.getTitle(),
-                request.getContent()
-        );
+        FileUploadResult videoUploadResult = fileUploadStrategy.uploadVideo(videoStream, originalFilename, contentType);
 
-        return videoRepository.save(video).getVideoSeq();
+        return createVideo(request, videoUploadResult.getFilePath(), videoUploadResult.isFaststart(),
+                videoUploadResult.getMetadata(), null);
+    }
+
+    @ApiOperation(value = "저장소 직접 업로드 등록", notes = "클라이언트가 저장소에 직접 올리고 검증이 끝난 파일로 비디오를 등록합니다.")
+    @PreAuthorize("isAuthenticated()")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Long registerUploadedVideo(VideoCreateRequest request, String videoPath, String thumbnailPath,
+                                      MediaProbe.Metadata metadata) {
+        return createVideo(request, videoPath, false, metadata, thumbnailPath);  // 서버를 거치지 않아 배치를 확인하지 않음
     }
 
     //로그인한 사용자 비디오 수정 입니다.
     @IsVideoOwner
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)  // 파일 전송 동안 트랜잭션/커넥션을 잡지 않음
     public void updateVideo(Long videoSeq, VideoUpdateRequest request, MultipartFile videoFile, MultipartFile thumbnailFile) {
-        Video video = videoRepository.findById(videoSeq)
-                .orElseThrow(() -> new VideoNotFoundException(videoSeq));
 
-        // 새로운 비디오 파일이 있는 경우
-        if (videoFile != null && !videoFile.isEmpty()) {
-            FileUploadResult videoUploadResult = fileUploadStrategy.uploadVideo(videoFile);
-            fileUploadStrategy.deleteFile(video.getVideoPath()); // 기존 파일 삭제
-            video.updateVideoPath(videoUploadResult.getFilePath());
-        }
-
-        // 새로운 썸네일 파일이 있는 경우
-        if (thumbnailFile != null && !thumbnailFile.isEmpty()) {
-            FileUploadResult thumbnailUploadResult = fileUploadStrategy.uploadThumbnail(thumbnailFile);
-            if (video.getThumbnailPath() != null) {
-                fileUploadStrategy.deleteFile(video.getThumbnailPath()); // 기존 썸네일이 있으면 삭제
+        // 1. 새 파일 저장소 전송 (트랜잭션 없음)
+        String uploadedVideoPath = null;
+        boolean uploadedFaststart = false;
+        MediaProbe.Metadata uploadedMetadata = null;
+        String uploadedThumbnailPath = null;
+        try {
+            if (videoFile != null && !videoFile.isEmpty()) {
+                FileUploadResult videoUploadResult = fileUploadStrategy.uploadVideo(videoFile);
+                uploadedVideoPath = videoUploadResult.getFilePath();
+                uploadedFaststart = videoUploadResult.isFaststart();
+                uploadedMetadata = videoUploadResult.getMetadata();
             }
-            video.updateThumbnailPath(thumbnailUploadResult.getFilePath());
+            if (thumbnailFile != null && !thumbnailFile.isEmpty()) {
+                uploadedThumbnailPath = fileUploadStrategy.uploadThumbnail(thumbnailFile).getFilePath();
+            }
+        } catch (RuntimeException e) {
+            deleteStoredFiles(uploadedVideoPath);
+            throw e;
         }
 
-        // 제목과 내용 업데이트
-        video.updateMetadata(request.getTitle(), request.getContent());
+        // 2. 짧은 쓰기 트랜잭션 - 교체된 기존 파일은 같은 트랜잭션에서 삭제 예약 (커밋 후 drainer 가 삭제)
+        String newVideoPath = uploadedVideoPath;
+        boolean newFaststart = uploadedFaststart;
+        MediaProbe.Metadata newMetadata = uploadedMetadata;
+        String newThumbnailPath = uploadedThumbnailPath;
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // 작성자까지 함께 적재 (커밋 후 목록/검색 갱신이 엔티티 값을 그대로 사용)
+                Video video = videoRepository.findOwnedVideo(videoSeq, securityUtils.getCurrentMemberSeq())
+                        .orElseThrow(() -> new VideoNotFoundException(videoSeq));
+                eventPublisher.publishEvent(VideoChangedEvent.before(video, VideoChangedEvent.Change.UPDATED));
+                List<String> replaced = new ArrayList<>();
+
+                if (newVideoPath != null) {
+                    replaced.add(video.getVideoPath());
+                    video.updateVideoPath(newVideoPath, newFaststart);
+                    applyMetadata(video, newMetadata);
+                }
+                if (newThumbnailPath != null) {
+                    replaced.add(video.getThumbnailPath());
+                    video.updateThumbnailPath(newThumbnailPath);
+                    eventPublisher.publishEvent(new ImageUploadedEvent(newThumbnailPath));
+                }
+
+                // 제목과 내용 업데이트
+                video.updateMetadata(request.getTitle(), request.getContent());
+                fileDeletionService.schedule(replaced.toArray(String[]::new));
+            });
+        } catch (RuntimeException e) {
+            deleteStoredFiles(newVideoPath, newThumbnailPath);  // DB 반영 실패 시 새 파일 정리
+            throw e;
+        }
     }
 
     //로그인한 사용자 비디오 삭제 입니다.
     @IsVideoOwner
     @Transactional
     public void deleteVideo(Long videoSeq) {
-        Video video = videoRepository.findById(videoSeq)
+        Video video = videoRepository.findOwnedVideo(videoSeq, securityUtils.getCurrentMemberSeq())
                 .orElseThrow(() -> new VideoNotFoundException(videoSeq));
+        eventPublisher.publishEvent(VideoChangedEvent.before(video, VideoChangedEvent.Change.DELETED));
         video.delete();
+
+        // 삭제된 비디오의 파일은 다시 제공되지 않으므로 저장 공간을 회수
+        fileDeletionService.schedule(video.getVideoPath(), video.getThumbnailPath());
     }
 
     //내비디오 게시상태 변경", notes = "로그인한 사용자 비디오 게시상태 변경 입니다.
     @IsVideoOwner
     @Transactional
     public void updatePublishYn(Long videoSeq) {
-        Video video = videoRepository.findById(videoSeq)
+        Video video = videoRepository.findOwnedVideo(videoSeq, securityUtils.getCurrentMemberSeq())
                 .orElseThrow(() -> new VideoNotFoundException(videoSeq));
 
+        eventPublisher.publishEvent(VideoChangedEvent.before(video, VideoChangedEvent.Change.PUBLISH_CHANGED));
         video.updatePublishStatus(!video.isPublishYn());
     }
 
+    private Long createVideo(VideoCreateRequest request, String videoPath, boolean faststart,
+                             MediaProbe.Metadata metadata, String thumbnailPath) {
+        try {
+            return transactionTemplate.execute(status -> {
+                Video video = Video.createVideo(
+                        videoPath,
+                        thumbnailPath,
+                        securityUtils.getCurrentMemberReference(),  // FK 연결용 프록시 (조회 없음)
+                        request.getTitle(),
+                        request.getContent()
+                );
+                video.markFaststart(faststart);
+                applyMetadata(video, metadata);
+                videoRepository.save(video);
+                if (thumbnailPath != null) {
+                    eventPublisher.publishEvent(new ImageUploadedEvent(thumbnailPath));
+                }
+                return video.getVideoSeq();
+            });
+        } catch (RuntimeException e) {
+            deleteStoredFiles(videoPath, thumbnailPath);  // 저장 실패 시 업로드한 파일 정리
+            throw e;
+        }
+    }
+
+    // 헤더를 해석하지 않는 형식이면 모두 null
+    private static void applyMetadata(Video video, MediaProbe.Metadata metadata) {
+        MediaProbe.Metadata info = metadata == null ? MediaProbe.Metadata.EMPTY : metadata;
+        video.updateMediaInfo(info.durationMillis(), info.width(), info.height(), info.codec(), info.bitrate());
+    }
 
-}
\ No newline at end of file
+    // 저장소 파일 정리는 요청 결과에 영향을 주지 않도록 실패해도 기록만 남김
+    private void deleteStoredFiles(String... filePaths) {
+        for (String filePath : filePaths) {
+            if (filePath == null) {
+                continue;
+            }
+            try {
+                fileUploadStrategy.deleteFile(filePath);
+            } catch (RuntimeException e) {
+                log.warn("저장 파일 정리 실패: {}", filePath, e);
+            }
+        }
+    }
+
+    // 커서 조회는 항상 첫 페이지(OFFSET 0)만 읽고, Slice 로 받아 COUNT 쿼리를 생략
+    private static Pageable cursorLimit(int size) {
+        return PageRequest.of(0, Math.max(1, Math.min(size, MAX_CURSOR_SIZE)));
+    }
+
+    // DB 에 반영된 조회수 + 아직 flush 되지 않은 조회수
+    // 캐시 미스(만료 직후 포함)의 동시 조회는 한 번만 DB 로
+    private VideoResponse findPublicDetail(Long videoSeq) {
+        return videoDetailCache.get(videoSeq, seq ->
+                        singleFlight.execute("publicDetail", seq, () -> videoRepository.findPublicDetail(seq)))
+                .orElseThrow(() -> new VideoNotFoundException(videoSeq));
+    }
+
+    private VideoResponse withPendingViews(VideoResponse video) {
+        long pending = viewCountService.getPending(video.getVideoSeq());
+        return pending == 0 ? video : video.toBuilder().viewCount(video.getViewCount() + pending).build();
+    }
+
+    // 저장소가 발급하는 단기 다운로드 URL (S3 pre-signed GET, 로컬은 저장 경로)
+    private VideoResponse withDownloadUrls(VideoResponse video) {
+        return video.withDownloadUrls(
+                fileUploadStrategy.getDownloadUrl(video.getVideoPath()),
+                fileUploadStrategy.getDownloadUrl(video.getThumbnailPath()));
+    }
+
+    private VideoSummaryResponse withPendingViews(VideoSummaryResponse video) {
+        long pending = viewCountService.getPending(video.getVideoSeq());
+        return pending == 0 ? video : video.toBuilder().viewCount(video.getViewCount() + pending).build();
+    }
+
+    private static String nextCursor(VideoSummaryResponse video) {
+        return VideoCursor.of(video.getRegAt(), video.getVideoSeq()).encode();
+    }
+}
@@ -0,0 +1,198 @@
+package io.goorm.youtube.service;
+
+import io.goorm.youtube.exception.VideoNotFoundException;
+import io.goorm.youtube.file.FileUploadStrategy;
+import io.goorm.youtube.repository.VideoRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 업로드된 비디오의 HTTP Range 스트리밍을 담당하는 서비스
+ *
+ * - Range 헤더가 없으면 200 으로 전체 파일을 전송합니다. 파일이 최대 청크 크기보다 크면
+ *   bytes=0- 요청처럼 206 으로 앞부분만 전송합니다. (이어지는 구간은 Accept-Ranges 를 보고 Range 로 요청)
+ * - 단일 Range 는 206 + Content-Range, 복수 Range 는 206 + multipart/byteranges 로 응답합니다.
+ * - 만족할 수 없는 Range 는 416 + Content-Range: bytes * /{length} 로 응답합니다.
+ * - 한 응답에서 전송하는 Range 바이트 합계는 file.stream.max-chunk-size 로 제한됩니다.
+ *
+ * 파일 전송 중 DB 커넥션을 잡지 않도록 트랜잭션 없이 동작합니다.
+ * 조회수는 상세 조회(VideoService.getPublicVideoDetail)에서만 세며, 스트리밍 요청은 세지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VideoStreamService {
+
+    private static final String BYTES_UNIT = "bytes";
+
+    private final VideoRepository videoRepository;
+    private final FileUploadStrategy fileUploadStrategy;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${file.stream.max-chunk-size}")
+    private long maxChunkSize;
+
+    public void stream(Long videoSeq, String rangeHeader,
+                       HttpServletRequest request, HttpServletResponse response) throws IOException {
+
+        String videoPath = videoRepository.findPublicVideoPath(videoSeq)
+                .orElseThrow(() -> new VideoNotFoundException(videoSeq));
+
+        long fileSize = fileUploadStrategy.getFileSize(videoPath);
+        MediaType mediaType = MediaTypeFactory.getMediaType(videoPath)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM);
+        boolean headRequest = HttpMethod.HEAD.matches(request.getMethod());
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, BYTES_UNIT);
+
+        // Range 헤더가 없으면 전체 전송 (한 응답으로 최대 청크 크기를 넘겨 보내지 않도록 큰 파일은 앞부분만)
+        if (!StringUtils.hasText(rangeHeader) && fileSize > maxChunkSize) {
+            rangeHeader = BYTES_UNIT + "=0-";
+        }
+        if (!StringUtils.hasText(rangeHeader)) {
+            response.setStatus(HttpServletResponse.SC_OK);
+            response.setContentType(mediaType.toString());
+            response.setContentLengthLong(fileSize);
+            record("full");
+            if (!headRequest) {
+                send(videoPath, List.of(new long[]{0, fileSize - 1}), response);
+            }
+            return;
+        }
+
+        List<long[]> ranges = resolveRanges(rangeHeader, fileSize);
+        if (ranges.isEmpty()) {
+            response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, BYTES_UNIT + " */" + fileSize);
+            record("unsatisfiable");
+            return;
+        }
+
+        response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+
+        if (ranges.size() == 1) {
+            long[] range = ranges.get(0);
+            response.setContentType(mediaType.toString());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, contentRange(range, fileSize));
+            response.setContentLengthLong(range[1] - range[0] + 1);
+            record("single");
+            if (!headRequest) {
+                send(videoPath, ranges, response);
+            }
+            return;
+        }
+
+        String boundary = UUID.randomUUID().toString().replace("-", "");
+        List<byte[]> partHeaders = new ArrayList<>();
+        long contentLength = 0;
+        for (long[] range : ranges) {
+            byte[] partHeader = ("\r\n--" + boundary + "\r\n"
+                    + HttpHeaders.CONTENT_TYPE + ": " + mediaType + "\r\n"
+                    + HttpHeaders.CONTENT_RANGE + ": " + contentRange(range, fileSize) + "\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII);
+            partHeaders.add(partHeader);
+            contentLength += partHeader.length + (range[1] - range[0] + 1);
+        }
+        byte[] closingBoundary = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+        contentLength += closingBoundary.length;
+
+        response.setContentType("multipart/byteranges; boundary=" + boundary);
+        response.setContentLengthLong(contentLength);
+        record("multi");
+        if (headRequest) {
+            return;
+        }
+
+        try {
+            ServletOutputStream out = response.getOutputStream();
+            WritableByteChannel channel = Channels.newChannel(out);
+            for (int i = 0; i < ranges.size(); i++) {
+                long[] range = ranges.get(i);
+                out.write(partHeaders.get(i));
+                fileUploadStrategy.transferTo(videoPath, range[0], range[1] - range[0] + 1, channel);
+                meterRegistry.counter("video.stream.bytes").increment(range[1] - range[0] + 1);
+            }
+            out.write(closingBoundary);
+        } catch (IOException e) {
+            handleClientAbort(videoSeq, e);
+        }
+    }
+
+    /**
+     * Range 헤더를 실제 [start, end] 구간 목록으로 변환
+     * 파일 범위를 벗어난 구간은 제외하고, 구간 합계가 최대 청크 크기를 넘지 않도록 잘라냅니다.
+     */
+    private List<long[]> resolveRanges(String rangeHeader, long fileSize) {
+        List<HttpRange> httpRanges;
+        try {
+            httpRanges = HttpRange.parseRanges(rangeHeader);
+        } catch (IllegalArgumentException e) {
+            log.debug("잘못된 Range 헤더: {}", rangeHeader);
+            return List.of();
+        }
+
+        List<long[]> ranges = new ArrayList<>();
+        long budget = maxChunkSize;
+        for (HttpRange httpRange : httpRanges) {
+            if (fileSize == 0 || budget <= 0) {
+                break;
+            }
+            long start = httpRange.getRangeStart(fileSize);
+            long end = httpRange.getRangeEnd(fileSize);
+            if (start < 0 || start >= fileSize || end < start) {
+                continue;
+            }
+            end = Math.min(end, start + budget - 1);
+            budget -= end - start + 1;
+            ranges.add(new long[]{start, end});
+        }
+        return ranges;
+    }
+
+    private void send(String videoPath, List<long[]> ranges, HttpServletResponse response) throws IOException {
+        try {
+            WritableByteChannel channel = Channels.newChannel(response.getOutputStream());
+            for (long[] range : ranges) {
+                long count = range[1] - range[0] + 1;
+                fileUploadStrategy.transferTo(videoPath, range[0], count, channel);
+                meterRegistry.counter("video.stream.bytes").increment(count);
+            }
+        } catch (IOException e) {
+            handleClientAbort(videoPath, e);
+        }
+    }
+
+    private void handleClientAbort(Object target, IOException e) {
+        // 플레이어가 탐색(seek)하면서 기존 연결을 끊는 것은 정상 동작
+        log.debug("스트리밍 중 클라이언트 연결 종료: {} ({})", target, e.getMessage());
+        meterRegistry.counter("video.stream.aborted").increment();
+    }
+
+    private String contentRange(long[] range, long fileSize) {
+        return BYTES_UNIT + " " + range[0] + "-" + range[1] + "/" + fileSize;
+    }
+
+    private void record(String type) {
+        meterRegistry.counter("video.stream.requests", "type", type).increment();
+    }
+}
@@ -0,0 +1,303 @@
+package io.goorm.youtube.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 조회수 write-behind 카운터
+ *
+ * 조회 1건마다 UPDATE 를 실행하지 않고 videoSeq 별 LongAdder 에 누적한 뒤,
+ * 주기적으로 증가분(delta)만 JDBC 배치 1회로 반영합니다.
+ *
+ * 재시작 시 중복 반영 방지:
+ * 1. 반영할 delta 를 flushId 이름의 로컬 저널 파일로 먼저 기록(fsync)
+ * 2. UPDATE 배치와 view_count_flushes(flushId) INSERT 를 한 트랜잭션으로 커밋
+ * 3. 저널 삭제
+ * 커밋 후 저널 삭제 전에 종료되더라도 재기동 시 flushId 가 이미 기록되어 있으면 건너뜁니다.
+ * 조회 시 합산: 커밋 전 증가분(inFlight)은 커밋 직후 반영 이벤트보다 먼저 빼고,
+ * 반영에 실패했지만 저널이 남은 증가분은 저널이 다시 반영될 때까지 계속 더합니다.
+ * 마지막 flush 이후 아직 반영되지 않은 메모리상의 증가분은 정상 종료(@PreDestroy) 시 반영됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ViewCountService {
+
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final int FLUSH_LOG_RETENTION_DAYS = 7;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    // 이전 flush 에서 맵에서 제거한 카운터 (제거 직전에 참조를 얻은 스레드의 늦은 증가분을 다음 flush 에서 회수)
+    private Map<Long, LongAdder> retired = Map.of();
+
+    // DB 커밋을 기다리는 증가분 (조회 시 합산, 커밋 직후 반영 이벤트 전에 비움)
+    private volatile Map<Long, Long> inFlight = Map.of();
+
+    // 저널은 남았지만 반영에 실패한 증가분 (flushId 별, 저널을 다시 반영할 때까지 조회 시 합산)
+    private final ConcurrentHashMap<String, Map<Long, Long>> unappliedJournals = new ConcurrentHashMap<>();
+
+    @Value("${video.view.journal-directory}")
+    private String journalDirectory;
+
+    @PostConstruct
+    void registerMetrics() {
+        meterRegistry.gaugeMapSize("video.views.pending", Tags.empty(), pending);
+    }
+
+    /**
+     * 조회수 1 증가 (메모리에만 누적)
+     */
+    public void increment(Long videoSeq) {
+        pending.computeIfAbsent(videoSeq, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 조회수
+     */
+    public long getPending(Long videoSeq) {
+        LongAdder adder = pending.get(videoSeq);
+        long count = adder == null ? 0 : adder.sum();
+        for (Map<Long, Long> journaled : unappliedJournals.values()) {
+            count += journaled.getOrDefault(videoSeq, 0L);
+        }
+        return count + inFlight.getOrDefault(videoSeq, 0L);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void recover() {
+        replayJournals();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * 누적된 증가분을 JDBC 배치 1회로 반영
+     */
+    @Scheduled(fixedDelayString = "${video.view.flush-interval-ms}")
+    public synchronized void flush() {
+        replayJournals();
+
+        Map<Long, Long> deltas = drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        String flushId = UUID.randomUUID().toString();
+        inFlight = deltas;
+
+        Path journal = null;
+        try {
+            journal = writeJournal(flushId, deltas);
+        } catch (IOException e) {
+            log.warn("조회수 저널 기록 실패, 저널 없이 반영합니다: {}", flushId, e);
+        }
+
+        boolean applied;
+        try {
+            applied = apply(flushId, deltas);
+        } catch (RuntimeException e) {
+            if (journal == null) {
+                restore(deltas);  // 저널이 없으면 메모리로 되돌려 다음 주기에 재시도
+            } else {
+                unappliedJournals.put(flushId, deltas);  // 다음 주기에 저널로 재시도, 그동안 조회에는 계속 합산
+            }
+            inFlight = Map.of();
+            log.error("조회수 반영 실패: {}", flushId, e);
+            return;
+        }
+
+        // 커밋된 증가분은 반영 이벤트로 메모리 사본들이 더하기 전에 합산에서 뺌 (이중 집계 방지)
+        inFlight = Map.of();
+        if (applied) {
+            published(flushId, deltas);
+        }
+        deleteJournal(journal);
+    }
+
+    @Scheduled(cron = "0 0 4 * * *")
+    public void purgeFlushLog() {
+        int purged = jdbcTemplate.update("delete from view_count_flushes where applied_at < ?",
+                LocalDateTime.now().minusDays(FLUSH_LOG_RETENTION_DAYS));
+        log.info("조회수 flush 기록 정리: {}건", purged);
+    }
+
+    private Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new HashMap<>();
+        retired.forEach((videoSeq, adder) -> addDelta(deltas, videoSeq, adder.sumThenReset()));
+
+        Map<Long, LongAdder> drained = new HashMap<>();
+        for (Long videoSeq : pending.keySet()) {
+            LongAdder adder = pending.remove(videoSeq);
+            if (adder != null) {
+                drained.put(videoSeq, adder);
+                addDelta(deltas, videoSeq, adder.sumThenReset());
+            }
+        }
+        retired = drained;
+        return deltas;
+    }
+
+    private static void addDelta(Map<Long, Long> deltas, Long videoSeq, long delta) {
+        if (delta != 0) {
+            deltas.merge(videoSeq, delta, Long::sum);
+        }
+    }
+
+    private void restore(Map<Long, Long> deltas) {
+        deltas.forEach((videoSeq, delta) ->
+                pending.computeIfAbsent(videoSeq, key -> new LongAdder()).add(delta));
+    }
+
+    /**
+     * flushId 가 아직 기록되지 않은 경우에만 증가분을 반영 (멱등)
+     * @return 이번에 반영했는지 (이미 반영된 flushId 면 false) - 반영했다면 호출 측에서 published 호출
+     */
+    private boolean apply(String flushId, Map<Long, Long> deltas) {
+        Boolean applied = transactionTemplate.execute(status -> {
+            Integer exists = jdbcTemplate.queryForObject(
+                    "select count(*) from view_count_flushes where flush_id = ?", Integer.class, flushId);
+            if (exists != null && exists > 0) {
+                return false;
+            }
+
+            List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+            deltas.forEach((videoSeq, delta) -> batchArgs.add(new Object[]{delta, videoSeq}));
+            jdbcTemplate.batchUpdate("update videos set view_count = view_count + ? where video_seq = ?", batchArgs);
+            jdbcTemplate.update("insert into view_count_flushes (flush_id, applied_at) values (?, ?)",
+                    flushId, LocalDateTime.now());
+            return true;
+        });
+
+        if (!Boolean.TRUE.equals(applied)) {
+            log.info("이미 반영된 조회수 저널입니다: {}", flushId);
+            return false;
+        }
+        return true;
+    }
+
+    // 반영 완료 알림 - 메모리 사본(목록, 상세 캐시, 자동완성)이 증가분을 더함
+    private void published(String flushId, Map<Long, Long> deltas) {
+        eventPublisher.publishEvent(new ViewCountsFlushedEvent(deltas));
+        long views = deltas.values().stream().mapToLong(Long::longValue).sum();
+        meterRegistry.counter("video.views.flushed").increment(views);
+        log.debug("조회수 반영 완료: flushId={}, videos={}, views={}", flushId, deltas.size(), views);
+    }
+
+    private Path writeJournal(String flushId, Map<Long, Long> deltas) throws IOException {
+        Path directory = Path.of(journalDirectory);
+        Files.createDirectories(directory);
+
+        StringBuilder lines = new StringBuilder();
+        deltas.forEach((videoSeq, delta) -> lines.append(videoSeq).append(',').append(delta).append('\n'));
+
+        // 임시 파일에 기록 후 원자적으로 이름을 바꿔, 쓰다 만 저널이 재생되지 않도록 함
+        Path temp = directory.resolve(flushId + JOURNAL_SUFFIX + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+
+        return Files.move(temp, directory.resolve(flushId + JOURNAL_SUFFIX), StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private Map<Long, Long> readJournal(Path journal) throws IOException {
+        Map<Long, Long> deltas = new HashMap<>();
+        for (String line : Files.readAllLines(journal, StandardCharsets.UTF_8)) {
+            if (line.isBlank()) {
+                continue;
+            }
+            String[] parts = line.split(",");
+            addDelta(deltas, Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+        }
+        return deltas;
+    }
+
+    private void replayJournals() {
+        Path directory = Path.of(journalDirectory);
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        try (DirectoryStream<Path> journals = Files.newDirectoryStream(directory, "*" + JOURNAL_SUFFIX)) {
+            for (Path journal : journals) {
+                String fileName = journal.getFileName().toString();
+                String flushId = fileName.substring(0, fileName.length() - JOURNAL_SUFFIX.length());
+                Map<Long, Long> deltas;
+                try {
+                    deltas = readJournal(journal);
+                } catch (IOException | RuntimeException e) {
+                    log.error("조회수 저널 읽기 실패: {}", journal, e);
+                    continue;
+                }
+                try {
+                    boolean applied = apply(flushId, deltas);
+                    unappliedJournals.remove(flushId);
+                    if (applied) {
+                        published(flushId, deltas);
+                    }
+                    deleteJournal(journal);
+                } catch (RuntimeException e) {
+                    unappliedJournals.put(flushId, deltas);
+                    log.error("조회수 저널 재반영 실패: {}", journal, e);
+                }
+            }
+        } catch (IOException e) {
+            log.error("조회수 저널 디렉토리 조회 실패: {}", directory, e);
+        }
+    }
+
+    private void deleteJournal(Path journal) {
+        if (journal == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(journal);
+        } catch (IOException e) {
+            // 이미 커밋된 flushId 이므로 다음 재반영 시 건너뜀
+            log.warn("조회수 저널 삭제 실패: {}", journal, e);
+        }
+    }
+}
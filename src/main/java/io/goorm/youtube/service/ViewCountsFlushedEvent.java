@@ -0,0 +1,11 @@
+package io.goorm.youtube.service;
+
+import java.util.Map;
+
+/**
+ * 조회수 증가분이 DB 에 반영된 뒤 발행되는 이벤트
+ *
+ * @param deltas videoSeq 별 반영된 증가분
+ */
+public record ViewCountsFlushedEvent(Map<Long, Long> deltas) {
+}
@@ -0,0 +1,75 @@
+package io.goorm.youtube.file;
+
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ImageResizer / ImageVariants 테스트
+ */
+class ImageResizerTest {
+
+    @Test
+    void 너비별로_비율을_유지해_줄인다() throws IOException {
+        Map<Integer, byte[]> variants = ImageResizer.resize(image(4000, 3000, "jpeg"), "jpeg", ImageVariants.WIDTHS).variants();
+
+        assertThat(variants).containsOnlyKeys(160, 320, 640, 1280);
+        assertThat(size(variants.get(320))).containsExactly(320, 240);
+        assertThat(size(variants.get(1280))).containsExactly(1280, 960);
+    }
+
+    @Test
+    void 원본보다_큰_너비는_확대하지_않는다() throws IOException {
+        Map<Integer, byte[]> variants = ImageResizer.resize(image(200, 100, "png"), "png", ImageVariants.WIDTHS).variants();
+
+        assertThat(size(variants.get(160))).containsExactly(160, 80);
+        assertThat(size(variants.get(640))).containsExactly(200, 100);
+    }
+
+    @Test
+    void 미리보기는_4x3_성분의_BlurHash다() throws IOException {
+        ImageResizer.Result result = ImageResizer.resize(image(1920, 1080, "jpeg"), "jpeg", ImageVariants.WIDTHS);
+
+        // 크기 플래그(4x3 = 'L') + 최대값 1자 + DC 4자 + AC 11개 x 2자
+        assertThat(result.placeholder()).hasSize(28).startsWith("L");
+        // 변형이 이미 있을 때는 가장 작은 변형으로 다시 계산 (재압축 차이로 AC 값만 조금 다를 수 있음)
+        assertThat(ImageResizer.placeholder(result.variants().get(160))).hasSize(28).startsWith(result.placeholder().substring(0, 2));
+    }
+
+    @Test
+    void 이미지가_아니면_실패한다() {
+        assertThatThrownBy(() -> ImageResizer.resize(new byte[]{1, 2, 3}, "jpeg", ImageVariants.WIDTHS))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void 변형_경로와_원본_경로를_서로_찾는다() {
+        String original = "/upload/thumbnails/abc.png";
+
+        assertThat(ImageVariants.variantPath(original, 320)).isEqualTo("/upload/thumbnails/abc_w320.png");
+        assertThat(ImageVariants.originalPath("/upload/thumbnails/abc_w320.png")).isEqualTo(original);
+        assertThat(ImageVariants.isImage("/upload/thumbnails/abc_w320.png")).isFalse();
+        assertThat(ImageVariants.isImage("/upload/videos/abc.mp4")).isFalse();
+        assertThat(ImageVariants.select(300)).isEqualTo(320);
+        assertThat(ImageVariants.select(5000)).isEqualTo(1280);
+    }
+
+    private static byte[] image(int width, int height, String format) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), format, output);
+        return output.toByteArray();
+    }
+
+    private static int[] size(byte[] content) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(content));
+        return new int[]{image.getWidth(), image.getHeight()};
+    }
+}
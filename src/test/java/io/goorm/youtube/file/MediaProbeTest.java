@@ -0,0 +1,175 @@
+package io.goorm.youtube.file;
+
+import io.goorm.youtube.exception.FileValidationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * MediaProbe 테스트 - 헤더만 채운 최소 MP4(ftyp, mdat, moov)와 AVI(RIFF hdrl) 사용
+ */
+class MediaProbeTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void MP4_헤더에서_길이_해상도_코덱을_읽는다() throws IOException {
+        byte[] mp4 = mp4(0);
+        Path file = Files.write(tempDir.resolve("video.mp4"), mp4);
+
+        MediaProbe.Metadata metadata;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            metadata = MediaProbe.probe("video.mp4", channel.size(), MediaProbe.reader(channel));
+        }
+
+        assertThat(metadata.durationMillis()).isEqualTo(2500);
+        assertThat(metadata.width()).isEqualTo(1280);
+        assertThat(metadata.height()).isEqualTo(720);
+        assertThat(metadata.codec()).isEqualTo("avc1");
+        assertThat(metadata.bitrate()).isEqualTo(mp4.length * 8_000L / 2500);
+    }
+
+    @Test
+    void 다시_여는_스트림으로도_읽는다() throws IOException {
+        byte[] mp4 = mp4(4096);
+
+        MediaProbe.Metadata metadata = MediaProbe.probe("video.MOV", mp4.length,
+                MediaProbe.reader(() -> new ByteArrayInputStream(mp4)));
+
+        assertThat(metadata.codec()).isEqualTo("avc1");
+        assertThat(metadata.durationMillis()).isEqualTo(2500);
+    }
+
+    @Test
+    void AVI_헤더에서_길이_해상도_코덱을_읽는다() throws IOException {
+        byte[] avi = avi();
+
+        MediaProbe.Metadata metadata = MediaProbe.probe("video.avi", avi.length, reader(avi));
+
+        assertThat(metadata.durationMillis()).isEqualTo(4000);  // 40000us x 100 프레임
+        assertThat(metadata.width()).isEqualTo(640);
+        assertThat(metadata.height()).isEqualTo(480);
+        assertThat(metadata.codec()).isEqualTo("XVID");
+    }
+
+    @Test
+    void 확장자와_내용이_다르면_거절한다() {
+        byte[] png = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A, 0, 0, 0, 0};
+
+        assertThatThrownBy(() -> MediaProbe.probe("video.mp4", png.length, reader(png)))
+                .isInstanceOf(FileValidationException.class);
+        assertThat(MediaProbe.matchesSignature("thumbnail.png", png)).isTrue();
+        assertThat(MediaProbe.matchesSignature("thumbnail.jpg", png)).isFalse();
+        assertThat(MediaProbe.matchesSignature("video.avi", mp4(0))).isFalse();
+        assertThat(MediaProbe.matchesSignature("notes.txt", png)).isTrue();
+    }
+
+    @Test
+    void moov_가_잘리거나_없으면_거절한다() {
+        byte[] mp4 = mp4(0);
+        byte[] truncated = Arrays.copyOf(mp4, mp4.length - 10);
+        byte[] noMoov = concat(box("ftyp", "isom".getBytes(StandardCharsets.US_ASCII)), box("mdat", new byte[32]));
+
+        assertThatThrownBy(() -> MediaProbe.probe("video.mp4", truncated.length, reader(truncated)))
+                .isInstanceOf(FileValidationException.class);
+        assertThatThrownBy(() -> MediaProbe.probe("video.mp4", noMoov.length, reader(noMoov)))
+                .isInstanceOf(FileValidationException.class);
+    }
+
+    private static MediaProbe.RangeReader reader(byte[] bytes) {
+        return (position, length) -> Arrays.copyOfRange(bytes, (int) Math.min(position, bytes.length),
+                (int) Math.min(position + length, bytes.length));
+    }
+
+    // ftyp | mdat | moov(mvhd, trak(tkhd, mdia(hdlr, minf(stbl(stsd(avc1))))))
+    private static byte[] mp4(int mdatSize) {
+        ByteBuffer mvhd = ByteBuffer.allocate(100);
+        mvhd.putInt(0).putInt(0).putInt(0).putInt(1000).putInt(2500);  // version 0, timescale 1000, duration 2500
+
+        ByteBuffer tkhd = ByteBuffer.allocate(84);
+        tkhd.putInt(76, 1280 << 16).putInt(80, 720 << 16);
+
+        ByteBuffer hdlr = ByteBuffer.allocate(24);
+        hdlr.putInt(8, fourcc("vide"));
+
+        ByteBuffer entry = ByteBuffer.allocate(78);  // VisualSampleEntry 본문
+        entry.putShort(24, (short) 1280).putShort(26, (short) 720);
+        ByteBuffer stsd = ByteBuffer.allocate(8);
+        stsd.putInt(4, 1);
+
+        byte[] stbl = box("stbl", box("stsd", concat(stsd.array(), box("avc1", entry.array()))));
+        byte[] trak = box("trak", concat(box("tkhd", tkhd.array()),
+                box("mdia", concat(box("hdlr", hdlr.array()), box("minf", stbl)))));
+        byte[] moov = box("moov", concat(box("mvhd", mvhd.array()), trak));
+        return concat(box("ftyp", "isom\0\0\2\0".getBytes(StandardCharsets.US_ASCII)),
+                box("mdat", new byte[mdatSize]), moov);
+    }
+
+    // RIFF 'AVI ' | LIST 'hdrl' (avih, LIST 'strl' (strh, strf))
+    private static byte[] avi() {
+        ByteBuffer avih = le(56);
+        avih.putInt(0, 40_000).putInt(16, 100).putInt(32, 640).putInt(36, 480);
+        ByteBuffer strh = le(56);
+        strh.putInt(0, fourccLe("vids")).putInt(4, fourccLe("XVID"));
+        ByteBuffer strf = le(40);
+        strf.putInt(0, 40).putInt(4, 640).putInt(8, 480).putInt(16, fourccLe("XVID"));
+
+        byte[] strl = chunk("LIST", concat("strl".getBytes(StandardCharsets.US_ASCII),
+                chunk("strh", strh.array()), chunk("strf", strf.array())));
+        byte[] hdrl = chunk("LIST", concat("hdrl".getBytes(StandardCharsets.US_ASCII),
+                chunk("avih", avih.array()), strl));
+        byte[] movi = chunk("LIST", concat("movi".getBytes(StandardCharsets.US_ASCII), new byte[64]));
+        return chunk("RIFF", concat("AVI ".getBytes(StandardCharsets.US_ASCII), hdrl, movi));
+    }
+
+    private static byte[] box(String type, byte[] body) {
+        return ByteBuffer.allocate(8 + body.length)
+                .putInt(8 + body.length)
+                .put(type.getBytes(StandardCharsets.US_ASCII))
+                .put(body)
+                .array();
+    }
+
+    private static byte[] chunk(String id, byte[] body) {
+        return le(8 + body.length)
+                .put(id.getBytes(StandardCharsets.US_ASCII))
+                .putInt(body.length)
+                .put(body)
+                .array();
+    }
+
+    private static ByteBuffer le(int size) {
+        return ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static int fourcc(String value) {
+        return ByteBuffer.wrap(value.getBytes(StandardCharsets.US_ASCII)).getInt();
+    }
+
+    private static int fourccLe(String value) {
+        return ByteBuffer.wrap(value.getBytes(StandardCharsets.US_ASCII)).order(ByteOrder.LITTLE_ENDIAN).getInt();
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            out.writeBytes(part);
+        }
+        return out.toByteArray();
+    }
+}
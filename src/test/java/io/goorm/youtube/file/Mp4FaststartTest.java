@@ -0,0 +1,141 @@
+package io.goorm.youtube.file;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Mp4Faststart 테스트 - ftyp, mdat(청크 2개), moov(trak/mdia/minf/stbl/stco) 로 만든 최소 구조 사용
+ */
+class Mp4FaststartTest {
+
+    private static final byte[] CHUNK_A = "chunk-a".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] CHUNK_B = "chunk-b".getBytes(StandardCharsets.US_ASCII);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void moov_를_mdat_앞으로_옮기고_청크_위치를_고친다() throws IOException {
+        Path source = write("source.mp4", moovAtEnd(false));
+        Path target = tempDir.resolve("target.mp4");
+
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            assertThat(Mp4Faststart.inspect(in)).isEqualTo(Mp4Faststart.Layout.MOOV_AT_END);
+            assertThat(Mp4Faststart.rewrite(in, out)).isTrue();
+        }
+
+        byte[] rewritten = Files.readAllBytes(target);
+        assertThat(rewritten).hasSameSizeAs(Files.readAllBytes(source));
+        try (FileChannel in = FileChannel.open(target, StandardOpenOption.READ)) {
+            assertThat(Mp4Faststart.inspect(in)).isEqualTo(Mp4Faststart.Layout.FASTSTART);
+        }
+        long[] offsets = chunkOffsets(rewritten, false);
+        assertThat(slice(rewritten, offsets[0], CHUNK_A.length)).isEqualTo(CHUNK_A);
+        assertThat(slice(rewritten, offsets[1], CHUNK_B.length)).isEqualTo(CHUNK_B);
+    }
+
+    @Test
+    void co64_도_고친다() throws IOException {
+        Path source = write("source.mp4", moovAtEnd(true));
+        Path target = tempDir.resolve("target.mp4");
+
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            assertThat(Mp4Faststart.rewrite(in, out)).isTrue();
+        }
+
+        byte[] rewritten = Files.readAllBytes(target);
+        long[] offsets = chunkOffsets(rewritten, true);
+        assertThat(slice(rewritten, offsets[1], CHUNK_B.length)).isEqualTo(CHUNK_B);
+    }
+
+    @Test
+    void 스트림으로_배치를_확인한다() throws IOException {
+        assertThat(Mp4Faststart.inspect(new ByteArrayInputStream(moovAtEnd(false))))
+                .isEqualTo(Mp4Faststart.Layout.MOOV_AT_END);
+        assertThat(Mp4Faststart.inspect(new ByteArrayInputStream("not an mp4 file".getBytes(StandardCharsets.US_ASCII))))
+                .isEqualTo(Mp4Faststart.Layout.UNSUPPORTED);
+    }
+
+    @Test
+    void 이미_faststart_이거나_MP4_가_아니면_다시_쓰지_않는다() throws IOException {
+        Path text = write("text.mp4", "not an mp4 file".getBytes(StandardCharsets.US_ASCII));
+        Path target = tempDir.resolve("target.mp4");
+
+        try (FileChannel in = FileChannel.open(text, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            assertThat(Mp4Faststart.inspect(in)).isEqualTo(Mp4Faststart.Layout.UNSUPPORTED);
+            assertThat(Mp4Faststart.rewrite(in, out)).isFalse();
+        }
+        assertThat(Mp4Faststart.isCandidate("video.MOV")).isTrue();
+        assertThat(Mp4Faststart.isCandidate("video.avi")).isFalse();
+    }
+
+    // ftyp | mdat(CHUNK_A, CHUNK_B) | moov
+    private static byte[] moovAtEnd(boolean wide) {
+        byte[] ftyp = box("ftyp", "isom\0\0\2\0isomiso2".getBytes(StandardCharsets.US_ASCII));
+        byte[] mdatBody = concat(CHUNK_A, CHUNK_B);
+        byte[] mdat = box("mdat", mdatBody);
+        long chunkA = ftyp.length + 8;
+        long chunkB = chunkA + CHUNK_A.length;
+
+        ByteBuffer table = ByteBuffer.allocate(8 + 2 * (wide ? 8 : 4));
+        table.putInt(0).putInt(2);
+        if (wide) {
+            table.putLong(chunkA).putLong(chunkB);
+        } else {
+            table.putInt((int) chunkA).putInt((int) chunkB);
+        }
+        byte[] stbl = box("stbl", box(wide ? "co64" : "stco", table.array()));
+        byte[] moov = box("moov", box("trak", box("mdia", box("minf", stbl))));
+        return concat(ftyp, mdat, moov);
+    }
+
+    private static long[] chunkOffsets(byte[] file, boolean wide) {
+        String type = wide ? "co64" : "stco";
+        int at = new String(file, StandardCharsets.ISO_8859_1).indexOf(type) + 4 + 8;
+        ByteBuffer buffer = ByteBuffer.wrap(file);
+        return wide
+                ? new long[]{buffer.getLong(at), buffer.getLong(at + 8)}
+                : new long[]{Integer.toUnsignedLong(buffer.getInt(at)), Integer.toUnsignedLong(buffer.getInt(at + 4))};
+    }
+
+    private static byte[] box(String type, byte[] body) {
+        return ByteBuffer.allocate(8 + body.length)
+                .putInt(8 + body.length)
+                .put(type.getBytes(StandardCharsets.US_ASCII))
+                .put(body)
+                .array();
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            out.writeBytes(part);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] slice(byte[] bytes, long offset, int length) {
+        byte[] slice = new byte[length];
+        System.arraycopy(bytes, (int) offset, slice, 0, length);
+        return slice;
+    }
+
+    private Path write(String name, byte[] content) throws IOException {
+        return Files.write(tempDir.resolve(name), content);
+    }
+}
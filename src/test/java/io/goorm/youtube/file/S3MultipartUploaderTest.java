@@ -0,0 +1,297 @@
+package io.goorm.youtube.file;
+
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadResult;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+import io.goorm.youtube.exception.FileUploadException;
+import io.goorm.youtube.exception.FileValidationException;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * S3MultipartUploader 테스트
+ * 실제 S3 대신 multipart API 만 구현한 인메모리 S3(InMemoryS3)를 사용합니다.
+ */
+@Slf4j
+class S3MultipartUploaderTest {
+
+    private static final String BUCKET = "test-bucket";
+    private static final int PART_SIZE = 5 * 1024 * 1024;
+    private static final int MB = 1024 * 1024;
+
+    private S3MultipartUploader uploader;
+
+    @AfterEach
+    void tearDown() {
+        if (uploader != null) {
+            uploader.shutdown();
+        }
+    }
+
+    @Test
+    void 파트를_나눠_올린_뒤_원본과_같은_객체로_합친다() throws IOException {
+        InMemoryS3 s3 = new InMemoryS3(0);
+        uploader = new S3MultipartUploader(s3, PART_SIZE, 4, 3);
+        byte[] data = randomBytes(23 * MB);
+
+        long uploaded = uploader.upload(BUCKET, "videos/a.mp4", new ObjectMetadata(),
+                CannedAccessControlList.PublicRead, new ByteArrayInputStream(data));
+
+        assertThat(uploaded).isEqualTo(data.length);
+        assertThat(s3.object("videos/a.mp4")).isEqualTo(data);
+        assertThat(s3.partCount()).isEqualTo(5);
+        assertThat(s3.pendingUploads()).isZero();
+    }
+
+    @Test
+    void 일시적인_파트_오류는_재시도한다() throws IOException {
+        InMemoryS3 s3 = new InMemoryS3(0);
+        s3.failPart(2, 2, 503);
+        uploader = new S3MultipartUploader(s3, PART_SIZE, 4, 3);
+        byte[] data = randomBytes(12 * MB);
+
+        uploader.upload(BUCKET, "videos/b.mp4", new ObjectMetadata(),
+                CannedAccessControlList.PublicRead, new ByteArrayInputStream(data));
+
+        assertThat(s3.object("videos/b.mp4")).isEqualTo(data);
+    }
+
+    @Test
+    void 재시도로_복구되지_않으면_업로드를_abort_한다() {
+        InMemoryS3 s3 = new InMemoryS3(0);
+        s3.failPart(3, Integer.MAX_VALUE, 503);
+        uploader = new S3MultipartUploader(s3, PART_SIZE, 4, 2);
+
+        assertThatThrownBy(() -> uploader.upload(BUCKET, "videos/c.mp4", new ObjectMetadata(),
+                CannedAccessControlList.PublicRead, new ByteArrayInputStream(randomBytes(30 * MB))))
+                .isInstanceOf(FileUploadException.class);
+
+        assertThat(s3.object("videos/c.mp4")).isNull();
+        assertThat(s3.pendingUploads()).isZero();
+        assertThat(s3.abortCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 권한_오류는_재시도하지_않는다() {
+        InMemoryS3 s3 = new InMemoryS3(0);
+        s3.failPart(1, 1, 403);
+        uploader = new S3MultipartUploader(s3, PART_SIZE, 4, 3);
+
+        assertThatThrownBy(() -> uploader.upload(BUCKET, "videos/d.mp4", new ObjectMetadata(),
+                CannedAccessControlList.PublicRead, new ByteArrayInputStream(randomBytes(6 * MB))))
+                .isInstanceOf(FileUploadException.class);
+
+        assertThat(s3.attempts(1)).isEqualTo(1);
+        assertThat(s3.pendingUploads()).isZero();
+    }
+
+    @Test
+    void 크기_제한을_넘으면_올린_파트를_정리한다() {
+        InMemoryS3 s3 = new InMemoryS3(0);
+        uploader = new S3MultipartUploader(s3, PART_SIZE, 4, 3);
+        InputStream source = new DigestingInputStream(
+                new ByteArrayInputStream(randomBytes(20 * MB)), 12 * MB, "비디오");
+
+        assertThatThrownBy(() -> uploader.upload(BUCKET, "videos/e.mp4", new ObjectMetadata(),
+                CannedAccessControlList.PublicRead, source))
+                .isInstanceOf(FileValidationException.class);
+
+        assertThat(s3.pendingUploads()).isZero();
+        assertThat(s3.object("videos/e.mp4")).isNull();
+    }
+
+    @Test
+    void 빈_스트림은_abort_하고_0을_반환한다() throws IOException {
+        InMemoryS3 s3 = new InMemoryS3(0);
+        uploader = new S3MultipartUploader(s3, PART_SIZE, 4, 3);
+
+        long uploaded = uploader.upload(BUCKET, "videos/f.mp4", new ObjectMetadata(),
+                CannedAccessControlList.PublicRead, InputStream.nullInputStream());
+
+        assertThat(uploaded).isZero();
+        assertThat(s3.pendingUploads()).isZero();
+    }
+
+    /**
+     * 처리량 측정 (./gradlew benchmark)
+     * 파트 요청마다 왕복 지연 30ms + 연결당 40MB/s 전송 시간을 흉내 내어, 동시 전송 수에 따른 차이를 봅니다.
+     */
+    @Tag("benchmark")
+    @ParameterizedTest
+    @ValueSource(ints = {10, 50, 100})
+    void 처리량(int sizeMb) throws IOException {
+        byte[] data = randomBytes(sizeMb * MB);
+
+        for (int concurrency : new int[]{1, 4, 8}) {
+            InMemoryS3 s3 = new InMemoryS3(30);
+            uploader = new S3MultipartUploader(s3, 8 * MB, concurrency, 3);
+
+            long start = System.nanoTime();
+            uploader.upload(BUCKET, "bench/" + sizeMb, new ObjectMetadata(),
+                    CannedAccessControlList.PublicRead, new ByteArrayInputStream(data));
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            uploader.shutdown();
+
+            assertThat(s3.object("bench/" + sizeMb)).hasSize(data.length);
+            log.info("[S3 multipart] {}MB concurrency={} : {}s, {} MB/s",
+                    sizeMb, concurrency, String.format("%.2f", seconds), String.format("%.1f", sizeMb / seconds));
+        }
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] data = new byte[size];
+        new Random(size).nextBytes(data);
+        return data;
+    }
+
+    /**
+     * multipart upload API 만 구현한 인메모리 S3
+     */
+    static class InMemoryS3 extends AbstractAmazonS3 {
+
+        private static final long BYTES_PER_MILLI = 40L * 1024 * 1024 / 1000;
+
+        private final long latencyMillis;
+        private final Map<String, ConcurrentSkipListMap<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+        private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+        private final Map<Integer, AtomicInteger> attempts = new ConcurrentHashMap<>();
+        private final Map<Integer, int[]> failures = new ConcurrentHashMap<>();
+        private final AtomicInteger partCount = new AtomicInteger();
+        private final AtomicInteger abortCount = new AtomicInteger();
+
+        InMemoryS3(long latencyMillis) {
+            this.latencyMillis = latencyMillis;
+        }
+
+        // partNumber 파트의 처음 times 번 요청을 statusCode 로 실패시킴
+        void failPart(int partNumber, int times, int statusCode) {
+            failures.put(partNumber, new int[]{times, statusCode});
+        }
+
+        byte[] object(String key) {
+            return objects.get(key);
+        }
+
+        int pendingUploads() {
+            return uploads.size();
+        }
+
+        int partCount() {
+            return partCount.get();
+        }
+
+        int abortCount() {
+            return abortCount.get();
+        }
+
+        int attempts(int partNumber) {
+            return attempts.getOrDefault(partNumber, new AtomicInteger()).get();
+        }
+
+        @Override
+        public InitiateMultipartUploadResult initiateMultipartUpload(InitiateMultipartUploadRequest request) {
+            String uploadId = UUID.randomUUID().toString();
+            uploads.put(uploadId, new ConcurrentSkipListMap<>());
+            InitiateMultipartUploadResult result = new InitiateMultipartUploadResult();
+            result.setBucketName(request.getBucketName());
+            result.setKey(request.getKey());
+            result.setUploadId(uploadId);
+            return result;
+        }
+
+        @Override
+        public UploadPartResult uploadPart(UploadPartRequest request) {
+            int partNumber = request.getPartNumber();
+            int attempt = attempts.computeIfAbsent(partNumber, n -> new AtomicInteger()).incrementAndGet();
+
+            int[] failure = failures.get(partNumber);
+            if (failure != null && attempt <= failure[0]) {
+                AmazonS3Exception e = new AmazonS3Exception("injected failure");
+                e.setStatusCode(failure[1]);
+                throw e;
+            }
+
+            byte[] data;
+            try {
+                data = request.getInputStream().readAllBytes();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            simulateTransfer(data.length);
+
+            ConcurrentSkipListMap<Integer, byte[]> parts = uploads.get(request.getUploadId());
+            if (parts == null) {
+                AmazonS3Exception e = new AmazonS3Exception("NoSuchUpload");
+                e.setStatusCode(404);
+                throw e;
+            }
+            parts.put(partNumber, data);
+            partCount.incrementAndGet();
+
+            UploadPartResult result = new UploadPartResult();
+            result.setPartNumber(partNumber);
+            result.setETag(Integer.toHexString(Arrays.hashCode(data)));
+            return result;
+        }
+
+        @Override
+        public CompleteMultipartUploadResult completeMultipartUpload(CompleteMultipartUploadRequest request) {
+            ConcurrentSkipListMap<Integer, byte[]> parts = uploads.remove(request.getUploadId());
+            ByteArrayOutputStream object = new ByteArrayOutputStream();
+            for (PartETag partETag : request.getPartETags()) {
+                object.writeBytes(parts.get(partETag.getPartNumber()));
+            }
+            objects.put(request.getKey(), object.toByteArray());
+
+            CompleteMultipartUploadResult result = new CompleteMultipartUploadResult();
+            result.setBucketName(request.getBucketName());
+            result.setKey(request.getKey());
+            return result;
+        }
+
+        @Override
+        public void abortMultipartUpload(AbortMultipartUploadRequest request) {
+            uploads.remove(request.getUploadId());
+            abortCount.incrementAndGet();
+        }
+
+        private void simulateTransfer(int bytes) {
+            if (latencyMillis == 0) {
+                return;
+            }
+            try {
+                Thread.sleep(latencyMillis + bytes / BYTES_PER_MILLI);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package io.goorm.youtube.repository;
+
+import io.goorm.youtube.domain.Member;
+import io.goorm.youtube.domain.Video;
+import io.goorm.youtube.dto.video.VideoResponse;
+import io.goorm.youtube.dto.video.VideoSummaryResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록/상세 JPQL 생성자 표현식이 DTO 생성자와 맞는지 실제 쿼리로 확인
+ */
+@DataJpaTest
+class VideoRepositoryProjectionTest {
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Long videoSeq;
+
+    @BeforeEach
+    void setUp() {
+        Member member = entityManager.persist(Member.createMember("member", "pw", "channel", null, null));
+        Video video = Video.createVideo("/upload/videos/a.mp4", "/upload/thumbnails/a.png", member, "title", "content");
+        video.updatePublishStatus(true);
+        video.updateMediaInfo(2500L, 1280, 720, "avc1", 800_000L);
+        videoSeq = entityManager.persist(video).getVideoSeq();
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void 목록_프로젝션() {
+        List<VideoSummaryResponse> feed = videoRepository.findPublicFeed(PageRequest.of(0, 10)).getContent();
+
+        assertThat(feed).singleElement().satisfies(summary -> {
+            assertThat(summary.getVideoSeq()).isEqualTo(videoSeq);
+            assertThat(summary.getMemberName()).isEqualTo("channel");
+            assertThat(summary.getTitle()).isEqualTo("title");
+        });
+        assertThat(videoRepository.findPublicSummary(videoSeq)).isPresent();
+    }
+
+    @Test
+    void 상세_프로젝션은_재생_정보를_포함한다() {
+        VideoResponse detail = videoRepository.findPublicDetail(videoSeq).orElseThrow();
+
+        assertThat(detail.getContent()).isEqualTo("content");
+        assertThat(detail.getDurationMillis()).isEqualTo(2500L);
+        assertThat(detail.getWidth()).isEqualTo(1280);
+        assertThat(detail.getHeight()).isEqualTo(720);
+        assertThat(detail.getCodec()).isEqualTo("avc1");
+        assertThat(detail.getBitrate()).isEqualTo(800_000L);
+        assertThat(videoRepository.findPublicDetails(List.of(videoSeq))).hasSize(1);
+    }
+}
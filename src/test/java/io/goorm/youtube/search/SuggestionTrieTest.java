@@ -0,0 +1,89 @@
+package io.goorm.youtube.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SuggestionTrie 테스트
+ */
+class SuggestionTrieTest {
+
+    private final SuggestionTrie trie = new SuggestionTrie(3, 3, 50);
+
+    @Test
+    void 접두어로_시작하는_문구를_점수순으로_제안한다() {
+        trie.add(SuggestionTrie.Kind.TITLE, "고양이 피아노 연주", 100);
+        trie.add(SuggestionTrie.Kind.TITLE, "고등어 요리", 500);
+        trie.add(SuggestionTrie.Kind.CHANNEL, "고양이집사", 10);
+        trie.add(SuggestionTrie.Kind.TITLE, "강아지 산책", 1000);
+
+        assertThat(texts("고")).containsExactly("고등어 요리", "고양이 피아노 연주", "고양이집사");
+        assertThat(texts("고양")).containsExactly("고양이 피아노 연주", "고양이집사");
+    }
+
+    @Test
+    void 중간_단어로도_찾고_대소문자와_공백은_구분하지_않는다() {
+        trie.add(SuggestionTrie.Kind.TITLE, "Spring  Boot 강의", 1);
+
+        assertThat(texts("boot")).containsExactly("Spring  Boot 강의");
+        assertThat(texts("SPRING B")).containsExactly("Spring  Boot 강의");
+    }
+
+    @Test
+    void 점수가_바뀌면_순위도_바뀐다() {
+        trie.add(SuggestionTrie.Kind.TITLE, "축구 하이라이트", 100);
+        trie.add(SuggestionTrie.Kind.TITLE, "축구 중계", 50);
+
+        trie.addScore(SuggestionTrie.Kind.TITLE, "축구 중계", 100);
+        assertThat(texts("축구")).containsExactly("축구 중계", "축구 하이라이트");
+
+        trie.remove(SuggestionTrie.Kind.TITLE, "축구 중계", 150);
+        assertThat(texts("축구")).containsExactly("축구 하이라이트");
+    }
+
+    @Test
+    void 상위_k개_밖의_문구도_앞의_문구가_빠지면_제안된다() {
+        for (int i = 1; i <= 5; i++) {
+            trie.add(SuggestionTrie.Kind.TITLE, "음악 " + i, i);
+        }
+
+        trie.remove(SuggestionTrie.Kind.TITLE, "음악 5", 5);
+
+        assertThat(texts("음악")).containsExactly("음악 4", "음악 3", "음악 2");
+    }
+
+    @Test
+    void 같은_문구는_참조가_모두_빠져야_사라진다() {
+        trie.add(SuggestionTrie.Kind.CHANNEL, "여행자", 10);
+        trie.add(SuggestionTrie.Kind.CHANNEL, "여행자", 20);
+
+        trie.remove(SuggestionTrie.Kind.CHANNEL, "여행자", 10);
+        assertThat(trie.suggest("여행", 10)).extracting(SuggestionTrie.Suggestion::score).containsExactly(20L);
+
+        trie.remove(SuggestionTrie.Kind.CHANNEL, "여행자", 20);
+        assertThat(trie.suggest("여행", 10)).isEmpty();
+    }
+
+    @Test
+    void 모두_제거하면_메모리_추정치가_처음으로_돌아온다() {
+        long empty = trie.estimatedBytes();
+        for (int i = 0; i < 100; i++) {
+            trie.add(SuggestionTrie.Kind.TITLE, "비디오 제목 " + i, i);
+        }
+        assertThat(trie.estimatedBytes()).isGreaterThan(empty);
+
+        for (int i = 0; i < 100; i++) {
+            trie.remove(SuggestionTrie.Kind.TITLE, "비디오 제목 " + i, i);
+        }
+
+        assertThat(trie.size()).isZero();
+        assertThat(trie.estimatedBytes()).isEqualTo(empty);
+    }
+
+    private List<String> texts(String prefix) {
+        return trie.suggest(prefix, 10).stream().map(SuggestionTrie.Suggestion::text).toList();
+    }
+}
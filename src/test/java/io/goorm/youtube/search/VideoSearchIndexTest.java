@@ -0,0 +1,244 @@
+package io.goorm.youtube.search;
+
+import io.goorm.youtube.dto.video.VideoResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * VideoSearchIndex 테스트
+ * 실제 디스크 색인(임시 디렉토리)과 nori 분석기를 사용합니다.
+ */
+@Slf4j
+class VideoSearchIndexTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @TempDir
+    Path indexDirectory;
+
+    private VideoSearchIndex index;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        index = new VideoSearchIndex(indexDirectory, 64);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        index.close();
+    }
+
+    @Test
+    void 조사가_붙은_한국어도_형태소_단위로_검색한다() {
+        index.index(video(1L, "고양이가 피아노를 칩니다", "집에서 찍은 영상", "냥집사"));
+        index.index(video(2L, "강아지 산책 브이로그", "한강 공원 산책", "멍멍"));
+        index.refresh();
+
+        assertThat(index.search("고양이", 0, 10).videoSeqs()).containsExactly(1L);
+        assertThat(index.search("피아노 고양이", 0, 10).videoSeqs()).containsExactly(1L);
+        assertThat(index.search("산책", 0, 10).videoSeqs()).containsExactly(2L);
+    }
+
+    @Test
+    void 제목_일치가_설명_일치보다_먼저_나온다() {
+        index.index(video(1L, "오늘의 요리", "김치찌개 끓이는 법을 알려드립니다", "요리사"));
+        index.index(video(2L, "김치찌개 끓이는 법", "오늘의 요리", "요리사"));
+        index.refresh();
+
+        assertThat(index.search("김치찌개", 0, 10).videoSeqs()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void 작성자_이름으로도_검색한다() {
+        index.index(video(1L, "여행 기록", "제주도", "바다여행자"));
+        index.refresh();
+
+        assertThat(index.search("바다여행자", 0, 10).videoSeqs()).containsExactly(1L);
+    }
+
+    @Test
+    void 삭제한_비디오는_검색되지_않는다() {
+        index.index(video(1L, "축구 하이라이트", "", "스포츠"));
+        index.refresh();
+        index.delete(1L);
+        index.refresh();
+
+        assertThat(index.search("축구", 0, 10).total()).isZero();
+    }
+
+    @Test
+    void 같은_비디오를_다시_색인하면_교체된다() {
+        index.index(video(1L, "축구 하이라이트", "", "스포츠"));
+        index.index(video(1L, "야구 하이라이트", "", "스포츠"));
+        index.refresh();
+
+        assertThat(index.search("축구", 0, 10).total()).isZero();
+        assertThat(index.search("야구", 0, 10).videoSeqs()).containsExactly(1L);
+    }
+
+    @Test
+    void 페이지_단위로_나눠_조회하고_같은_점수는_최신순이다() {
+        for (long seq = 1; seq <= 25; seq++) {
+            index.index(video(seq, "음악 모음", "", "채널"));
+        }
+        index.refresh();
+
+        VideoSearchIndex.SearchHits second = index.search("음악", 10, 10);
+
+        assertThat(second.total()).isEqualTo(25);
+        assertThat(second.videoSeqs()).containsExactly(15L, 14L, 13L, 12L, 11L, 10L, 9L, 8L, 7L, 6L);
+    }
+
+    @Test
+    void 커밋_정보는_다시_열어도_남아_있다() throws IOException {
+        index.index(video(1L, "축구", "", "스포츠"));
+        index.commit(Map.of("indexedUntil", "2025-01-01T00:00"));
+        index.close();
+
+        index = new VideoSearchIndex(indexDirectory, 64);
+
+        assertThat(index.getCommitData()).containsEntry("indexedUntil", "2025-01-01T00:00");
+        assertThat(index.count()).isEqualTo(1);
+    }
+
+    @Test
+    void 재생성이_끝나기_전에는_이전_색인이_보이고_취소하면_되돌린다() {
+        index.index(video(1L, "고양이 영상", "", "냥집사"));
+        index.refresh();
+
+        index.beginRebuild();
+        index.index(video(2L, "강아지 영상", "", "멍멍"));
+        index.refresh();
+
+        assertThat(index.search("고양이", 0, 10).videoSeqs()).containsExactly(1L);
+        assertThat(index.search("강아지", 0, 10).total()).isZero();
+
+        index.abortRebuild();
+        index.refresh();
+
+        assertThat(index.count()).isEqualTo(1);
+        assertThat(index.search("고양이", 0, 10).videoSeqs()).containsExactly(1L);
+    }
+
+    @Test
+    void 재생성_중에_닫으면_시작_시점_색인이_남는다() throws IOException {
+        index.index(video(1L, "축구", "", "스포츠"));
+        index.commit(Map.of("indexedUntil", "2025-01-01T00:00"));
+        index.beginRebuild();
+        index.index(video(2L, "야구", "", "스포츠"));
+        index.close();
+
+        index = new VideoSearchIndex(indexDirectory, 64);
+        index.refresh();
+
+        assertThat(index.getCommitData()).containsEntry("indexedUntil", "2025-01-01T00:00");
+        assertThat(index.count()).isEqualTo(1);
+        assertThat(index.search("야구", 0, 10).total()).isZero();
+    }
+
+    @Test
+    void 재생성을_마치면_새_색인이_보인다() {
+        index.index(video(1L, "축구", "", "스포츠"));
+        index.refresh();
+
+        index.beginRebuild();
+        index.index(video(2L, "야구", "", "스포츠"));
+        index.finishRebuild(Map.of("indexedUntil", "2025-01-02T00:00"));
+
+        assertThat(index.search("축구", 0, 10).total()).isZero();
+        assertThat(index.search("야구", 0, 10).videoSeqs()).containsExactly(2L);
+        assertThat(index.getCommitData()).containsEntry("indexedUntil", "2025-01-02T00:00");
+    }
+
+    /**
+     * 검색 지연 측정 (./gradlew benchmark)
+     * 공개 비디오 100만 건을 색인한 뒤 1~2 단어 검색의 지연 분포를 봅니다.
+     */
+    @Tag("benchmark")
+    @Test
+    void 검색_지연_100만건() {
+        int videoCount = 1_000_000;
+        Random random = new Random(42);
+
+        long indexStart = System.nanoTime();
+        for (long seq = 1; seq <= videoCount; seq++) {
+            index.index(video(seq, sentence(random, 4), sentence(random, 20), sentence(random, 1)));
+        }
+        index.commit(Map.of());
+        index.refresh();
+        double indexSeconds = (System.nanoTime() - indexStart) / 1_000_000_000.0;
+
+        String[] queries = new String[1_000];
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = sentence(random, 1 + random.nextInt(2));
+        }
+        for (int i = 0; i < 200; i++) {
+            index.search(queries[i], 0, 10);  // 워밍업
+        }
+
+        long[] latencies = new long[queries.length];
+        long totalHits = 0;
+        for (int i = 0; i < queries.length; i++) {
+            int page = random.nextInt(5);
+            long start = System.nanoTime();
+            totalHits += index.search(queries[i], page * 10, 10).total();
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+
+        assertThat(index.count()).isEqualTo(videoCount);
+        log.info(String.format("[search] %,d videos indexed in %.1fs (%.0f docs/s)",
+                videoCount, indexSeconds, videoCount / indexSeconds));
+        log.info(String.format("[search] %d queries, avg hits %,d : p50=%.2fms p95=%.2fms p99=%.2fms max=%.2fms",
+                queries.length, totalHits / queries.length,
+                millis(latencies, 0.50), millis(latencies, 0.95), millis(latencies, 0.99),
+                latencies[latencies.length - 1] / 1_000_000.0));
+    }
+
+    private static VideoResponse video(Long videoSeq, String title, String content, String memberName) {
+        return VideoResponse.builder()
+                .videoSeq(videoSeq)
+                .title(title)
+                .content(content)
+                .memberName(memberName)
+                .publishYn(true)
+                .regAt(BASE_TIME.plusMinutes(videoSeq))
+                .build();
+    }
+
+    private static final List<String> WORDS = List.of(
+            "고양이", "강아지", "요리", "여행", "음악", "게임", "축구", "야구", "브이로그", "리뷰",
+            "캠핑", "등산", "바다", "한강", "서울", "부산", "제주도", "김치찌개", "라면", "커피",
+            "카페", "공부", "코딩", "자바", "스프링", "영화", "드라마", "예능", "뉴스", "날씨",
+            "자동차", "자전거", "운동", "헬스", "요가", "피아노", "기타", "노래", "춤", "그림",
+            "사진", "카메라", "스마트폰", "노트북", "언박싱", "하이라이트", "먹방", "일상", "주말", "아침");
+
+    private static String sentence(Random random, int words) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sentence.append(' ');
+            }
+            sentence.append(WORDS.get(random.nextInt(WORDS.size())));
+        }
+        return sentence.toString();
+    }
+
+    private static double millis(long[] sortedNanos, double percentile) {
+        return sortedNanos[(int) Math.ceil(percentile * sortedNanos.length) - 1] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,114 @@
+package io.goorm.youtube.service;
+
+import io.goorm.youtube.domain.Member;
+import io.goorm.youtube.domain.Video;
+import io.goorm.youtube.dto.video.VideoResponse;
+import io.goorm.youtube.repository.MemberRepository;
+import io.goorm.youtube.repository.VideoRepository;
+import io.goorm.youtube.security.MemberPrincipal;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @IsVideoOwner 메소드의 쿼리 수 고정 테스트
+ * 권한 검사 쿼리 1회와 서비스 메소드의 적재 쿼리 1회(작성자 join fetch) 외에 비디오/회원 조회가 발생하지 않는지 확인합니다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class VideoServiceQueryCountTest {
+
+    @Autowired
+    private VideoService videoService;
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Member owner;
+    private Member other;
+    private Long videoSeq;
+
+    @BeforeEach
+    void setUp() {
+        owner = memberRepository.save(Member.createMember(
+                "owner-" + System.nanoTime(), "pw", "owner", null, null));
+        other = memberRepository.save(Member.createMember(
+                "other-" + System.nanoTime(), "pw", "other", null, null));
+        videoSeq = videoRepository.save(Video.createVideo(
+                "/upload/videos/test.mp4", "/upload/thumbnails/test.png", owner, "title", "content"))
+                .getVideoSeq();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void getVideoDetail_소유권확인과_적재_쿼리만_실행() {
+        loginAs(owner);
+
+        VideoResponse response = videoService.getVideoDetail(videoSeq);
+
+        assertThat(response.getMemberName()).isEqualTo("owner");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void updatePublishYn_소유권확인_후_UPDATE만_실행() {
+        loginAs(owner);
+
+        videoService.updatePublishYn(videoSeq);
+
+        // select(권한 검사) 1회, select(적재) 1회, update 1회
+        // (커밋 후 메인 목록/검색 색인/자동완성은 이벤트의 엔티티로 반영하므로 추가 조회 없음)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(4);  // (video + member join fetch) x 2
+    }
+
+    @Test
+    void deleteVideo_소유권확인_후_UPDATE와_삭제예약만_실행() {
+        loginAs(owner);
+
+        videoService.deleteVideo(videoSeq);
+
+        // 권한 검사 + 적재 + 참조 해제 조회(IN) + 파일 삭제 예약 INSERT 2건 + UPDATE
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(6);
+    }
+
+    @Test
+    void 소유자가_아니면_쿼리_1회_후_거부() {
+        loginAs(other);
+
+        assertThatThrownBy(() -> videoService.updatePublishYn(videoSeq))
+                .isInstanceOf(AccessDeniedException.class);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private void loginAs(Member member) {
+        MemberPrincipal principal = MemberPrincipal.of(member);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                principal, null, AuthorityUtils.createAuthorityList(member.getRole().name())));
+    }
+}
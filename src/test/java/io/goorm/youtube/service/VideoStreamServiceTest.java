@@ -0,0 +1,140 @@
+package io.goorm.youtube.service;
+
+import io.goorm.youtube.file.FileUploadStrategy;
+import io.goorm.youtube.repository.VideoRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * VideoStreamService Range 처리 테스트 - 100 bytes 파일, 최대 청크 64 bytes
+ */
+class VideoStreamServiceTest {
+
+    private static final Long VIDEO_SEQ = 1L;
+    private static final String VIDEO_PATH = "/upload/videos/a.mp4";
+
+    private final byte[] content = new byte[100];
+    private final FileUploadStrategy fileUploadStrategy = mock(FileUploadStrategy.class);
+    private VideoStreamService videoStreamService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+
+        VideoRepository videoRepository = mock(VideoRepository.class);
+        when(videoRepository.findPublicVideoPath(VIDEO_SEQ)).thenReturn(Optional.of(VIDEO_PATH));
+        when(fileUploadStrategy.getFileSize(VIDEO_PATH)).thenReturn((long) content.length);
+        doAnswer(invocation -> {
+            long position = invocation.getArgument(1);
+            long count = invocation.getArgument(2);
+            WritableByteChannel target = invocation.getArgument(3);
+            target.write(ByteBuffer.wrap(content, (int) position, (int) count));
+            return null;
+        }).when(fileUploadStrategy).transferTo(anyString(), anyLong(), anyLong(), any());
+
+        videoStreamService = new VideoStreamService(videoRepository, fileUploadStrategy, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(videoStreamService, "maxChunkSize", 64L);
+    }
+
+    @Test
+    void 접미사_Range_는_끝에서부터_전송한다() throws IOException {
+        MockHttpServletResponse response = stream("GET", "bytes=-10");
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes 90-99/100");
+        assertThat(response.getContentAsByteArray()).isEqualTo(slice(90, 100));
+    }
+
+    @Test
+    void 끝이_열린_Range_는_최대_청크_크기로_자른다() throws IOException {
+        MockHttpServletResponse response = stream("GET", "bytes=20-");
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes 20-83/100");
+        assertThat(response.getContentLengthLong()).isEqualTo(64);
+        assertThat(response.getContentAsByteArray()).isEqualTo(slice(20, 84));
+    }
+
+    @Test
+    void 파일_범위_밖이거나_잘못된_Range_는_416() throws IOException {
+        for (String range : new String[]{"bytes=100-200", "bytes=abc", "items=0-10"}) {
+            MockHttpServletResponse response = stream("GET", range);
+
+            assertThat(response.getStatus()).as(range).isEqualTo(416);
+            assertThat(response.getHeader("Content-Range")).as(range).isEqualTo("bytes */100");
+            assertThat(response.getContentAsByteArray()).as(range).isEmpty();
+        }
+    }
+
+    @Test
+    void 복수_Range_는_multipart_byteranges_로_응답한다() throws IOException {
+        MockHttpServletResponse response = stream("GET", "bytes=0-9,150-160,20-29");
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentType()).startsWith("multipart/byteranges; boundary=");
+        String body = new String(response.getContentAsByteArray(), StandardCharsets.ISO_8859_1);
+        assertThat(body).contains("Content-Range: bytes 0-9/100", "Content-Range: bytes 20-29/100")
+                .doesNotContain("bytes 150");
+        assertThat(response.getContentLengthLong()).isEqualTo(response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void HEAD_는_같은_헤더를_본문_없이_응답한다() throws IOException {
+        MockHttpServletResponse response = stream("HEAD", "bytes=0-9");
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes 0-9/100");
+        assertThat(response.getContentLengthLong()).isEqualTo(10);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        verify(fileUploadStrategy, never()).transferTo(anyString(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void Range_없는_요청은_최대_청크_크기를_넘으면_앞부분만_전송한다() throws IOException {
+        MockHttpServletResponse capped = stream("GET", null);
+
+        assertThat(capped.getStatus()).isEqualTo(206);
+        assertThat(capped.getHeader("Content-Range")).isEqualTo("bytes 0-63/100");
+        assertThat(capped.getContentAsByteArray()).isEqualTo(slice(0, 64));
+
+        ReflectionTestUtils.setField(videoStreamService, "maxChunkSize", 100L);
+        MockHttpServletResponse full = stream("GET", null);
+
+        assertThat(full.getStatus()).isEqualTo(200);
+        assertThat(full.getHeader("Accept-Ranges")).isEqualTo("bytes");
+        assertThat(full.getContentAsByteArray()).isEqualTo(content);
+    }
+
+    private MockHttpServletResponse stream(String method, String range) throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        videoStreamService.stream(VIDEO_SEQ, range, new MockHttpServletRequest(method, "/api/movies/1/stream"), response);
+        return response;
+    }
+
+    private byte[] slice(int from, int to) {
+        return Arrays.copyOfRange(content, from, to);
+    }
+}